@@ -1,12 +1,18 @@
 package com.budgetops.backend.aws.controller;
 
-import com.budgetops.backend.aws.entity.AwsResource;
+import com.budgetops.backend.aws.dto.AwsResourceResponse;
+import com.budgetops.backend.aws.service.AwsInventorySyncService;
 import com.budgetops.backend.aws.service.AwsResourceQueryService;
+import com.budgetops.backend.inventory.dto.InventorySyncJobResponse;
+import com.budgetops.backend.inventory.dto.ResourcePageResponse;
+import com.budgetops.backend.inventory.paging.ResourcePageRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.net.URI;
 
 @RestController
 @RequestMapping("/api/aws")
@@ -14,24 +20,72 @@ import java.util.List;
 public class AwsResourceController {
 
     private final AwsResourceQueryService service;
+    private final AwsInventorySyncService syncService;
 
-    // 특정 계정의 모든 리소스
+    // 특정 계정의 리소스 (커서 페이지, 다음 페이지는 응답의 nextCursor를 cursor로 전달)
     @GetMapping("/accounts/{accountId}/resources")
-    public ResponseEntity<List<AwsResource>> byAccount(@PathVariable Long accountId) {
-        return ResponseEntity.ok(service.findByAccount(accountId));
+    public ResponseEntity<ResourcePageResponse<AwsResourceResponse>> byAccount(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ResourcePageRequest page = pageRequest(sort, direction, cursor, limit);
+        return ResponseEntity.ok(ResourcePageResponse.from(
+                service.findByAccount(accountId, resourceType, region, status, page)));
     }
 
-    // 리소스 타입별 조회
+    // 인벤토리 동기화 작업 등록 후 202 + jobId, 진행 상황은 /api/inventory/jobs/{jobId}로 조회
+    @PostMapping("/accounts/{accountId}/resources/refresh")
+    public ResponseEntity<InventorySyncJobResponse> refresh(@PathVariable Long accountId) {
+        InventorySyncJobResponse job = syncService.requestRefresh(accountId);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/inventory/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    // 가장 최근 동기화 작업
+    @GetMapping("/accounts/{accountId}/resources/refresh")
+    public ResponseEntity<InventorySyncJobResponse> latestRefresh(@PathVariable Long accountId) {
+        return ResponseEntity.of(syncService.latestJob(accountId));
+    }
+
+    // 리소스 타입별 조회 (전체 계정, 커서 페이지)
     @GetMapping("/resources")
-    public ResponseEntity<List<AwsResource>> byType(@RequestParam String resourceType) {
-        return ResponseEntity.ok(service.findByType(resourceType));
+    public ResponseEntity<ResourcePageResponse<AwsResourceResponse>> byType(
+            @RequestParam String resourceType,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ResourcePageRequest page = pageRequest(sort, direction, cursor, limit);
+        return ResponseEntity.ok(ResourcePageResponse.from(service.findByType(resourceType, region, status, page)));
     }
 
     // 계정 + 타입 조회
     @GetMapping("/accounts/{accountId}/resources/{resourceType}")
-    public ResponseEntity<List<AwsResource>> byAccountAndType(@PathVariable Long accountId, @PathVariable String resourceType) {
-        return ResponseEntity.ok(service.findByAccountAndType(accountId, resourceType));
+    public ResponseEntity<ResourcePageResponse<AwsResourceResponse>> byAccountAndType(
+            @PathVariable Long accountId,
+            @PathVariable String resourceType,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ResourcePageRequest page = pageRequest(sort, direction, cursor, limit);
+        return ResponseEntity.ok(ResourcePageResponse.from(
+                service.findByAccount(accountId, resourceType, null, null, page)));
     }
-}
-
 
+    private static ResourcePageRequest pageRequest(String sort, String direction, String cursor, Integer limit) {
+        try {
+            return ResourcePageRequest.of(sort, direction, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.budgetops.backend.aws.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+@Builder
+public class AwsResourceResponse {
+    Long id;
+    Long accountId;
+    String resourceId;
+    String resourceType;
+    String resourceName;
+    String region;
+    String status;
+    String description;
+    Map<String, String> tags;
+}
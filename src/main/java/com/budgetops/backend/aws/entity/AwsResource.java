@@ -1,10 +1,19 @@
 package com.budgetops.backend.aws.entity;
 
+import com.budgetops.backend.common.support.TagMapConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Map;
+
 @Entity
-@Table(name = "aws_resources")
+// 목록 키셋 페이지용 (필터 컬럼, 정렬 컬럼, id) 인덱스
+@Table(name = "aws_resources", indexes = {
+        @Index(name = "idx_aws_resources_account_type_id", columnList = "aws_account_id, resourceType, id"),
+        @Index(name = "idx_aws_resources_type_id", columnList = "resourceType, id"),
+        @Index(name = "idx_aws_resources_account_name_id", columnList = "aws_account_id, resourceName, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,6 +42,17 @@ public class AwsResource {
     @Column
     private String description;
 
+    // 리소스 태그 (JSON)
+    @Convert(converter = TagMapConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private Map<String, String> tags;
+
+    // 마지막으로 확인된 인벤토리 스캔 세대 (스캔 완료 후 이보다 오래된 행은 삭제)
+    @Column
+    private Long syncGeneration;
+
+    // 응답 직렬화 시 지연 로딩 프록시(계정 자격증명 포함)를 건드리지 않도록 제외
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "aws_account_id")
     private AwsAccount awsAccount;
@@ -0,0 +1,65 @@
+package com.budgetops.backend.aws.repository;
+
+import com.budgetops.backend.aws.dto.AwsResourceResponse;
+import com.budgetops.backend.common.support.TagMapConverter;
+import com.budgetops.backend.inventory.paging.ResourcePage;
+import com.budgetops.backend.inventory.paging.ResourcePageRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * aws_resources 목록 조회 (키셋 페이지, 응답 컬럼만 읽는 DTO 프로젝션)
+ * 엔티티와 계정(awsAccount)을 올리지 않고, 인덱스 (aws_account_id, resource_type, id) / (resource_type, id)
+ * / (aws_account_id, resource_name, id)로 페이지를 넘긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AwsResourcePageRepository {
+
+    private static final String SELECT = "SELECT id, aws_account_id, resource_id, resource_type, resource_name, "
+            + "region, status, description, tags FROM aws_resources";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 계정·타입·리전·상태 필터 (null이면 조건 없음)
+     */
+    public ResourcePage<AwsResourceResponse> find(Long accountId, String resourceType, String region, String status,
+                                                  ResourcePageRequest page) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (accountId != null) {
+            conditions.add("aws_account_id = :accountId");
+            params.addValue("accountId", accountId);
+        }
+        if (resourceType != null) {
+            conditions.add("resource_type = :resourceType");
+            params.addValue("resourceType", resourceType);
+        }
+        if (region != null) {
+            conditions.add("region = :region");
+            params.addValue("region", region);
+        }
+        if (status != null) {
+            conditions.add("status = :status");
+            params.addValue("status", status);
+        }
+
+        return page.fetch(namedJdbcTemplate, SELECT, conditions, params, (rs, rowNum) -> AwsResourceResponse.builder()
+                .id(rs.getLong("id"))
+                .accountId(rs.getLong("aws_account_id"))
+                .resourceId(rs.getString("resource_id"))
+                .resourceType(rs.getString("resource_type"))
+                .resourceName(rs.getString("resource_name"))
+                .region(rs.getString("region"))
+                .status(rs.getString("status"))
+                .description(rs.getString("description"))
+                .tags(TagMapConverter.fromJson(rs.getString("tags")))
+                .build());
+    }
+}
@@ -2,13 +2,23 @@ package com.budgetops.backend.aws.repository;
 
 import com.budgetops.backend.aws.entity.AwsResource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AwsResourceRepository extends JpaRepository<AwsResource, Long> {
-    List<AwsResource> findByAwsAccountId(Long awsAccountId);
-    List<AwsResource> findByResourceType(String resourceType);
-    List<AwsResource> findByAwsAccountIdAndResourceType(Long awsAccountId, String resourceType);
+    List<AwsResource> findByAwsAccountIdAndResourceTypeAndResourceIdIn(Long awsAccountId, String resourceType,
+                                                                        Collection<String> resourceIds);
+
+    // 스캔 완료 후 이번 세대에 확인되지 않은 리소스 정리
+    @Modifying
+    @Query("delete from AwsResource r where r.awsAccount.id = :accountId and r.resourceType = :resourceType " +
+            "and (r.syncGeneration is null or r.syncGeneration < :generation)")
+    int deleteOlderThan(@Param("accountId") Long accountId, @Param("resourceType") String resourceType,
+                        @Param("generation") long generation);
 }
@@ -22,7 +22,9 @@ public class AwsAccountService {
     @Value("${app.aws.validate:true}")
     private boolean validate;
 
-    @Transactional
+    /**
+     * 자격증명 검증(STS 호출)은 트랜잭션 밖에서 하고, 저장만 리포지토리 트랜잭션으로 한다.
+     */
     public AwsAccount createWithVerify(AwsAccountCreateRequest req) {
         accountRepo.findByAccessKeyId(req.getAccessKeyId()).ifPresent(a -> {
             throw new IllegalArgumentException("이미 등록된 accessKeyId 입니다.");
@@ -9,7 +9,6 @@ import com.budgetops.backend.notification.service.SlackNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -31,6 +30,7 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 /**
  * AWS EC2 리소스 사용량 임계치 초과 시 알림 발송 서비스
+ * EC2/CloudWatch 호출이 길어 트랜잭션을 열지 않는다. 계정 조회는 리포지토리 호출 단위로 끝난다.
  */
 @Slf4j
 @Service
@@ -46,7 +46,6 @@ public class AwsEc2AlertService {
     /**
      * 모든 활성 AWS 계정의 EC2 인스턴스에 대해 임계치 확인 및 알림 발송
      */
-    @Transactional(readOnly = true)
     public List<AwsEc2Alert> checkAllAccounts() {
         List<AwsAccount> activeAccounts = accountRepository.findByActiveTrue();
         log.info("Checking thresholds for {} active AWS account(s)", activeAccounts.size());
@@ -69,7 +68,6 @@ public class AwsEc2AlertService {
     /**
      * 특정 AWS 계정의 EC2 인스턴스에 대해 임계치 확인 및 알림 발송
      */
-    @Transactional(readOnly = true)
     public List<AwsEc2Alert> checkAccount(Long accountId) {
         AwsAccount account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "AWS 계정을 찾을 수 없습니다."));
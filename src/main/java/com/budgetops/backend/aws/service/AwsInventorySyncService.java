@@ -0,0 +1,243 @@
+package com.budgetops.backend.aws.service;
+
+import com.budgetops.backend.aws.entity.AwsAccount;
+import com.budgetops.backend.aws.entity.AwsResource;
+import com.budgetops.backend.aws.repository.AwsAccountRepository;
+import com.budgetops.backend.aws.repository.AwsResourceRepository;
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.inventory.dto.InventorySyncJobResponse;
+import com.budgetops.backend.inventory.entity.InventoryScanCheckpoint;
+import com.budgetops.backend.inventory.service.InventoryScanCheckpoints;
+import com.budgetops.backend.inventory.service.InventorySyncHandler;
+import com.budgetops.backend.inventory.service.InventorySyncJobService;
+import com.budgetops.backend.inventory.service.InventorySyncProgress;
+import com.budgetops.backend.inventory.service.InventorySyncTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Ec2Exception;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.Reservation;
+import software.amazon.awssdk.services.ec2.model.Tag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * AWS 리소스 인벤토리(aws_resources) 동기화
+ * 기본 리전의 EC2 인스턴스를 페이지 단위로 조회해 반영하고, 스캔이 끝나면 확인되지 않은 ec2 행을 지운다.
+ * 실행은 인벤토리 동기화 작업으로만 한다.
+ */
+@Slf4j
+@Service
+public class AwsInventorySyncService implements InventorySyncHandler {
+
+    static final String EC2_RESOURCE_TYPE = "ec2";
+    private static final int PAGE_SIZE = 1000;
+
+    private final AwsAccountRepository accountRepository;
+    private final AwsResourceRepository resourceRepository;
+    private final InventorySyncJobService jobService;
+    private final InventoryScanCheckpoints checkpoints;
+    private final TransactionTemplate transactionTemplate;
+
+    public AwsInventorySyncService(AwsAccountRepository accountRepository,
+                                   AwsResourceRepository resourceRepository,
+                                   InventorySyncJobService jobService,
+                                   InventoryScanCheckpoints checkpoints,
+                                   PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.resourceRepository = resourceRepository;
+        this.jobService = jobService;
+        this.checkpoints = checkpoints;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public InventorySyncJobResponse requestRefresh(Long accountId) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new ResponseStatusException(NOT_FOUND, "AWS 계정을 찾을 수 없습니다.");
+        }
+        return jobService.submit(CloudProvider.AWS, accountId, true, task(accountId, true));
+    }
+
+    @Override
+    public CloudProvider provider() {
+        return CloudProvider.AWS;
+    }
+
+    @Override
+    public InventorySyncTask task(Long accountId, boolean fullSync) {
+        return progress -> sync(accountId, progress);
+    }
+
+    public Optional<InventorySyncJobResponse> latestJob(Long accountId) {
+        return jobService.latest(CloudProvider.AWS, accountId);
+    }
+
+    /**
+     * 동기화 본문. 반영한 리소스 수를 반환한다.
+     * 페이지마다 반영과 체크포인트(nextToken)를 한 트랜잭션으로 커밋하므로, 중단되면 다음 실행이 이어서 조회한다.
+     */
+    public int sync(Long accountId, InventorySyncProgress progress) {
+        AwsAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "AWS 계정을 찾을 수 없습니다."));
+        if (!Boolean.TRUE.equals(account.getActive())) {
+            throw new IllegalStateException("비활성화된 계정입니다.");
+        }
+        String region = account.getDefaultRegion() != null ? account.getDefaultRegion() : "us-east-1";
+        List<String> streams = List.of(EC2_RESOURCE_TYPE + ":" + region);
+
+        // nextToken은 같은 리전·페이지 크기의 조회에서만 이어 쓸 수 있다
+        String fingerprint = InventoryScanCheckpoints.fingerprint(EC2_RESOURCE_TYPE, region, String.valueOf(PAGE_SIZE));
+
+        // 세대는 스캔 시작 시각으로 정한다 (이어서 조회해도 같은 세대로 기록)
+        InventoryScanCheckpoint checkpoint = checkpoints.resumable(CloudProvider.AWS, accountId, streams, fingerprint)
+                .orElseGet(() -> checkpoints.start(CloudProvider.AWS, accountId, streams, fingerprint,
+                        System.currentTimeMillis(), null))
+                .get(0);
+        long generation = checkpoint.getGeneration();
+        if (checkpoint.getPagesProcessed() > 0) {
+            progress.resumed(checkpoint.getPagesProcessed(), checkpoint.getResourcesProcessed());
+            log.info("Resuming AWS inventory scan for account {} from checkpoint ({} page(s) already applied)",
+                    accountId, checkpoint.getPagesProcessed());
+        }
+
+        int applied = 0;
+        if (!checkpoint.isCompleted()) {
+            try (Ec2Client ec2Client = createEc2Client(account, region)) {
+                String nextToken = checkpoint.getPageToken();
+                boolean more = true;
+                while (more) {
+                    DescribeInstancesResponse page;
+                    try {
+                        page = ec2Client.describeInstances(DescribeInstancesRequest.builder()
+                                .maxResults(PAGE_SIZE)
+                                .nextToken(nextToken)
+                                .build());
+                    } catch (Ec2Exception e) {
+                        if (nextToken == null || e.statusCode() != 400) {
+                            throw e;
+                        }
+                        // 저장된 토큰이 만료되었으면 처음부터 다시 조회한다 (페이지 반영은 멱등)
+                        log.info("Checkpointed EC2 page token for account {} was rejected, rescanning", accountId);
+                        checkpoints.rewind(checkpoint.getId());
+                        nextToken = null;
+                        continue;
+                    }
+                    List<AwsResource> resources = new ArrayList<>();
+                    for (Reservation reservation : page.reservations()) {
+                        for (Instance instance : reservation.instances()) {
+                            resources.add(toResource(instance, region));
+                        }
+                    }
+                    String pageToken = page.nextToken();
+                    transactionTemplate.executeWithoutResult(status -> {
+                        upsertPage(accountId, resources, generation);
+                        checkpoints.advance(checkpoint.getId(), pageToken, resources.size());
+                    });
+                    applied += resources.size();
+                    progress.page(resources.size());
+                    nextToken = pageToken;
+                    more = nextToken != null && !nextToken.isEmpty();
+                }
+            } catch (Ec2Exception e) {
+                throw new IllegalStateException("EC2 인스턴스 조회 실패: " + e.awsErrorDetails().errorMessage(), e);
+            }
+        }
+
+        // 모든 페이지를 반영한 뒤에만 이번 세대에 확인되지 않은 인스턴스를 정리한다
+        Integer removed = transactionTemplate.execute(status -> {
+            int deleted = resourceRepository.deleteOlderThan(accountId, EC2_RESOURCE_TYPE, generation);
+            checkpoints.clear(CloudProvider.AWS, accountId);
+            return deleted;
+        });
+        log.info("AWS inventory sync for account {} ({}): {} instance(s), {} removed",
+                accountId, region, applied, removed);
+        return applied;
+    }
+
+    /**
+     * 한 페이지 반영: 기존 행은 갱신, 새 인스턴스는 추가하고 모두 이번 세대로 표시한다 (같은 페이지를 다시 써도 결과가 같다).
+     */
+    private void upsertPage(Long accountId, List<AwsResource> resources, long generation) {
+        if (resources.isEmpty()) {
+            return;
+        }
+        Map<String, AwsResource> existing = new HashMap<>();
+        List<String> resourceIds = resources.stream().map(AwsResource::getResourceId).toList();
+        for (AwsResource resource : resourceRepository.findByAwsAccountIdAndResourceTypeAndResourceIdIn(
+                accountId, EC2_RESOURCE_TYPE, resourceIds)) {
+            existing.put(resource.getResourceId(), resource);
+        }
+        AwsAccount account = accountRepository.getReferenceById(accountId);
+        List<AwsResource> toSave = new ArrayList<>();
+        for (AwsResource incoming : resources) {
+            AwsResource current = existing.get(incoming.getResourceId());
+            if (current == null) {
+                incoming.setAwsAccount(account);
+                incoming.setSyncGeneration(generation);
+                toSave.add(incoming);
+            } else {
+                current.setResourceName(incoming.getResourceName());
+                current.setRegion(incoming.getRegion());
+                current.setStatus(incoming.getStatus());
+                current.setDescription(incoming.getDescription());
+                current.setTags(incoming.getTags());
+                current.setSyncGeneration(generation);
+            }
+        }
+        resourceRepository.saveAll(toSave);
+    }
+
+    private AwsResource toResource(Instance instance, String region) {
+        String name = instance.tags().stream()
+                .filter(tag -> "Name".equals(tag.key()))
+                .map(Tag::value)
+                .findFirst()
+                .orElse(instance.instanceId());
+        return AwsResource.builder()
+                .resourceId(instance.instanceId())
+                .resourceType(EC2_RESOURCE_TYPE)
+                .resourceName(name)
+                .region(instance.placement() != null ? instance.placement().availabilityZone() : region)
+                .status(instance.state() != null ? instance.state().nameAsString() : null)
+                .description(instance.instanceTypeAsString())
+                .tags(tagsOf(instance.tags()))
+                .build();
+    }
+
+    private static Map<String, String> tagsOf(List<Tag> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        Map<String, String> result = new HashMap<>();
+        for (Tag tag : tags) {
+            result.put(tag.key(), tag.value());
+        }
+        return result;
+    }
+
+    private Ec2Client createEc2Client(AwsAccount account, String region) {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(
+                account.getAccessKeyId(),
+                account.getSecretKeyEnc() // 암호화된 값이 자동으로 복호화됨
+        );
+        return Ec2Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .build();
+    }
+}
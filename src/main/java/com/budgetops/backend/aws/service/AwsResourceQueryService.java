@@ -1,32 +1,25 @@
 package com.budgetops.backend.aws.service;
 
-import com.budgetops.backend.aws.entity.AwsResource;
-import com.budgetops.backend.aws.repository.AwsResourceRepository;
+import com.budgetops.backend.aws.dto.AwsResourceResponse;
+import com.budgetops.backend.aws.repository.AwsResourcePageRepository;
+import com.budgetops.backend.inventory.paging.ResourcePage;
+import com.budgetops.backend.inventory.paging.ResourcePageRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class AwsResourceQueryService {
-    private final AwsResourceRepository resourceRepository;
-
-    @Transactional(readOnly = true)
-    public List<AwsResource> findByAccount(Long accountId) {
-        return resourceRepository.findByAwsAccountId(accountId);
-    }
+    private final AwsResourcePageRepository pageRepository;
 
-    @Transactional(readOnly = true)
-    public List<AwsResource> findByType(String resourceType) {
-        return resourceRepository.findByResourceType(resourceType);
+    public ResourcePage<AwsResourceResponse> findByAccount(Long accountId, String resourceType, String region,
+                                                           String status, ResourcePageRequest page) {
+        return pageRepository.find(accountId, resourceType, region, status, page);
     }
 
-    @Transactional(readOnly = true)
-    public List<AwsResource> findByAccountAndType(Long accountId, String resourceType) {
-        return resourceRepository.findByAwsAccountIdAndResourceType(accountId, resourceType);
+    // 전체 계정 대상이라 타입 조건은 필수 (페이지 단위로만 읽는다)
+    public ResourcePage<AwsResourceResponse> findByType(String resourceType, String region, String status,
+                                                        ResourcePageRequest page) {
+        return pageRepository.find(null, resourceType, region, status, page);
     }
 }
-
-
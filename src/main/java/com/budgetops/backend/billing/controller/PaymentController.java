@@ -10,7 +10,6 @@ import com.budgetops.backend.billing.entity.Billing;
 import com.budgetops.backend.billing.entity.Payment;
 import com.budgetops.backend.billing.entity.Member;
 import com.budgetops.backend.billing.enums.TokenPackage;
-import com.budgetops.backend.billing.exception.BillingNotFoundException;
 import com.budgetops.backend.billing.exception.MemberNotFoundException;
 import com.budgetops.backend.billing.exception.PaymentNotFoundException;
 import com.budgetops.backend.billing.repository.MemberRepository;
@@ -147,18 +146,14 @@ public class PaymentController {
         // 요청 검증
         request.validate();
 
-        // 결제 검증
+        // 결제 검증 (트랜잭션 밖에서 외부 호출)
         paymentService.verifyPayment(request.getImpUid());
 
         // 패키지 정보 조회
         TokenPackage tokenPackage = TokenPackage.fromId(request.getPackageId());
 
         // Billing 정보 조회 및 토큰 추가
-        Billing billing = billingService.getBillingByMember(member)
-                .orElseThrow(BillingNotFoundException::new);
-
-        billing.addTokens(tokenPackage.getTotalTokens());
-        billingService.saveBilling(billing);
+        Billing billing = billingService.addTokens(member, tokenPackage.getTotalTokens());
 
         TokenPurchaseResponse response = TokenPurchaseResponse.builder()
                 .transactionId("TXN-" + System.currentTimeMillis())
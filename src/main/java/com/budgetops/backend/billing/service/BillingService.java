@@ -85,6 +85,16 @@ public class BillingService {
         return billingRepository.save(billing);
     }
 
+    /**
+     * 토큰 적립 (결제 검증이 끝난 뒤 조회·증가·저장을 한 트랜잭션으로)
+     */
+    public Billing addTokens(Member member, int tokens) {
+        Billing billing = billingRepository.findByMember(member)
+                .orElseThrow(() -> new BillingNotFoundException(member.getId()));
+        billing.addTokens(tokens);
+        return billing;
+    }
+
     /**
      * 빌링 정보 저장
      */
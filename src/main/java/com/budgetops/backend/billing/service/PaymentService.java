@@ -19,7 +19,6 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class PaymentService {
 
@@ -29,6 +28,7 @@ public class PaymentService {
     /**
      * 결제 검증 (Iamport API 호출)
      * 개발 환경에서는 Mock impUid는 검증을 건너뜁니다.
+     * 외부 HTTP 호출이라 트랜잭션 없이 실행하고, 저장은 검증이 끝난 뒤 짧은 트랜잭션으로 한다.
      */
     public void verifyPayment(String impUid) {
         // Mock 결제 처리 (개발용)
@@ -61,6 +61,7 @@ public class PaymentService {
     /**
      * 결제 정보 저장/업데이트
      */
+    @Transactional
     public Payment savePayment(String impUid, Member member) {
         Optional<Payment> existingPayment = paymentRepository.findByMember(member);
 
@@ -110,6 +111,7 @@ public class PaymentService {
     /**
      * 결제 정보 삭제
      */
+    @Transactional
     public void deletePayment(Member member) {
         Optional<Payment> payment = paymentRepository.findByMember(member);
         payment.ifPresent(p -> {
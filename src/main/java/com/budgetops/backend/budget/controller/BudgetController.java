@@ -0,0 +1,57 @@
+package com.budgetops.backend.budget.controller;
+
+import com.budgetops.backend.budget.dto.BudgetRequest;
+import com.budgetops.backend.budget.dto.BudgetResponse;
+import com.budgetops.backend.budget.service.BudgetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workspaces/{workspaceId}/budgets")
+@RequiredArgsConstructor
+public class BudgetController {
+
+    private final BudgetService budgetService;
+
+    // 예산 목록 (월 누계/월말 예상/상태 포함)
+    @GetMapping
+    public ResponseEntity<List<BudgetResponse>> list(@PathVariable Long workspaceId) {
+        return ResponseEntity.ok(budgetService.list(workspaceId));
+    }
+
+    @GetMapping("/{budgetId}")
+    public ResponseEntity<BudgetResponse> get(@PathVariable Long workspaceId, @PathVariable Long budgetId) {
+        return ResponseEntity.ok(budgetService.get(workspaceId, budgetId));
+    }
+
+    @PostMapping
+    public ResponseEntity<BudgetResponse> create(@PathVariable Long workspaceId, @RequestBody BudgetRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(budgetService.create(workspaceId, request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PutMapping("/{budgetId}")
+    public ResponseEntity<BudgetResponse> update(@PathVariable Long workspaceId,
+                                                 @PathVariable Long budgetId,
+                                                 @RequestBody BudgetRequest request) {
+        try {
+            return ResponseEntity.ok(budgetService.update(workspaceId, budgetId, request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/{budgetId}")
+    public ResponseEntity<Void> delete(@PathVariable Long workspaceId, @PathVariable Long budgetId) {
+        budgetService.delete(workspaceId, budgetId);
+        return ResponseEntity.noContent().build();
+    }
+}
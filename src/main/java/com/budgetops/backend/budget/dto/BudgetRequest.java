@@ -0,0 +1,23 @@
+package com.budgetops.backend.budget.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+public class BudgetRequest {
+    private String name;
+    private BigDecimal monthlyLimit;
+    private Integer alertThresholdPercent;   // 기본 80
+    private List<Account> accounts;
+
+    @Getter
+    @Setter
+    public static class Account {
+        private String provider;   // "AWS" | "GCP"
+        private Long accountId;
+    }
+}
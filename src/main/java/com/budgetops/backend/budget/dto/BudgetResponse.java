@@ -0,0 +1,65 @@
+package com.budgetops.backend.budget.dto;
+
+import com.budgetops.backend.budget.entity.Budget;
+import com.budgetops.backend.budget.entity.BudgetAccountRef;
+import com.budgetops.backend.budget.entity.BudgetForecast;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+@Getter
+@Builder
+public class BudgetResponse {
+    private Long id;
+    private Long workspaceId;
+    private String name;
+    private BigDecimal monthlyLimit;
+    private Integer alertThresholdPercent;
+    private List<Account> accounts;
+
+    private LocalDate month;
+    private BigDecimal monthToDate;
+    private BigDecimal burnRate;            // 평활된 일 비용
+    private BigDecimal projectedMonthEnd;
+    private String status;
+    private Instant forecastUpdatedAt;
+
+    @Getter
+    @Builder
+    public static class Account {
+        private String provider;
+        private Long accountId;
+    }
+
+    public static BudgetResponse from(Budget budget) {
+        BudgetForecast forecast = budget.getForecast();
+        return BudgetResponse.builder()
+                .id(budget.getId())
+                .workspaceId(budget.getWorkspace().getId())
+                .name(budget.getName())
+                .monthlyLimit(budget.getMonthlyLimit())
+                .alertThresholdPercent(budget.getAlertThresholdPercent())
+                .accounts(budget.getAccounts().stream()
+                        .sorted(Comparator.comparing(BudgetAccountRef::getProvider)
+                                .thenComparing(BudgetAccountRef::getAccountId))
+                        .map(a -> Account.builder().provider(a.getProvider().name()).accountId(a.getAccountId()).build())
+                        .toList())
+                .month(forecast.getMonth())
+                .monthToDate(scaled(forecast.getMonthToDate()))
+                .burnRate(forecast.getLevel() == null ? null : scaled(BigDecimal.valueOf(forecast.getLevel())))
+                .projectedMonthEnd(scaled(forecast.getProjectedMonthEnd()))
+                .status(forecast.getStatus() == null ? null : forecast.getStatus().name())
+                .forecastUpdatedAt(forecast.getUpdatedAt())
+                .build();
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        return value == null ? null : value.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,76 @@
+package com.budgetops.backend.budget.entity;
+
+import com.budgetops.backend.billing.entity.Workspace;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 워크스페이스 월 예산
+ * 계정 하나만 지정하면 계정 단위 예산, 여러 개면 워크스페이스 합산 예산으로 쓴다.
+ */
+@Entity
+@Table(name = "budgets", indexes = @Index(name = "idx_budgets_workspace", columnList = "workspace_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Budget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workspace_id", nullable = false)
+    private Workspace workspace;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal monthlyLimit;
+
+    /** 경고 임계치 (한도 대비 %) */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer alertThresholdPercent = 80;
+
+    @ElementCollection
+    @CollectionTable(name = "budget_accounts",
+            joinColumns = @JoinColumn(name = "budget_id"),
+            indexes = @Index(name = "idx_budget_accounts_account", columnList = "accountId"))
+    @BatchSize(size = 50)
+    @Builder.Default
+    private Set<BudgetAccountRef> accounts = new HashSet<>();
+
+    @Embedded
+    @Builder.Default
+    private BudgetForecast forecast = new BudgetForecast();
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 예측 상태 반환 (모든 컬럼이 null이면 JPA가 null로 로딩하므로 보정)
+     */
+    public BudgetForecast getForecast() {
+        if (forecast == null) {
+            forecast = new BudgetForecast();
+        }
+        return forecast;
+    }
+}
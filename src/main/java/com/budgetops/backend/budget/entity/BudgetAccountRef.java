@@ -0,0 +1,29 @@
+package com.budgetops.backend.budget.entity;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예산에 포함되는 클라우드 계정 (AWS/GCP 계정 id)
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BudgetAccountRef {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CloudProvider provider;
+
+    @Column(nullable = false)
+    private Long accountId;
+}
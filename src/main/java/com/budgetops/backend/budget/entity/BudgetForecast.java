@@ -0,0 +1,56 @@
+package com.budgetops.backend.budget.entity;
+
+import com.budgetops.backend.budget.enums.BudgetStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 예산 시계열의 예측 상태 (Holt 지수평활)
+ * 이력 전체가 아닌 level/trend와 진행 중인 하루치 합계만 유지한다.
+ */
+@Embeddable
+@Getter
+@Setter
+public class BudgetForecast {
+
+    /** 평활된 일 비용 (burn rate) */
+    @Column(name = "forecast_level")
+    private Double level;
+
+    /** 일 비용 추세 */
+    @Column(name = "forecast_trend")
+    private Double trend;
+
+    /** 아직 평활에 반영하지 않은 최신 사용일 */
+    @Column(name = "forecast_current_date")
+    private LocalDate currentDate;
+
+    /** currentDate의 누적 비용 (하루가 지나면 level/trend에 반영) */
+    @Column(name = "forecast_current_cost")
+    private Double currentCost;
+
+    /** 누계 대상 월 (1일) */
+    @Column(name = "forecast_month")
+    private LocalDate month;
+
+    @Column(name = "month_to_date", precision = 19, scale = 6)
+    private BigDecimal monthToDate;
+
+    @Column(name = "projected_month_end", precision = 19, scale = 6)
+    private BigDecimal projectedMonthEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "forecast_status", length = 16)
+    private BudgetStatus status;
+
+    @Column(name = "forecast_updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.budgetops.backend.budget.enums;
+
+/**
+ * 예산 상태 (월말 예측 기준)
+ */
+public enum BudgetStatus {
+    /** 아직 비용 데이터가 없음 */
+    NO_DATA,
+    /** 예측치가 임계치 미만 */
+    ON_TRACK,
+    /** 예측치가 임계치(%) 이상 */
+    AT_RISK,
+    /** 예측치가 한도 이상 */
+    FORECAST_OVER,
+    /** 이번 달 누계가 이미 한도 초과 */
+    EXCEEDED
+}
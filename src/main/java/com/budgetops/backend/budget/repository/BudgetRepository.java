@@ -0,0 +1,36 @@
+package com.budgetops.backend.budget.repository;
+
+import com.budgetops.backend.budget.entity.Budget;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+    @EntityGraph(attributePaths = "accounts")
+    List<Budget> findByWorkspaceIdOrderByIdAsc(Long workspaceId);
+
+    @EntityGraph(attributePaths = "accounts")
+    Optional<Budget> findByIdAndWorkspaceId(Long id, Long workspaceId);
+
+    // 적재 이벤트가 갱신할 예산을 id 순으로 행 잠금 (동시 적재끼리 예측 상태를 덮어쓰지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Budget b where b.id in " +
+            "(select b2.id from Budget b2 join b2.accounts a where a.accountId in :accountIds) order by b.id")
+    List<Budget> lockByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    // 예측 누계가 지난달에 머물러 있는 예산 (월 전환)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Budget b where b.forecast.month < :month order by b.id")
+    List<Budget> lockByForecastMonthBefore(@Param("month") LocalDate month);
+}
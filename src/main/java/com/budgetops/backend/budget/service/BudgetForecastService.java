@@ -0,0 +1,116 @@
+package com.budgetops.backend.budget.service;
+
+import com.budgetops.backend.budget.entity.Budget;
+import com.budgetops.backend.budget.entity.BudgetAccountRef;
+import com.budgetops.backend.budget.repository.BudgetRepository;
+import com.budgetops.backend.budget.support.HoltForecaster;
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.event.CostFactChange;
+import com.budgetops.backend.cost.event.CostIngestedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 비용 적재 후 예산 예측 상태를 한 번에 갱신
+ * 변경분을 계정별/일자별로 모은 뒤, 해당 계정을 포함한 예산만 한 쿼리로 불러와 일자 순으로 반영한다.
+ */
+@Slf4j
+@Service
+public class BudgetForecastService {
+
+    private final BudgetRepository budgetRepository;
+    @Getter
+    private final HoltForecaster forecaster;
+
+    public BudgetForecastService(BudgetRepository budgetRepository,
+                                 @Value("${app.budget.forecast.alpha:0.3}") double alpha,
+                                 @Value("${app.budget.forecast.beta:0.1}") double beta) {
+        this.budgetRepository = budgetRepository;
+        this.forecaster = new HoltForecaster(alpha, beta);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCostIngested(CostIngestedEvent event) {
+        Map<AccountKey, Map<LocalDate, Double>> deltasByAccount = new HashMap<>();
+        for (CostFactChange change : event.changes()) {
+            double delta = change.delta();
+            if (delta == 0.0) {
+                continue;
+            }
+            deltasByAccount
+                    .computeIfAbsent(new AccountKey(change.provider(), change.accountId()), k -> new HashMap<>())
+                    .merge(change.usageDate(), delta, Double::sum);
+        }
+        if (deltasByAccount.isEmpty()) {
+            return;
+        }
+
+        List<Long> accountIds = deltasByAccount.keySet().stream().map(AccountKey::accountId).distinct().toList();
+        // 같은 예산을 갱신하는 다른 적재 이벤트와 겹치지 않도록 행 잠금 후 읽고 쓴다
+        List<Budget> budgets = budgetRepository.lockByAccountIdIn(accountIds);
+        Instant now = Instant.now();
+        int updated = 0;
+        for (Budget budget : budgets) {
+            TreeMap<LocalDate, Double> daily = new TreeMap<>();
+            for (BudgetAccountRef account : budget.getAccounts()) {
+                Map<LocalDate, Double> deltas = deltasByAccount.get(new AccountKey(account.getProvider(), account.getAccountId()));
+                if (deltas != null) {
+                    deltas.forEach((date, delta) -> daily.merge(date, delta, Double::sum));
+                }
+            }
+            if (daily.isEmpty()) {
+                continue;
+            }
+            daily.forEach((date, delta) -> forecaster.observe(budget.getForecast(), date, delta));
+            project(budget);
+            budget.getForecast().setUpdatedAt(now);
+            updated++;
+        }
+        log.info("Budget forecasts refreshed: {} budgets for {} accounts", updated, deltasByAccount.size());
+    }
+
+    /**
+     * 매월 1일, 새 달 비용이 들어오기 전에도 누계를 0으로 넘기고 월말 예상치를 다시 계산한다.
+     */
+    @Scheduled(cron = "${app.budget.forecast.rollover-cron:0 5 0 1 * *}")
+    @Transactional
+    public void rollOverMonth() {
+        LocalDate today = LocalDate.now();
+        Instant now = Instant.now();
+        int rolled = 0;
+        for (Budget budget : budgetRepository.lockByForecastMonthBefore(today.withDayOfMonth(1))) {
+            if (forecaster.rollOver(budget.getForecast(), today)) {
+                project(budget);
+                budget.getForecast().setUpdatedAt(now);
+                rolled++;
+            }
+        }
+        if (rolled > 0) {
+            log.info("Budget forecasts rolled over to {}: {} budgets", today.withDayOfMonth(1), rolled);
+        }
+    }
+
+    /**
+     * 현재 상태로 월말 예상치와 예산 상태를 다시 계산한다.
+     */
+    public void project(Budget budget) {
+        forecaster.project(budget.getForecast(), budget.getMonthlyLimit(), budget.getAlertThresholdPercent());
+    }
+
+    private record AccountKey(CloudProvider provider, Long accountId) {
+    }
+}
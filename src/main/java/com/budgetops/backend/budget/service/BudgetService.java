@@ -0,0 +1,133 @@
+package com.budgetops.backend.budget.service;
+
+import com.budgetops.backend.billing.entity.Workspace;
+import com.budgetops.backend.billing.repository.WorkspaceRepository;
+import com.budgetops.backend.budget.dto.BudgetRequest;
+import com.budgetops.backend.budget.dto.BudgetResponse;
+import com.budgetops.backend.budget.entity.Budget;
+import com.budgetops.backend.budget.entity.BudgetAccountRef;
+import com.budgetops.backend.budget.entity.BudgetForecast;
+import com.budgetops.backend.budget.repository.BudgetRepository;
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.entity.CostRollup;
+import com.budgetops.backend.cost.enums.RollupGranularity;
+import com.budgetops.backend.cost.service.CostRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class BudgetService {
+
+    private final BudgetRepository budgetRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final CostRollupService rollupService;
+    private final BudgetForecastService forecastService;
+
+    @Transactional(readOnly = true)
+    public List<BudgetResponse> list(Long workspaceId) {
+        requireWorkspace(workspaceId);
+        return budgetRepository.findByWorkspaceIdOrderByIdAsc(workspaceId).stream()
+                .map(BudgetResponse::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public BudgetResponse get(Long workspaceId, Long budgetId) {
+        return BudgetResponse.from(requireBudget(workspaceId, budgetId));
+    }
+
+    @Transactional
+    public BudgetResponse create(Long workspaceId, BudgetRequest request) {
+        Workspace workspace = requireWorkspace(workspaceId);
+        Budget budget = Budget.builder()
+                .workspace(workspace)
+                .build();
+        apply(budget, request);
+        return BudgetResponse.from(budgetRepository.save(budget));
+    }
+
+    @Transactional
+    public BudgetResponse update(Long workspaceId, Long budgetId, BudgetRequest request) {
+        Budget budget = requireBudget(workspaceId, budgetId);
+        apply(budget, request);
+        return BudgetResponse.from(budget);
+    }
+
+    @Transactional
+    public void delete(Long workspaceId, Long budgetId) {
+        budgetRepository.delete(requireBudget(workspaceId, budgetId));
+    }
+
+    private void apply(Budget budget, BudgetRequest request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("예산 이름은 필수입니다.");
+        }
+        if (request.getMonthlyLimit() == null || request.getMonthlyLimit().signum() <= 0) {
+            throw new IllegalArgumentException("월 예산은 0보다 커야 합니다.");
+        }
+        if (request.getAccounts() == null || request.getAccounts().isEmpty()) {
+            throw new IllegalArgumentException("예산에 포함할 계정을 하나 이상 지정해야 합니다.");
+        }
+        int threshold = request.getAlertThresholdPercent() == null ? 80 : request.getAlertThresholdPercent();
+        if (threshold <= 0 || threshold > 100) {
+            throw new IllegalArgumentException("경고 임계치는 1~100 사이여야 합니다.");
+        }
+
+        Set<BudgetAccountRef> accounts = new HashSet<>();
+        for (BudgetRequest.Account account : request.getAccounts()) {
+            if (account.getAccountId() == null) {
+                throw new IllegalArgumentException("accountId는 필수입니다.");
+            }
+            accounts.add(new BudgetAccountRef(CloudProvider.from(account.getProvider()), account.getAccountId()));
+        }
+
+        boolean accountsChanged = !accounts.equals(budget.getAccounts());
+        budget.setName(request.getName().trim());
+        budget.setMonthlyLimit(request.getMonthlyLimit());
+        budget.setAlertThresholdPercent(threshold);
+        if (accountsChanged) {
+            budget.getAccounts().clear();
+            budget.getAccounts().addAll(accounts);
+            seedForecast(budget);
+        }
+        forecastService.project(budget);
+    }
+
+    /**
+     * 계정 구성이 바뀌면 이번 달 월 롤업으로 누계/평균 일 비용을 다시 잡는다.
+     */
+    private void seedForecast(Budget budget) {
+        LocalDate today = LocalDate.now();
+        BigDecimal monthToDate = BigDecimal.ZERO;
+        for (BudgetAccountRef account : budget.getAccounts()) {
+            monthToDate = monthToDate.add(rollupService
+                    .find(RollupGranularity.MONTH, today, account.getProvider(), account.getAccountId(), null, null)
+                    .map(CostRollup::getCost)
+                    .orElse(BigDecimal.ZERO));
+        }
+        BudgetForecast forecast = budget.getForecast();
+        forecastService.getForecaster().seed(forecast, today, monthToDate);
+        forecast.setUpdatedAt(Instant.now());
+    }
+
+    private Workspace requireWorkspace(Long workspaceId) {
+        return workspaceRepository.findById(workspaceId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "워크스페이스를 찾을 수 없습니다."));
+    }
+
+    private Budget requireBudget(Long workspaceId, Long budgetId) {
+        return budgetRepository.findByIdAndWorkspaceId(budgetId, workspaceId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "예산을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,154 @@
+package com.budgetops.backend.budget.support;
+
+import com.budgetops.backend.budget.entity.BudgetForecast;
+import com.budgetops.backend.budget.enums.BudgetStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 일 비용에 대한 Holt(이중 지수평활) 예측기
+ * 시계열마다 level/trend와 진행 중인 하루치만 보관하며, 관측 하나당 O(1)로 갱신한다.
+ * 하루가 끝났는지는 더 늦은 사용일의 비용이 들어오는 시점으로 판단한다.
+ */
+public class HoltForecaster {
+
+    /** 데이터가 빈 날은 0으로 채우되, 오래 끊긴 계정이 긴 루프를 돌지 않도록 제한 */
+    private static final int MAX_GAP_DAYS = 31;
+
+    private final double alpha;
+    private final double beta;
+
+    public HoltForecaster(double alpha, double beta) {
+        if (alpha <= 0 || alpha > 1 || beta < 0 || beta > 1) {
+            throw new IllegalArgumentException("alpha는 (0,1], beta는 [0,1] 범위여야 합니다.");
+        }
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    /**
+     * 사용일의 비용 변경분을 반영한다.
+     * 이미 평활에 반영된 과거 날짜의 재산정은 누계에만 반영하고 level/trend는 다시 맞추지 않는다.
+     */
+    public void observe(BudgetForecast state, LocalDate usageDate, double delta) {
+        LocalDate current = state.getCurrentDate();
+        if (current == null) {
+            state.setCurrentDate(usageDate);
+            state.setCurrentCost(delta);
+        } else if (usageDate.equals(current)) {
+            state.setCurrentCost(valueOf(state.getCurrentCost()) + delta);
+        } else if (usageDate.isAfter(current)) {
+            smooth(state, valueOf(state.getCurrentCost()));
+            long gap = Math.min(ChronoUnit.DAYS.between(current, usageDate) - 1, MAX_GAP_DAYS);
+            for (long i = 0; i < gap; i++) {
+                smooth(state, 0.0);
+            }
+            state.setCurrentDate(usageDate);
+            state.setCurrentCost(delta);
+        }
+
+        LocalDate month = usageDate.withDayOfMonth(1);
+        if (state.getMonth() == null || month.isAfter(state.getMonth())) {
+            state.setMonth(month);
+            state.setMonthToDate(BigDecimal.valueOf(delta));
+        } else if (month.equals(state.getMonth())) {
+            state.setMonthToDate(state.getMonthToDate().add(BigDecimal.valueOf(delta)));
+        }
+    }
+
+    /**
+     * 새 달이 시작됐는데 그 달 비용이 아직 들어오지 않았으면 누계를 0으로 넘긴다 (level/trend는 유지).
+     * 넘기지 않으면 다음 적재 전까지 지난달 누계로 이번 달 상태를 계산하게 된다.
+     *
+     * @return 새 달로 넘겼으면 true
+     */
+    public boolean rollOver(BudgetForecast state, LocalDate today) {
+        LocalDate month = today.withDayOfMonth(1);
+        if (state.getMonth() == null || !month.isAfter(state.getMonth())) {
+            return false;
+        }
+        state.setMonth(month);
+        state.setMonthToDate(BigDecimal.ZERO);
+        return true;
+    }
+
+    /**
+     * 예산 생성 시점처럼 이력이 없을 때 이번 달 누계와 일 평균으로 초기화한다.
+     * 누계는 어제까지로 보고 그 날을 기준일로 둔다. 기준일이 없으면 예측이 지난 날짜까지 다시 더해 누계를 이중으로 센다.
+     * 기준일의 비용은 일 평균으로 두어, 다음 날 비용이 들어와 그 날을 마감할 때 level이 그대로 유지되게 한다.
+     */
+    public void seed(BudgetForecast state, LocalDate today, BigDecimal monthToDate) {
+        LocalDate month = today.withDayOfMonth(1);
+        LocalDate coveredThrough = today.minusDays(1);
+        int elapsedDays = Math.max(today.getDayOfMonth() - 1, 1);
+        Double level = monthToDate.signum() > 0 ? monthToDate.doubleValue() / elapsedDays : null;
+        state.setMonth(month);
+        state.setMonthToDate(monthToDate);
+        state.setLevel(level);
+        state.setTrend(level != null ? 0.0 : null);
+        // 1일이면 이번 달에 지난 날이 없으므로 기준일 없이 한 달 전체를 예측한다
+        boolean hasElapsedDay = !coveredThrough.isBefore(month);
+        state.setCurrentDate(hasElapsedDay ? coveredThrough : null);
+        state.setCurrentCost(hasElapsedDay ? level : null);
+    }
+
+    /**
+     * 월말 예상 비용과 상태를 계산한다. (남은 날짜 수만큼만 도는 상수 시간 연산)
+     */
+    public void project(BudgetForecast state, BigDecimal monthlyLimit, int alertThresholdPercent) {
+        if (state.getMonth() == null || state.getMonthToDate() == null) {
+            state.setProjectedMonthEnd(null);
+            state.setStatus(BudgetStatus.NO_DATA);
+            return;
+        }
+
+        LocalDate monthEnd = state.getMonth().with(TemporalAdjusters.lastDayOfMonth());
+        LocalDate reference = state.getCurrentDate() != null && !state.getCurrentDate().isBefore(state.getMonth())
+                ? state.getCurrentDate()
+                : state.getMonth().minusDays(1);
+        long remaining = ChronoUnit.DAYS.between(reference, monthEnd);
+
+        double level = state.getLevel() != null ? state.getLevel() : valueOf(state.getCurrentCost());
+        double trend = state.getTrend() != null ? state.getTrend() : 0.0;
+        double future = 0.0;
+        for (long h = 1; h <= remaining; h++) {
+            future += Math.max(level + trend * h, 0.0);
+        }
+
+        BigDecimal projected = state.getMonthToDate().add(BigDecimal.valueOf(future)).setScale(6, RoundingMode.HALF_UP);
+        state.setProjectedMonthEnd(projected);
+        state.setStatus(statusOf(state.getMonthToDate(), projected, monthlyLimit, alertThresholdPercent));
+    }
+
+    private static BudgetStatus statusOf(BigDecimal monthToDate, BigDecimal projected,
+                                         BigDecimal limit, int alertThresholdPercent) {
+        if (monthToDate.compareTo(limit) >= 0) {
+            return BudgetStatus.EXCEEDED;
+        }
+        if (projected.compareTo(limit) >= 0) {
+            return BudgetStatus.FORECAST_OVER;
+        }
+        BigDecimal threshold = limit.multiply(BigDecimal.valueOf(alertThresholdPercent)).movePointLeft(2);
+        return projected.compareTo(threshold) >= 0 ? BudgetStatus.AT_RISK : BudgetStatus.ON_TRACK;
+    }
+
+    private void smooth(BudgetForecast state, double observed) {
+        if (state.getLevel() == null) {
+            state.setLevel(observed);
+            state.setTrend(0.0);
+            return;
+        }
+        double previousLevel = state.getLevel();
+        double level = alpha * observed + (1 - alpha) * (previousLevel + state.getTrend());
+        state.setLevel(level);
+        state.setTrend(beta * (level - previousLevel) + (1 - beta) * state.getTrend());
+    }
+
+    private static double valueOf(Double value) {
+        return value == null ? 0.0 : value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.budgetops.backend.common.enums;
+
+/**
+ * 연동 대상 클라우드 제공자
+ */
+public enum CloudProvider {
+    AWS,
+    GCP;
+
+    /**
+     * 대소문자 구분 없이 문자열로 CloudProvider 찾기
+     */
+    public static CloudProvider from(String value) {
+        for (CloudProvider provider : values()) {
+            if (provider.name().equalsIgnoreCase(value)) {
+                return provider;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 클라우드 제공자입니다: " + value);
+    }
+}
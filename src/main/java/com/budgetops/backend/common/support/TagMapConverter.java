@@ -0,0 +1,53 @@
+package com.budgetops.backend.common.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 리소스 태그/라벨(key → value)을 JSON 텍스트 컬럼으로 저장한다.
+ * 키 순서로 정렬해 쓰므로 같은 태그 집합은 항상 같은 문자열이 된다 (변경 비교에 사용).
+ */
+@Converter
+public class TagMapConverter implements AttributeConverter<Map<String, String>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<TreeMap<String, String>> TYPE = new TypeReference<>() { };
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, String> tags) {
+        return toJson(tags);
+    }
+
+    @Override
+    public Map<String, String> convertToEntityAttribute(String json) {
+        return fromJson(json);
+    }
+
+    public static String toJson(Map<String, String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(new TreeMap<>(tags));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("태그를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    public static Map<String, String> fromJson(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("태그 JSON을 읽을 수 없습니다.", e);
+        }
+    }
+}
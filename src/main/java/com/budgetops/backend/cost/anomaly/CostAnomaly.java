@@ -0,0 +1,23 @@
+package com.budgetops.backend.cost.anomaly;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+
+import java.time.LocalDate;
+
+/**
+ * 감지된 비용 이상치 (하루 단위)
+ *
+ * @param expected 같은 요일 기준 평활 평균
+ * @param score    (실제 - 기대) / 강건 편차
+ */
+public record CostAnomaly(
+        CloudProvider provider,
+        long accountId,
+        String service,
+        String region,
+        LocalDate usageDate,
+        double cost,
+        double expected,
+        double score
+) {
+}
@@ -0,0 +1,182 @@
+package com.budgetops.backend.cost.anomaly;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.support.LongIntHashMap;
+import com.budgetops.backend.cost.support.StringDictionary;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * (계정, 서비스, 리전) 시계열별 온라인 비용 이상치 감지기
+ *
+ * 시계열마다 요일(주기) 슬롯별 지수평활 평균과 평균 절대편차만 원시 배열에 보관한다.
+ * 하루치 비용은 더 늦은 날짜의 값이 들어올 때 확정되며, 확정 시점에 점수를 매기고 기준선을 갱신한다.
+ * 관측 하나당 객체를 만들지 않으며 (배열 증설과 이상치 보고 제외), 스레드 안전하지 않다.
+ */
+public final class CostAnomalyDetector {
+
+    /** MAD → 표준편차 환산 계수 */
+    private static final double MAD_SCALE = 1.4826;
+    private static final int SERVICE_BITS = 20;
+    private static final int REGION_BITS = 12;
+    private static final long NO_PERIOD = Long.MIN_VALUE;
+
+    private final int season;
+    private final double alpha;
+    private final double threshold;
+    private final int warmupPeriods;
+    private final double minDelta;
+
+    private final StringDictionary services = new StringDictionary();
+    private final StringDictionary regions = new StringDictionary();
+    private final LongIntHashMap seriesIndex = new LongIntHashMap(1024);
+
+    private long[] seriesKeys;
+    private long[] pendingPeriod;
+    private double[] pendingCost;
+    private int[] observations;
+    /** [series * season + slot], 초기값 NaN */
+    private double[] seasonalMean;
+    private double[] seasonalDeviation;
+    private int seriesCount;
+
+    /**
+     * @param season        주기 길이 (일 단위면 7)
+     * @param alpha         기준선 평활 계수
+     * @param threshold     이상치로 볼 점수
+     * @param warmupPeriods 알림 전 최소 관측 수
+     * @param minDelta      기대치 대비 최소 증가액 (소액 변동 무시)
+     */
+    public CostAnomalyDetector(int season, double alpha, double threshold, int warmupPeriods, double minDelta) {
+        if (season <= 0 || alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("season > 0, alpha는 (0,1] 범위여야 합니다.");
+        }
+        this.season = season;
+        this.alpha = alpha;
+        this.threshold = threshold;
+        this.warmupPeriods = warmupPeriods;
+        this.minDelta = minDelta;
+        allocate(1024);
+    }
+
+    /**
+     * 하루치 비용 변경분을 반영한다. 이전 날짜가 확정되며 이상치면 sink로 전달된다 (sink가 null이면 학습만).
+     */
+    public void observe(CloudProvider provider, long accountId, String service, String region,
+                        LocalDate usageDate, double delta, Consumer<CostAnomaly> sink) {
+        int series = seriesOf(provider, accountId, service, region);
+        long period = usageDate.toEpochDay();
+        long pending = pendingPeriod[series];
+
+        if (pending == NO_PERIOD) {
+            pendingPeriod[series] = period;
+            pendingCost[series] = delta;
+        } else if (period == pending) {
+            pendingCost[series] += delta;
+        } else if (period > pending) {
+            close(series, pending, pendingCost[series], sink);
+            // 데이터가 없던 날은 0원으로 학습 (최대 한 주기)
+            for (long gap = Math.max(pending + 1, period - season); gap < period; gap++) {
+                close(series, gap, 0.0, null);
+            }
+            pendingPeriod[series] = period;
+            pendingCost[series] = delta;
+        }
+        // 이미 확정된 날짜의 재산정은 기준선을 다시 맞추지 않는다.
+    }
+
+    public int seriesCount() {
+        return seriesCount;
+    }
+
+    private void close(int series, long period, double cost, Consumer<CostAnomaly> sink) {
+        int slot = series * season + (int) Math.floorMod(period, season);
+        double mean = seasonalMean[slot];
+        if (Double.isNaN(mean)) {
+            seasonalMean[slot] = cost;
+            seasonalDeviation[slot] = 0.0;
+            observations[series]++;
+            return;
+        }
+
+        double deviation = seasonalDeviation[slot];
+        double residual = cost - mean;
+        double scale = Math.max(MAD_SCALE * deviation, Math.max(minDelta, 0.05 * Math.abs(mean)));
+        double score = residual / scale;
+        boolean warm = observations[series] >= warmupPeriods;
+        if (sink != null && warm && score >= threshold && residual >= minDelta) {
+            sink.accept(describe(series, period, cost, mean, score));
+        }
+
+        // 학습 기간에는 슬롯 관측 수에 맞춰 빠르게 수렴시키고, 이후에는 이상치가 기준선을
+        // 과도하게 끌어올리지 않도록 잔차를 제한해 반영한다.
+        double rate = warm ? alpha : Math.max(alpha, 1.0 / (observations[series] / season + 1));
+        double applied = warm ? Math.max(-threshold * scale, Math.min(threshold * scale, residual)) : residual;
+        seasonalMean[slot] = mean + rate * applied;
+        seasonalDeviation[slot] = deviation + rate * (Math.abs(applied) - deviation);
+        observations[series]++;
+    }
+
+    private int seriesOf(CloudProvider provider, long accountId, String service, String region) {
+        int serviceCode = services.encode(service);
+        int regionCode = regions.encode(region);
+        if (serviceCode >>> SERVICE_BITS != 0 || regionCode >>> REGION_BITS != 0 || accountId >>> 31 != 0) {
+            throw new IllegalStateException("시계열 키 범위를 초과했습니다.");
+        }
+        long key = (accountId << 33)
+                | ((long) provider.ordinal() << 32)
+                | ((long) serviceCode << REGION_BITS)
+                | regionCode;
+
+        int series = seriesIndex.get(key);
+        if (series >= 0) {
+            return series;
+        }
+        series = seriesCount++;
+        if (series == seriesKeys.length) {
+            grow(series * 2);
+        }
+        seriesKeys[series] = key;
+        seriesIndex.put(key, series);
+        return series;
+    }
+
+    private CostAnomaly describe(int series, long period, double cost, double expected, double score) {
+        long key = seriesKeys[series];
+        return new CostAnomaly(
+                CloudProvider.values()[(int) ((key >>> 32) & 1)],
+                key >>> 33,
+                services.decode((int) ((key >>> REGION_BITS) & ((1 << SERVICE_BITS) - 1))),
+                regions.decode((int) (key & ((1 << REGION_BITS) - 1))),
+                LocalDate.ofEpochDay(period),
+                cost,
+                expected,
+                score
+        );
+    }
+
+    private void allocate(int capacity) {
+        seriesKeys = new long[capacity];
+        pendingPeriod = new long[capacity];
+        Arrays.fill(pendingPeriod, NO_PERIOD);
+        pendingCost = new double[capacity];
+        observations = new int[capacity];
+        seasonalMean = new double[capacity * season];
+        Arrays.fill(seasonalMean, Double.NaN);
+        seasonalDeviation = new double[capacity * season];
+    }
+
+    private void grow(int capacity) {
+        int old = seriesKeys.length;
+        seriesKeys = Arrays.copyOf(seriesKeys, capacity);
+        pendingPeriod = Arrays.copyOf(pendingPeriod, capacity);
+        Arrays.fill(pendingPeriod, old, capacity, NO_PERIOD);
+        pendingCost = Arrays.copyOf(pendingCost, capacity);
+        observations = Arrays.copyOf(observations, capacity);
+        seasonalMean = Arrays.copyOf(seasonalMean, capacity * season);
+        Arrays.fill(seasonalMean, old * season, capacity * season, Double.NaN);
+        seasonalDeviation = Arrays.copyOf(seasonalDeviation, capacity * season);
+    }
+}
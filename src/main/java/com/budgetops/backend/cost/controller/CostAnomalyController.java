@@ -0,0 +1,26 @@
+package com.budgetops.backend.cost.controller;
+
+import com.budgetops.backend.cost.anomaly.CostAnomaly;
+import com.budgetops.backend.cost.service.CostAnomalyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/costs")
+@RequiredArgsConstructor
+public class CostAnomalyController {
+
+    private final CostAnomalyService anomalyService;
+
+    // 최근 감지된 비용 이상치
+    @GetMapping("/anomalies")
+    public ResponseEntity<List<CostAnomaly>> recent(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(anomalyService.recent(Math.max(1, Math.min(limit, 500))));
+    }
+}
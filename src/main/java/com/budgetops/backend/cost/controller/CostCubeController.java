@@ -0,0 +1,93 @@
+package com.budgetops.backend.cost.controller;
+
+import com.budgetops.backend.cost.cube.CubeDimension;
+import com.budgetops.backend.cost.cube.CubeQuery;
+import com.budgetops.backend.cost.cube.CubeResult;
+import com.budgetops.backend.cost.cube.TimeBucket;
+import com.budgetops.backend.cost.dto.CostCubeQueryRequest;
+import com.budgetops.backend.cost.dto.CostCubeQueryResponse;
+import com.budgetops.backend.cost.service.CostCubeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/costs")
+@RequiredArgsConstructor
+public class CostCubeController {
+
+    // 조회 기간 상한 (기간 길이만큼 일자별 버킷 배열을 만든다)
+    private static final long MAX_RANGE_DAYS = 3 * 366;
+
+    private final CostCubeService cubeService;
+
+    // 대시보드 group-by / filter / 시간 버킷 조회
+    @PostMapping("/cube/query")
+    public ResponseEntity<CostCubeQueryResponse> query(@RequestBody CostCubeQueryRequest request) {
+        CubeResult result;
+        try {
+            result = cubeService.query(toQuery(request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        List<CostCubeQueryResponse.Row> rows = result.rows().stream()
+                .map(row -> {
+                    Map<String, String> dimensions = new LinkedHashMap<>();
+                    row.dimensions().forEach((dimension, value) -> dimensions.put(dimension.getKey(), value));
+                    return CostCubeQueryResponse.Row.builder()
+                            .bucketStart(row.bucketStart())
+                            .dimensions(dimensions)
+                            .cost(BigDecimal.valueOf(row.cost()).setScale(2, RoundingMode.HALF_UP))
+                            .build();
+                })
+                .toList();
+
+        return ResponseEntity.ok(CostCubeQueryResponse.builder()
+                .rows(rows)
+                .scannedSegments(result.scannedSegments())
+                .prunedSegments(result.prunedSegments())
+                .elapsedMicros(result.elapsedMicros())
+                .build());
+    }
+
+    private CubeQuery toQuery(CostCubeQueryRequest request) {
+        if (request.getFrom() != null && request.getTo() != null
+                && ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        Map<CubeDimension, Set<String>> filters = new EnumMap<>(CubeDimension.class);
+        if (request.getFilters() != null) {
+            request.getFilters().forEach((key, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    filters.put(CubeDimension.from(key), new HashSet<>(values));
+                }
+            });
+        }
+        List<CubeDimension> groupBy = request.getGroupBy() == null ? List.of()
+                : request.getGroupBy().stream().map(CubeDimension::from).distinct().toList();
+
+        return CubeQuery.builder()
+                .from(request.getFrom())
+                .to(request.getTo())
+                .filters(filters)
+                .groupBy(groupBy)
+                .bucket(TimeBucket.from(request.getBucket()))
+                .build();
+    }
+}
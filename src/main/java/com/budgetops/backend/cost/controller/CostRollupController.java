@@ -0,0 +1,91 @@
+package com.budgetops.backend.cost.controller;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.dto.CostRollupCheckResponse;
+import com.budgetops.backend.cost.dto.CostRollupResponse;
+import com.budgetops.backend.cost.entity.CostRollup;
+import com.budgetops.backend.cost.enums.RollupGranularity;
+import com.budgetops.backend.cost.service.CostRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/costs/rollups")
+@RequiredArgsConstructor
+public class CostRollupController {
+
+    private final CostRollupService rollupService;
+
+    // 월 합계 (month 생략 시 이번 달 누계)
+    @GetMapping("/monthly")
+    public ResponseEntity<CostRollupResponse> monthly(@RequestParam String provider,
+                                                      @RequestParam Long accountId,
+                                                      @RequestParam(required = false) YearMonth month,
+                                                      @RequestParam(required = false) String service,
+                                                      @RequestParam(required = false) String region) {
+        LocalDate date = (month == null ? YearMonth.now() : month).atDay(1);
+        return ResponseEntity.ok(lookup(RollupGranularity.MONTH, date, provider, accountId, service, region));
+    }
+
+    // 일/주/월 단일 버킷 조회
+    @GetMapping
+    public ResponseEntity<CostRollupResponse> get(@RequestParam String granularity,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                  @RequestParam String provider,
+                                                  @RequestParam Long accountId,
+                                                  @RequestParam(required = false) String service,
+                                                  @RequestParam(required = false) String region) {
+        RollupGranularity parsed;
+        try {
+            parsed = RollupGranularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 granularity 입니다: " + granularity);
+        }
+        return ResponseEntity.ok(lookup(parsed, date, provider, accountId, service, region));
+    }
+
+    // 구간 정합성 검사 (repair=true면 facts 기준으로 재계산)
+    @PostMapping("/check")
+    public ResponseEntity<CostRollupCheckResponse> check(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                         @RequestParam(defaultValue = "false") boolean repair) {
+        try {
+            return ResponseEntity.ok(rollupService.check(from, to, repair));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private CostRollupResponse lookup(RollupGranularity granularity, LocalDate date, String provider,
+                                      Long accountId, String service, String region) {
+        CloudProvider cloudProvider;
+        try {
+            cloudProvider = CloudProvider.from(provider);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return rollupService.find(granularity, date, cloudProvider, accountId, service, region)
+                .map(CostRollupResponse::from)
+                .orElseGet(() -> CostRollupResponse.builder()
+                        .granularity(granularity.name())
+                        .periodStart(granularity.periodStart(date))
+                        .provider(cloudProvider.name())
+                        .accountId(accountId)
+                        .service(service == null ? CostRollup.ALL : service)
+                        .region(region == null ? CostRollup.ALL : region)
+                        .cost(BigDecimal.ZERO)
+                        .build());
+    }
+}
@@ -0,0 +1,141 @@
+package com.budgetops.backend.cost.cube;
+
+import com.budgetops.backend.cost.support.LongDoubleHashMap;
+import com.budgetops.backend.cost.support.StringDictionary;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 인메모리 컬럼형 비용 큐브
+ * 행은 append-only 세그먼트에 쌓이고, 조회는 세그먼트 단위로 병렬 스캔한 뒤 병합한다.
+ * 재산정된 팩트는 (현재 - 이전) 차액 행으로 추가되므로 합계는 항상 최신 값과 같다.
+ */
+public class CostCube {
+
+    public static final int DEFAULT_SEGMENT_ROWS = 1 << 16;
+
+    private static final int DIMENSIONS = CubeDimension.values().length;
+    private static final double ZERO_EPSILON = 1e-9;
+
+    private final StringDictionary[] dictionaries = new StringDictionary[DIMENSIONS];
+    private final int segmentRows;
+    private final ForkJoinPool pool;
+    private final int[] scratchCodes = new int[DIMENSIONS];
+
+    private volatile CubeSegment[] segments = new CubeSegment[0];
+    private long rowCount;
+
+    public CostCube(int segmentRows, ForkJoinPool pool) {
+        this.segmentRows = segmentRows;
+        this.pool = pool;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            dictionaries[d] = new StringDictionary();
+        }
+    }
+
+    /**
+     * 행 추가 (values는 CubeDimension 순서: account, provider, service, region, tag)
+     */
+    public synchronized void append(LocalDate usageDate, String[] values, double cost) {
+        if (values.length != DIMENSIONS) {
+            throw new IllegalArgumentException("차원 값 개수가 올바르지 않습니다.");
+        }
+        for (int d = 0; d < DIMENSIONS; d++) {
+            scratchCodes[d] = dictionaries[d].encode(values[d] != null ? values[d] : "");
+        }
+        int day = (int) usageDate.toEpochDay();
+        CubeSegment[] current = segments;
+        if (current.length == 0 || !current[current.length - 1].append(day, scratchCodes, cost)) {
+            CubeSegment segment = new CubeSegment(segmentRows);
+            segment.append(day, scratchCodes, cost);
+            CubeSegment[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = segment;
+            segments = next;
+        }
+        rowCount++;
+    }
+
+    public synchronized long rowCount() {
+        return rowCount;
+    }
+
+    public CubeResult query(CubeQuery query) {
+        long started = System.nanoTime();
+
+        // 세그먼트 행 수 스냅샷을 먼저 잡고 나서 사전 크기를 읽는다
+        CubeSegment[] snapshot = segments;
+        int[] sizes = new int[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            sizes[i] = snapshot[i].size();
+        }
+        QueryPlan plan = QueryPlan.create(query, dictionaries);
+        if (plan.empty) {
+            return new CubeResult(List.of(), 0, snapshot.length, elapsedMicros(started));
+        }
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < snapshot.length; i++) {
+            if (sizes[i] > 0 && snapshot[i].mayMatch(plan)) {
+                candidates.add(i);
+            }
+        }
+
+        LongDoubleHashMap merged;
+        if (candidates.size() <= 1) {
+            merged = new LongDoubleHashMap();
+            for (int i : candidates) {
+                snapshot[i].scan(plan, sizes[i], merged);
+            }
+        } else {
+            merged = pool.submit(() -> candidates.parallelStream()
+                            .map(i -> {
+                                LongDoubleHashMap partial = new LongDoubleHashMap();
+                                snapshot[i].scan(plan, sizes[i], partial);
+                                return partial;
+                            })
+                            .reduce((a, b) -> {
+                                LongDoubleHashMap larger = a.size() >= b.size() ? a : b;
+                                larger.addAll(larger == a ? b : a);
+                                return larger;
+                            })
+                            .orElseGet(LongDoubleHashMap::new))
+                    .join();
+        }
+
+        List<CubeRow> rows = decode(plan, merged);
+        return new CubeResult(rows, candidates.size(), snapshot.length - candidates.size(), elapsedMicros(started));
+    }
+
+    private List<CubeRow> decode(QueryPlan plan, LongDoubleHashMap merged) {
+        List<CubeRow> rows = new ArrayList<>(merged.size());
+        merged.forEach((key, cost) -> {
+            if (Math.abs(cost) < ZERO_EPSILON) {
+                return;
+            }
+            Map<CubeDimension, String> dimensions = new EnumMap<>(CubeDimension.class);
+            long remaining = key;
+            for (int g = plan.groupDims.length - 1; g >= 0; g--) {
+                int code = (int) (remaining % plan.radix[g]);
+                remaining /= plan.radix[g];
+                int dim = plan.groupDims[g];
+                dimensions.put(CubeDimension.values()[dim], dictionaries[dim].decode(code));
+            }
+            rows.add(new CubeRow(plan.bucketStarts[(int) remaining], dimensions, cost));
+        });
+        rows.sort(Comparator
+                .comparing(CubeRow::bucketStart, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(CubeRow::cost, Comparator.reverseOrder()));
+        return rows;
+    }
+
+    private static long elapsedMicros(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000;
+    }
+}
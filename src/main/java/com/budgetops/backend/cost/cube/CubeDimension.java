@@ -0,0 +1,34 @@
+package com.budgetops.backend.cost.cube;
+
+/**
+ * 비용 큐브의 사전 인코딩 차원 (일자는 별도 컬럼으로 관리)
+ */
+public enum CubeDimension {
+    ACCOUNT("account"),
+    PROVIDER("provider"),
+    SERVICE("service"),
+    REGION("region"),
+    TAG("tag");
+
+    private final String key;
+
+    CubeDimension(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * API 요청의 차원 이름(account, service ...)으로 CubeDimension 찾기
+     */
+    public static CubeDimension from(String key) {
+        for (CubeDimension dimension : values()) {
+            if (dimension.key.equalsIgnoreCase(key) || dimension.name().equalsIgnoreCase(key)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 차원입니다: " + key);
+    }
+}
@@ -0,0 +1,29 @@
+package com.budgetops.backend.cost.cube;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 비용 큐브 조회 조건
+ * from/to는 모두 포함, filters는 차원별 허용 값 목록(AND), groupBy 순서대로 결과 키를 구성한다.
+ */
+@Getter
+@Builder
+public class CubeQuery {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    @Builder.Default
+    private final Map<CubeDimension, Set<String>> filters = Map.of();
+
+    @Builder.Default
+    private final List<CubeDimension> groupBy = List.of();
+
+    @Builder.Default
+    private final TimeBucket bucket = TimeBucket.NONE;
+}
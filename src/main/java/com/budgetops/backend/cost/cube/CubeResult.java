@@ -0,0 +1,14 @@
+package com.budgetops.backend.cost.cube;
+
+import java.util.List;
+
+/**
+ * 큐브 조회 결과 (스캔/가지치기한 세그먼트 수 포함)
+ */
+public record CubeResult(
+        List<CubeRow> rows,
+        int scannedSegments,
+        int prunedSegments,
+        long elapsedMicros
+) {
+}
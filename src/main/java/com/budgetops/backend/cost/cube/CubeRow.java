@@ -0,0 +1,14 @@
+package com.budgetops.backend.cost.cube;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 큐브 조회 결과 한 행 (버킷 시작일, 그룹 키, 비용 합계)
+ */
+public record CubeRow(
+        LocalDate bucketStart,
+        Map<CubeDimension, String> dimensions,
+        double cost
+) {
+}
@@ -0,0 +1,104 @@
+package com.budgetops.backend.cost.cube;
+
+import com.budgetops.backend.cost.support.LongDoubleHashMap;
+
+import java.util.Arrays;
+
+/**
+ * 고정 크기 컬럼 세그먼트
+ * 차원은 사전 코드 int 배열, 비용은 double 배열로 저장하고 컬럼별 min/max 존 맵을 유지한다.
+ * 쓰기는 단일 스레드(CostCube 락 안), 읽기는 size 스냅샷까지만 본다.
+ */
+final class CubeSegment {
+
+    private static final int DIMENSIONS = CubeDimension.values().length;
+
+    private final int capacity;
+    private final int[] days;
+    private final int[][] codes;
+    private final double[] costs;
+    private volatile int size;
+
+    // 존 맵 (size 갱신 전에 기록되므로 size 스냅샷 이하의 행은 항상 포함된다)
+    private int minDay = Integer.MAX_VALUE;
+    private int maxDay = Integer.MIN_VALUE;
+    private final int[] minCode = new int[DIMENSIONS];
+    private final int[] maxCode = new int[DIMENSIONS];
+
+    CubeSegment(int capacity) {
+        this.capacity = capacity;
+        this.days = new int[capacity];
+        this.codes = new int[DIMENSIONS][capacity];
+        this.costs = new double[capacity];
+        Arrays.fill(minCode, Integer.MAX_VALUE);
+        Arrays.fill(maxCode, Integer.MIN_VALUE);
+    }
+
+    boolean append(int day, int[] rowCodes, double cost) {
+        int row = size;
+        if (row == capacity) {
+            return false;
+        }
+        days[row] = day;
+        minDay = Math.min(minDay, day);
+        maxDay = Math.max(maxDay, day);
+        for (int d = 0; d < DIMENSIONS; d++) {
+            int code = rowCodes[d];
+            codes[d][row] = code;
+            minCode[d] = Math.min(minCode[d], code);
+            maxCode[d] = Math.max(maxCode[d], code);
+        }
+        costs[row] = cost;
+        size = row + 1;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 존 맵으로 세그먼트 전체를 건너뛸 수 있는지 판단
+     */
+    boolean mayMatch(QueryPlan plan) {
+        if (maxDay < plan.fromDay || minDay > plan.toDay) {
+            return false;
+        }
+        for (int d = 0; d < DIMENSIONS; d++) {
+            if (plan.hasFilter(d) && (plan.filterMaxCode[d] < minCode[d] || plan.filterMinCode[d] > maxCode[d])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void scan(QueryPlan plan, int rows, LongDoubleHashMap out) {
+        boolean[][] allowed = plan.allowed;
+        int[] groupDims = plan.groupDims;
+        long[] radix = plan.radix;
+        int fromDay = plan.fromDay;
+        int toDay = plan.toDay;
+
+        rowLoop:
+        for (int row = 0; row < rows; row++) {
+            int day = days[row];
+            if (day < fromDay || day > toDay) {
+                continue;
+            }
+            for (int d = 0; d < DIMENSIONS; d++) {
+                boolean[] filter = allowed[d];
+                if (filter != null) {
+                    int code = codes[d][row];
+                    if (code >= filter.length || !filter[code]) {
+                        continue rowLoop;
+                    }
+                }
+            }
+            long key = plan.bucketIndexOfDay[day - fromDay];
+            for (int g = 0; g < groupDims.length; g++) {
+                key = key * radix[g] + codes[groupDims[g]][row];
+            }
+            out.add(key, costs[row]);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.budgetops.backend.cost.cube;
+
+import com.budgetops.backend.cost.support.StringDictionary;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CubeQuery를 사전 코드 기반 실행 계획으로 변환한 것
+ * 필터는 코드별 boolean 배열, 그룹 키는 (버킷, 그룹 차원 코드...)의 혼합 진법 long 값으로 만든다.
+ */
+final class QueryPlan {
+
+    private static final int DIMENSIONS = CubeDimension.values().length;
+
+    final int fromDay;
+    final int toDay;
+    final boolean[][] allowed;     // [dimension][code], 필터가 없으면 null
+    final int[] filterMinCode;
+    final int[] filterMaxCode;
+    final int[] groupDims;
+    final long[] radix;
+    final int[] bucketIndexOfDay;  // (day - fromDay) → 버킷 인덱스
+    final LocalDate[] bucketStarts;
+    final boolean empty;
+
+    private QueryPlan(CubeQuery query, StringDictionary[] dictionaries) {
+        if (query.getFrom() == null || query.getTo() == null || query.getTo().isBefore(query.getFrom())) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        this.fromDay = (int) query.getFrom().toEpochDay();
+        this.toDay = (int) query.getTo().toEpochDay();
+
+        this.allowed = new boolean[DIMENSIONS][];
+        this.filterMinCode = new int[DIMENSIONS];
+        this.filterMaxCode = new int[DIMENSIONS];
+        boolean noMatch = false;
+        for (Map.Entry<CubeDimension, Set<String>> filter : query.getFilters().entrySet()) {
+            Set<String> values = filter.getValue();
+            if (values == null || values.isEmpty()) {
+                continue;
+            }
+            int dim = filter.getKey().ordinal();
+            StringDictionary dictionary = dictionaries[dim];
+            boolean[] codes = new boolean[Math.max(1, dictionary.size())];
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (String value : values) {
+                int code = dictionary.lookup(value);
+                if (code >= 0 && code < codes.length) {
+                    codes[code] = true;
+                    min = Math.min(min, code);
+                    max = Math.max(max, code);
+                }
+            }
+            if (min == Integer.MAX_VALUE) {
+                noMatch = true;
+            }
+            allowed[dim] = codes;
+            filterMinCode[dim] = min;
+            filterMaxCode[dim] = max;
+        }
+        this.empty = noMatch;
+
+        List<CubeDimension> groupBy = query.getGroupBy();
+        this.groupDims = new int[groupBy.size()];
+        this.radix = new long[groupBy.size()];
+
+        // 버킷 인덱스는 조회 기간의 일자별로 미리 계산해 둔다 (행마다 날짜 객체를 만들지 않도록)
+        TimeBucket bucket = query.getBucket();
+        int days = toDay - fromDay + 1;
+        this.bucketIndexOfDay = new int[days];
+        LocalDate[] starts = new LocalDate[days];
+        int bucketCount = 0;
+        LocalDate previousStart = null;
+        for (int i = 0; i < days; i++) {
+            LocalDate start = bucket.startOf(query.getFrom().plusDays(i));
+            if (bucketCount == 0 || (start != null && !start.equals(previousStart))) {
+                starts[bucketCount++] = start;
+                previousStart = start;
+            }
+            bucketIndexOfDay[i] = bucketCount - 1;
+        }
+        this.bucketStarts = Arrays.copyOf(starts, bucketCount);
+
+        long capacity = bucketCount;
+        for (int g = 0; g < groupBy.size(); g++) {
+            int dim = groupBy.get(g).ordinal();
+            groupDims[g] = dim;
+            radix[g] = Math.max(1, dictionaries[dim].size());
+            if (capacity > Long.MAX_VALUE / radix[g]) {
+                throw new IllegalArgumentException("그룹 차원 조합이 너무 큽니다. groupBy 항목을 줄여주세요.");
+            }
+            capacity *= radix[g];
+        }
+    }
+
+    /**
+     * 세그먼트 행 스냅샷을 잡은 뒤에 호출해야 한다 (스냅샷 행의 코드가 모두 사전 크기 안에 들도록).
+     */
+    static QueryPlan create(CubeQuery query, StringDictionary[] dictionaries) {
+        return new QueryPlan(query, dictionaries);
+    }
+
+    boolean hasFilter(int dim) {
+        return allowed[dim] != null;
+    }
+}
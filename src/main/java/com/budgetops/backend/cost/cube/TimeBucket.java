@@ -0,0 +1,38 @@
+package com.budgetops.backend.cost.cube;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 큐브 조회 시간 버킷 단위
+ */
+public enum TimeBucket {
+    NONE,
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * 일자가 속한 버킷의 시작일 (NONE이면 null)
+     */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case NONE -> null;
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public static TimeBucket from(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 시간 버킷입니다: " + value);
+        }
+    }
+}
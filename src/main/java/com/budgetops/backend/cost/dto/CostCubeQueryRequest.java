@@ -0,0 +1,18 @@
+package com.budgetops.backend.cost.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+public class CostCubeQueryRequest {
+    private LocalDate from;
+    private LocalDate to;
+    private Map<String, List<String>> filters;  // 예: {"service": ["Compute Engine"], "account": ["AWS:1", "GCP:2"]}
+    private List<String> groupBy;               // account, provider, service, region, tag
+    private String bucket;                      // none, day, week, month
+}
@@ -0,0 +1,26 @@
+package com.budgetops.backend.cost.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class CostCubeQueryResponse {
+    private List<Row> rows;
+    private int scannedSegments;
+    private int prunedSegments;
+    private long elapsedMicros;
+
+    @Getter
+    @Builder
+    public static class Row {
+        private LocalDate bucketStart;          // bucket=none이면 null
+        private Map<String, String> dimensions;
+        private BigDecimal cost;
+    }
+}
@@ -0,0 +1,16 @@
+package com.budgetops.backend.cost.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class CostRollupCheckResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private int checkedRows;
+    private int mismatchedRows;
+    private boolean repaired;
+}
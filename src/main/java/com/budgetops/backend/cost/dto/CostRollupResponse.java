@@ -0,0 +1,33 @@
+package com.budgetops.backend.cost.dto;
+
+import com.budgetops.backend.cost.entity.CostRollup;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class CostRollupResponse {
+    private String granularity;
+    private LocalDate periodStart;
+    private String provider;
+    private Long accountId;
+    private String service;
+    private String region;
+    private BigDecimal cost;
+
+    public static CostRollupResponse from(CostRollup rollup) {
+        return CostRollupResponse.builder()
+                .granularity(rollup.getGranularity().name())
+                .periodStart(rollup.getPeriodStart())
+                .provider(rollup.getProvider().name())
+                .accountId(rollup.getAccountId())
+                .service(rollup.getService())
+                .region(rollup.getRegion())
+                .cost(rollup.getCost().setScale(2, RoundingMode.HALF_UP))
+                .build();
+    }
+}
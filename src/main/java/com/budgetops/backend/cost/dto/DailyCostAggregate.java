@@ -0,0 +1,19 @@
+package com.budgetops.backend.cost.dto;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 태그를 합친 일별 비용 집계 (롤업 재계산용)
+ */
+public record DailyCostAggregate(
+        LocalDate usageDate,
+        CloudProvider provider,
+        Long accountId,
+        String service,
+        String region,
+        BigDecimal cost
+) {
+}
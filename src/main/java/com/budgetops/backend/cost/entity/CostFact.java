@@ -0,0 +1,60 @@
+package com.budgetops.backend.cost.entity;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 일 단위 비용 팩트 (일자 / 제공자 / 계정 / 서비스 / 리전 / 태그 별 합계)
+ * 같은 키로 다시 적재되면 금액을 덮어쓴다 (청구 데이터 재산정 반영).
+ */
+@Entity
+@Table(name = "cost_facts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cost_facts_key",
+                columnNames = {"usageDate", "provider", "accountId", "service", "region", "tag"}),
+        indexes = @Index(name = "idx_cost_facts_usage_date", columnList = "usageDate, accountId"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CostFact {
+
+    /** region/tag 값이 없을 때 저장하는 값 (unique 제약에 null이 섞이지 않도록) */
+    public static final String NONE = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate usageDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CloudProvider provider;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private String service;
+
+    @Column(nullable = false, length = 64)
+    @Builder.Default
+    private String region = NONE;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private String tag = NONE;
+
+    @Column(nullable = false, precision = 19, scale = 6)
+    private BigDecimal cost;
+
+    @Column
+    private Instant updatedAt;
+}
@@ -0,0 +1,60 @@
+package com.budgetops.backend.cost.entity;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.enums.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 일/주/월 비용 롤업 (계정 / 서비스 / 리전 단위)
+ * service, region이 ALL("*")인 행은 계정 전체 합계로, 월 합계 조회가 한 행 조회로 끝난다.
+ */
+@Entity
+@Table(name = "cost_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cost_rollups_key",
+                columnNames = {"granularity", "periodStart", "provider", "accountId", "service", "region"}),
+        indexes = @Index(name = "idx_cost_rollups_account_period", columnList = "accountId, granularity, periodStart"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CostRollup {
+
+    /** 서비스/리전 전체 합계 행 표시 값 */
+    public static final String ALL = "*";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private RollupGranularity granularity;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CloudProvider provider;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private String service;
+
+    @Column(nullable = false, length = 64)
+    private String region;
+
+    @Column(nullable = false, precision = 19, scale = 6)
+    private BigDecimal cost;
+
+    @Column
+    private Instant updatedAt;
+}
@@ -0,0 +1,36 @@
+package com.budgetops.backend.cost.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 비용 롤업 단위 (주는 월요일 시작)
+ */
+public enum RollupGranularity {
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * 일자가 속한 기간의 시작일
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 일자가 속한 기간의 마지막 날
+     */
+    public LocalDate periodEnd(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+}
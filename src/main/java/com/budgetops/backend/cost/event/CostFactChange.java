@@ -0,0 +1,46 @@
+package com.budgetops.backend.cost.event;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.entity.CostFact;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 적재로 인해 바뀐 비용 팩트 한 건 (이전 금액 → 현재 금액)
+ * 금액은 팩트와 같은 BigDecimal로 들고 다니고, 통계용 소비자만 delta()로 double을 쓴다.
+ */
+public record CostFactChange(
+        LocalDate usageDate,
+        CloudProvider provider,
+        Long accountId,
+        String service,
+        String region,
+        String tag,
+        BigDecimal previousCost,
+        BigDecimal currentCost
+) {
+    public static CostFactChange of(CostFact fact, BigDecimal previousCost) {
+        return new CostFactChange(
+                fact.getUsageDate(),
+                fact.getProvider(),
+                fact.getAccountId(),
+                fact.getService(),
+                fact.getRegion(),
+                fact.getTag(),
+                previousCost,
+                fact.getCost()
+        );
+    }
+
+    /**
+     * 금액 차액 (롤업처럼 금액으로 누적하는 곳에서 사용)
+     */
+    public BigDecimal costDelta() {
+        return currentCost.subtract(previousCost);
+    }
+
+    public double delta() {
+        return costDelta().doubleValue();
+    }
+}
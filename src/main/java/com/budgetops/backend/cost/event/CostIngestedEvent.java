@@ -0,0 +1,10 @@
+package com.budgetops.backend.cost.event;
+
+import java.util.List;
+
+/**
+ * 비용 팩트 적재가 커밋된 뒤 발행되는 이벤트
+ * 큐브/롤업 등 파생 데이터는 이 변경분만 보고 증분 갱신한다.
+ */
+public record CostIngestedEvent(List<CostFactChange> changes) {
+}
@@ -0,0 +1,29 @@
+package com.budgetops.backend.cost.repository;
+
+import com.budgetops.backend.cost.dto.DailyCostAggregate;
+import com.budgetops.backend.cost.entity.CostFact;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CostFactRepository extends JpaRepository<CostFact, Long> {
+    List<CostFact> findByUsageDateInAndAccountIdIn(Collection<LocalDate> usageDates, Collection<Long> accountIds);
+
+    // id 기준 keyset 페이지 조회 (큐브 초기 적재용)
+    Slice<CostFact> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 태그를 합친 일별 집계 (롤업 재계산/검증용)
+    @Query("select new com.budgetops.backend.cost.dto.DailyCostAggregate(" +
+            "f.usageDate, f.provider, f.accountId, f.service, f.region, sum(f.cost)) " +
+            "from CostFact f where f.usageDate between :from and :to " +
+            "group by f.usageDate, f.provider, f.accountId, f.service, f.region")
+    List<DailyCostAggregate> aggregateDaily(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,109 @@
+package com.budgetops.backend.cost.repository;
+
+import com.budgetops.backend.cost.entity.CostRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * cost_rollups 증분 쓰기 (JDBC)
+ * 읽고-더하고-저장하면 동시 적재끼리 갱신을 잃거나 첫 insert가 unique 제약에 걸리므로,
+ * 차액은 DB에서 한 문장으로 더한다 (cost = cost + 차액).
+ */
+@Repository
+@RequiredArgsConstructor
+public class CostRollupBulkRepository {
+
+    private static final String POSTGRES_ADD = """
+            INSERT INTO cost_rollups (granularity, period_start, provider, account_id, service, region, cost, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (granularity, period_start, provider, account_id, service, region) DO UPDATE SET
+                cost = cost_rollups.cost + EXCLUDED.cost,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    // 로컬 H2는 ON CONFLICT DO UPDATE가 없어 update → insert 순서로 쓰고, 동시 insert에 밀리면 update로 다시 더한다
+    private static final String H2_UPDATE = """
+            UPDATE cost_rollups SET cost = cost + ?, updated_at = ?
+            WHERE granularity = ? AND period_start = ? AND provider = ? AND account_id = ? AND service = ? AND region = ?
+            """;
+
+    private static final String H2_INSERT = """
+            INSERT INTO cost_rollups (granularity, period_start, provider, account_id, service, region, cost, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 동시 배치가 같은 행들을 서로 다른 순서로 잠그지 않도록 키 순서로 쓴다
+    private static final Comparator<CostRollup> KEY_ORDER = Comparator
+            .comparing(CostRollup::getGranularity)
+            .thenComparing(CostRollup::getPeriodStart)
+            .thenComparing(CostRollup::getProvider)
+            .thenComparing(CostRollup::getAccountId)
+            .thenComparing(CostRollup::getService)
+            .thenComparing(CostRollup::getRegion);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean h2;
+
+    /**
+     * 각 행의 cost를 차액으로 보고 키별 롤업에 더한다. 없는 키는 차액으로 새 행을 만든다.
+     */
+    public void addCosts(List<CostRollup> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<CostRollup> ordered = deltas.stream().sorted(KEY_ORDER).toList();
+        if (isH2()) {
+            ordered.forEach(this::addOne);
+            return;
+        }
+        jdbcTemplate.batchUpdate(POSTGRES_ADD, ordered, ordered.size(), (ps, rollup) -> {
+            ps.setString(1, rollup.getGranularity().name());
+            ps.setDate(2, Date.valueOf(rollup.getPeriodStart()));
+            ps.setString(3, rollup.getProvider().name());
+            ps.setLong(4, rollup.getAccountId());
+            ps.setString(5, rollup.getService());
+            ps.setString(6, rollup.getRegion());
+            ps.setBigDecimal(7, rollup.getCost());
+            ps.setTimestamp(8, Timestamp.from(rollup.getUpdatedAt()));
+        });
+    }
+
+    private void addOne(CostRollup rollup) {
+        if (update(rollup) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(H2_INSERT, rollup.getGranularity().name(), Date.valueOf(rollup.getPeriodStart()),
+                    rollup.getProvider().name(), rollup.getAccountId(), rollup.getService(), rollup.getRegion(),
+                    rollup.getCost(), Timestamp.from(rollup.getUpdatedAt()));
+        } catch (DuplicateKeyException e) {
+            update(rollup);
+        }
+    }
+
+    private int update(CostRollup rollup) {
+        return jdbcTemplate.update(H2_UPDATE, rollup.getCost(), Timestamp.from(rollup.getUpdatedAt()),
+                rollup.getGranularity().name(), Date.valueOf(rollup.getPeriodStart()), rollup.getProvider().name(),
+                rollup.getAccountId(), rollup.getService(), rollup.getRegion());
+    }
+
+    private boolean isH2() {
+        Boolean result = h2;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "H2".equalsIgnoreCase(product);
+            h2 = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package com.budgetops.backend.cost.repository;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.entity.CostRollup;
+import com.budgetops.backend.cost.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CostRollupRepository extends JpaRepository<CostRollup, Long> {
+    Optional<CostRollup> findByGranularityAndPeriodStartAndProviderAndAccountIdAndServiceAndRegion(
+            RollupGranularity granularity, LocalDate periodStart, CloudProvider provider,
+            Long accountId, String service, String region);
+
+    List<CostRollup> findByGranularityAndPeriodStartBetween(RollupGranularity granularity, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from CostRollup r where r.granularity = :granularity and r.periodStart between :from and :to")
+    int deleteRange(@Param("granularity") RollupGranularity granularity,
+                    @Param("from") LocalDate from,
+                    @Param("to") LocalDate to);
+}
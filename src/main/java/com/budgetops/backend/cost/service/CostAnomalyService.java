@@ -0,0 +1,122 @@
+package com.budgetops.backend.cost.service;
+
+import com.budgetops.backend.billing.entity.Member;
+import com.budgetops.backend.billing.repository.MemberRepository;
+import com.budgetops.backend.cost.anomaly.CostAnomaly;
+import com.budgetops.backend.cost.anomaly.CostAnomalyDetector;
+import com.budgetops.backend.cost.dto.DailyCostAggregate;
+import com.budgetops.backend.cost.event.CostFactChange;
+import com.budgetops.backend.cost.event.CostIngestedEvent;
+import com.budgetops.backend.cost.repository.CostFactRepository;
+import com.budgetops.backend.notification.service.SlackNotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 비용 적재 스트림에 대한 이상치 감지 및 Slack 알림
+ * 기동 시 최근 cost_facts로 기준선을 학습(알림 없음)한 뒤, 적재 이벤트마다 변경분을 흘려보낸다.
+ */
+@Slf4j
+@Service
+public class CostAnomalyService {
+
+    private static final int RECENT_LIMIT = 500;
+
+    private final CostFactRepository factRepository;
+    private final MemberRepository memberRepository;
+    private final SlackNotificationService slackNotificationService;
+    private final CostAnomalyDetector detector;
+    private final int replayDays;
+    private final Deque<CostAnomaly> recent = new ArrayDeque<>();
+
+    public CostAnomalyService(CostFactRepository factRepository,
+                              MemberRepository memberRepository,
+                              SlackNotificationService slackNotificationService,
+                              @Value("${app.cost.anomaly.alpha:0.2}") double alpha,
+                              @Value("${app.cost.anomaly.threshold:4.0}") double threshold,
+                              @Value("${app.cost.anomaly.warmup-days:14}") int warmupDays,
+                              @Value("${app.cost.anomaly.min-delta:10}") double minDelta,
+                              @Value("${app.cost.anomaly.replay-days:56}") int replayDays) {
+        this.factRepository = factRepository;
+        this.memberRepository = memberRepository;
+        this.slackNotificationService = slackNotificationService;
+        this.detector = new CostAnomalyDetector(7, alpha, threshold, warmupDays, minDelta);
+        this.replayDays = replayDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        LocalDate to = LocalDate.now();
+        List<DailyCostAggregate> history = new ArrayList<>(factRepository.aggregateDaily(to.minusDays(replayDays), to));
+        history.sort(Comparator.comparing(DailyCostAggregate::usageDate));
+        for (DailyCostAggregate row : history) {
+            detector.observe(row.provider(), row.accountId(), row.service(), row.region(),
+                    row.usageDate(), row.cost().doubleValue(), null);
+        }
+        log.info("Cost anomaly baselines warmed up: {} series from {} days", detector.seriesCount(), replayDays);
+    }
+
+    @TransactionalEventListener
+    public void onCostIngested(CostIngestedEvent event) {
+        List<CostFactChange> changes = new ArrayList<>(event.changes());
+        changes.sort(Comparator.comparing(CostFactChange::usageDate));
+
+        List<CostAnomaly> detected = new ArrayList<>();
+        synchronized (this) {
+            for (CostFactChange change : changes) {
+                double delta = change.delta();
+                if (delta != 0.0) {
+                    detector.observe(change.provider(), change.accountId(), change.service(), change.region(),
+                            change.usageDate(), delta, detected::add);
+                }
+            }
+            for (CostAnomaly anomaly : detected) {
+                if (recent.size() == RECENT_LIMIT) {
+                    recent.removeFirst();
+                }
+                recent.addLast(anomaly);
+            }
+        }
+
+        if (!detected.isEmpty()) {
+            log.info("Detected {} cost anomalies", detected.size());
+            notifySlackSubscribers(detected);
+        }
+    }
+
+    /**
+     * 최근 감지된 이상치 (최신순)
+     */
+    public synchronized List<CostAnomaly> recent(int limit) {
+        List<CostAnomaly> result = new ArrayList<>(Math.min(limit, recent.size()));
+        var iterator = recent.descendingIterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    private void notifySlackSubscribers(List<CostAnomaly> anomalies) {
+        List<Member> subscribers = memberRepository.findBySlackNotificationsEnabledTrueAndSlackWebhookUrlIsNotNull();
+        for (Member member : subscribers) {
+            if (!StringUtils.hasText(member.getSlackWebhookUrl())) {
+                continue;
+            }
+            for (CostAnomaly anomaly : anomalies) {
+                slackNotificationService.sendCostAnomaly(member.getSlackWebhookUrl(), anomaly);
+            }
+        }
+    }
+}
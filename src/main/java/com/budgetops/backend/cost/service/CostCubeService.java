@@ -0,0 +1,133 @@
+package com.budgetops.backend.cost.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.cube.CostCube;
+import com.budgetops.backend.cost.cube.CubeQuery;
+import com.budgetops.backend.cost.cube.CubeResult;
+import com.budgetops.backend.cost.entity.CostFact;
+import com.budgetops.backend.cost.event.CostFactChange;
+import com.budgetops.backend.cost.event.CostIngestedEvent;
+import com.budgetops.backend.cost.repository.CostFactRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 대시보드용 인메모리 비용 큐브 관리
+ * 기동 시 cost_facts 전체를 적재하고, 이후에는 적재 이벤트의 변경분(차액)만 추가한다.
+ * 차액 행이 기본 행보다 많아지면 DB에서 다시 만들어 큐브 크기를 줄인다.
+ */
+@Slf4j
+@Service
+public class CostCubeService {
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final CostFactRepository factRepository;
+    private final ForkJoinPool queryPool;
+    private final int segmentRows;
+
+    private volatile CostCube cube;
+    private long baseRows;
+    private long deltaRows;
+
+    public CostCubeService(CostFactRepository factRepository,
+                           @Value("${app.cost.cube.parallelism:0}") int parallelism,
+                           @Value("${app.cost.cube.segment-rows:" + CostCube.DEFAULT_SEGMENT_ROWS + "}") int segmentRows) {
+        this.factRepository = factRepository;
+        this.queryPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.segmentRows = segmentRows;
+        this.cube = new CostCube(segmentRows, queryPool);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * cost_facts 전체로 큐브를 새로 만든 뒤 교체한다 (조회는 교체 전까지 기존 큐브를 사용).
+     */
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        CostCube fresh = new CostCube(segmentRows, queryPool);
+        long lastId = 0L;
+        Slice<CostFact> page;
+        do {
+            page = factRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (CostFact fact : page.getContent()) {
+                fresh.append(fact.getUsageDate(), values(fact), fact.getCost().doubleValue());
+                lastId = fact.getId();
+            }
+        } while (page.hasNext());
+
+        this.cube = fresh;
+        this.baseRows = fresh.rowCount();
+        this.deltaRows = 0;
+        log.info("Cost cube rebuilt: {} rows in {} ms", baseRows, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onCostIngested(CostIngestedEvent event) {
+        CostCube current = cube;
+        for (CostFactChange change : event.changes()) {
+            double delta = change.delta();
+            if (delta == 0.0) {
+                continue;
+            }
+            current.append(change.usageDate(), values(change), delta);
+            if (change.previousCost().signum() == 0) {
+                baseRows++;
+            } else {
+                deltaRows++;
+            }
+        }
+        if (deltaRows > Math.max(baseRows, LOAD_PAGE_SIZE)) {
+            rebuild();
+        }
+    }
+
+    public CubeResult query(CubeQuery query) {
+        return cube.query(query);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queryPool.shutdown();
+    }
+
+    /**
+     * 계정 차원 값. AWS·GCP 계정 id가 같아도 섞이지 않도록 provider를 붙인다 (예: "GCP:7")
+     */
+    public static String accountKey(CloudProvider provider, Long accountId) {
+        return provider.name() + ":" + accountId;
+    }
+
+    private static String[] values(CostFact fact) {
+        return new String[]{
+                accountKey(fact.getProvider(), fact.getAccountId()),
+                fact.getProvider().name(),
+                fact.getService(),
+                fact.getRegion(),
+                fact.getTag()
+        };
+    }
+
+    private static String[] values(CostFactChange change) {
+        return new String[]{
+                accountKey(change.provider(), change.accountId()),
+                change.provider().name(),
+                change.service(),
+                change.region(),
+                change.tag()
+        };
+    }
+}
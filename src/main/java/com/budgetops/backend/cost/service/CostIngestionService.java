@@ -0,0 +1,119 @@
+package com.budgetops.backend.cost.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.entity.CostFact;
+import com.budgetops.backend.cost.event.CostFactChange;
+import com.budgetops.backend.cost.event.CostIngestedEvent;
+import com.budgetops.backend.cost.repository.CostFactRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일별 비용 팩트 적재 서비스
+ * 같은 키의 팩트는 금액을 덮어쓰고, 실제로 바뀐 건만 CostIngestedEvent로 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CostIngestionService {
+
+    private static final int COST_SCALE = 6;
+
+    private final CostFactRepository factRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public List<CostFactChange> ingest(List<CostFact> facts) {
+        if (facts == null || facts.isEmpty()) {
+            return List.of();
+        }
+
+        // 배치 안에서 같은 키는 합산
+        Map<FactKey, CostFact> incoming = new LinkedHashMap<>();
+        Set<LocalDate> dates = new HashSet<>();
+        Set<Long> accountIds = new HashSet<>();
+        for (CostFact fact : facts) {
+            normalize(fact);
+            incoming.merge(FactKey.of(fact), fact, (a, b) -> {
+                a.setCost(a.getCost().add(b.getCost()));
+                return a;
+            });
+            dates.add(fact.getUsageDate());
+            accountIds.add(fact.getAccountId());
+        }
+
+        // 기존 팩트는 한 번의 IN 조회로 가져온다
+        Map<FactKey, CostFact> existing = new HashMap<>();
+        for (CostFact fact : factRepository.findByUsageDateInAndAccountIdIn(dates, accountIds)) {
+            existing.put(FactKey.of(fact), fact);
+        }
+
+        Instant now = Instant.now();
+        List<CostFact> toSave = new ArrayList<>();
+        List<CostFactChange> changes = new ArrayList<>();
+        for (Map.Entry<FactKey, CostFact> entry : incoming.entrySet()) {
+            CostFact fact = entry.getValue();
+            CostFact current = existing.get(entry.getKey());
+            if (current == null) {
+                fact.setUpdatedAt(now);
+                toSave.add(fact);
+                changes.add(CostFactChange.of(fact, BigDecimal.ZERO));
+            } else if (current.getCost().compareTo(fact.getCost()) != 0) {
+                BigDecimal previous = current.getCost();
+                current.setCost(fact.getCost());
+                current.setUpdatedAt(now);
+                toSave.add(current);
+                changes.add(CostFactChange.of(current, previous));
+            }
+        }
+
+        factRepository.saveAll(toSave);
+        log.info("Ingested {} cost fact(s), {} changed", incoming.size(), changes.size());
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new CostIngestedEvent(changes));
+        }
+        return changes;
+    }
+
+    private void normalize(CostFact fact) {
+        if (fact.getUsageDate() == null || fact.getProvider() == null
+                || fact.getAccountId() == null || fact.getCost() == null) {
+            throw new IllegalArgumentException("비용 팩트의 필수 값이 비어 있습니다.");
+        }
+        // 컬럼 scale(6)에 맞춰 두어야 저장값과 비교할 때 반올림 차이로 변경이 잡히지 않는다
+        fact.setCost(fact.getCost().setScale(COST_SCALE, RoundingMode.HALF_UP));
+        if (fact.getService() == null || fact.getService().isBlank()) {
+            fact.setService("Unknown");
+        }
+        if (fact.getRegion() == null) {
+            fact.setRegion(CostFact.NONE);
+        }
+        if (fact.getTag() == null) {
+            fact.setTag(CostFact.NONE);
+        }
+    }
+
+    private record FactKey(LocalDate usageDate, CloudProvider provider, Long accountId,
+                           String service, String region, String tag) {
+        static FactKey of(CostFact fact) {
+            return new FactKey(fact.getUsageDate(), fact.getProvider(), fact.getAccountId(),
+                    fact.getService(), fact.getRegion(), fact.getTag());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.budgetops.backend.cost.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.dto.CostRollupCheckResponse;
+import com.budgetops.backend.cost.dto.DailyCostAggregate;
+import com.budgetops.backend.cost.entity.CostRollup;
+import com.budgetops.backend.cost.enums.RollupGranularity;
+import com.budgetops.backend.cost.event.CostFactChange;
+import com.budgetops.backend.cost.event.CostIngestedEvent;
+import com.budgetops.backend.cost.repository.CostFactRepository;
+import com.budgetops.backend.cost.repository.CostRollupBulkRepository;
+import com.budgetops.backend.cost.repository.CostRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 일/주/월 비용 롤업 유지
+ * 적재 이벤트의 변경분(차액)을 영향받는 버킷에만 더하고, 필요 시 원본 facts로 구간을 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CostRollupService {
+
+    private static final double EPSILON = 1e-6;
+
+    private final CostFactRepository factRepository;
+    private final CostRollupRepository rollupRepository;
+    private final CostRollupBulkRepository bulkRepository;
+
+    /**
+     * 적재 트랜잭션 커밋 후 변경분을 롤업에 반영한다.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCostIngested(CostIngestedEvent event) {
+        Map<RollupKey, BigDecimal> deltas = new HashMap<>();
+        for (CostFactChange change : event.changes()) {
+            BigDecimal delta = change.costDelta();
+            if (delta.signum() == 0) {
+                continue;
+            }
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                LocalDate periodStart = granularity.periodStart(change.usageDate());
+                deltas.merge(new RollupKey(granularity, periodStart, change.provider(), change.accountId(),
+                        change.service(), change.region()), delta, BigDecimal::add);
+                deltas.merge(new RollupKey(granularity, periodStart, change.provider(), change.accountId(),
+                        CostRollup.ALL, CostRollup.ALL), delta, BigDecimal::add);
+            }
+        }
+        if (!deltas.isEmpty()) {
+            applyDeltas(deltas);
+        }
+    }
+
+    /**
+     * 단일 행 조회 (service/region 생략 시 계정 전체 합계)
+     */
+    @Transactional(readOnly = true)
+    public Optional<CostRollup> find(RollupGranularity granularity, LocalDate date, CloudProvider provider,
+                                     Long accountId, String service, String region) {
+        return rollupRepository.findByGranularityAndPeriodStartAndProviderAndAccountIdAndServiceAndRegion(
+                granularity, granularity.periodStart(date), provider, accountId,
+                service == null ? CostRollup.ALL : service,
+                region == null ? CostRollup.ALL : region);
+    }
+
+    /**
+     * 구간의 롤업을 원본 facts 기준으로 검증하고, repair=true면 다시 계산해 교체한다.
+     * 구간은 주/월 경계까지 넓혀 부분 버킷이 생기지 않게 한다.
+     */
+    @Transactional
+    public CostRollupCheckResponse check(LocalDate from, LocalDate to, boolean repair) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("from/to 범위가 올바르지 않습니다.");
+        }
+        LocalDate scanFrom = earliestStart(from);
+        LocalDate scanTo = latestEnd(to);
+        List<DailyCostAggregate> daily = factRepository.aggregateDaily(scanFrom, scanTo);
+
+        int checked = 0;
+        int mismatches = 0;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDate rangeFrom = granularity.periodStart(from);
+            LocalDate rangeTo = granularity.periodStart(to);
+            Map<RollupKey, BigDecimal> expected = expectedRollups(granularity, daily, rangeFrom, granularity.periodEnd(to));
+
+            List<CostRollup> stored = rollupRepository.findByGranularityAndPeriodStartBetween(granularity, rangeFrom, rangeTo);
+            Set<RollupKey> seen = new HashSet<>();
+            for (CostRollup rollup : stored) {
+                RollupKey key = RollupKey.of(rollup);
+                seen.add(key);
+                checked++;
+                BigDecimal want = expected.getOrDefault(key, BigDecimal.ZERO);
+                if (want.subtract(rollup.getCost()).abs().doubleValue() > EPSILON) {
+                    mismatches++;
+                }
+            }
+            for (RollupKey key : expected.keySet()) {
+                if (!seen.contains(key)) {
+                    checked++;
+                    mismatches++;
+                }
+            }
+
+            if (repair) {
+                rollupRepository.deleteRange(granularity, rangeFrom, rangeTo);
+                rollupRepository.flush();
+                Instant now = Instant.now();
+                List<CostRollup> rebuilt = new ArrayList<>(expected.size());
+                expected.forEach((key, cost) -> rebuilt.add(key.toEntity(cost, now)));
+                rollupRepository.saveAll(rebuilt);
+            }
+        }
+
+        if (mismatches > 0) {
+            log.warn("Cost rollup mismatch in {}~{}: {} of {} rows (repair={})", from, to, mismatches, checked, repair);
+        }
+        return CostRollupCheckResponse.builder()
+                .from(scanFrom)
+                .to(scanTo)
+                .checkedRows(checked)
+                .mismatchedRows(mismatches)
+                .repaired(repair)
+                .build();
+    }
+
+    /**
+     * 차액을 DB에서 원자적으로 더한다 (동시 적재 이벤트끼리 갱신을 잃지 않음).
+     */
+    private void applyDeltas(Map<RollupKey, BigDecimal> deltas) {
+        Instant now = Instant.now();
+        List<CostRollup> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta.signum() != 0) {
+                rows.add(key.toEntity(delta, now));
+            }
+        });
+        bulkRepository.addCosts(rows);
+    }
+
+    private static Map<RollupKey, BigDecimal> expectedRollups(RollupGranularity granularity,
+                                                             List<DailyCostAggregate> daily,
+                                                             LocalDate from, LocalDate to) {
+        Map<RollupKey, BigDecimal> expected = new HashMap<>();
+        for (DailyCostAggregate row : daily) {
+            if (row.usageDate().isBefore(from) || row.usageDate().isAfter(to)) {
+                continue;
+            }
+            LocalDate periodStart = granularity.periodStart(row.usageDate());
+            expected.merge(new RollupKey(granularity, periodStart, row.provider(), row.accountId(),
+                    row.service(), row.region()), row.cost(), BigDecimal::add);
+            expected.merge(new RollupKey(granularity, periodStart, row.provider(), row.accountId(),
+                    CostRollup.ALL, CostRollup.ALL), row.cost(), BigDecimal::add);
+        }
+        return expected;
+    }
+
+    private static LocalDate earliestStart(LocalDate date) {
+        LocalDate earliest = date;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDate start = granularity.periodStart(date);
+            if (start.isBefore(earliest)) {
+                earliest = start;
+            }
+        }
+        return earliest;
+    }
+
+    private static LocalDate latestEnd(LocalDate date) {
+        LocalDate latest = date;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDate end = granularity.periodEnd(date);
+            if (end.isAfter(latest)) {
+                latest = end;
+            }
+        }
+        return latest;
+    }
+
+    private record RollupKey(RollupGranularity granularity, LocalDate periodStart, CloudProvider provider,
+                             Long accountId, String service, String region) {
+
+        static RollupKey of(CostRollup rollup) {
+            return new RollupKey(rollup.getGranularity(), rollup.getPeriodStart(), rollup.getProvider(),
+                    rollup.getAccountId(), rollup.getService(), rollup.getRegion());
+        }
+
+        CostRollup toEntity(BigDecimal cost, Instant updatedAt) {
+            return CostRollup.builder()
+                    .granularity(granularity)
+                    .periodStart(periodStart)
+                    .provider(provider)
+                    .accountId(accountId)
+                    .service(service)
+                    .region(region)
+                    .cost(cost)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
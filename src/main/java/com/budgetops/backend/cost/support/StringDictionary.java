@@ -0,0 +1,55 @@
+package com.budgetops.backend.cost.support;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문자열 ↔ 정수 코드 사전 (컬럼 사전 인코딩용)
+ * 추가는 동기화, 조회는 락 없이 수행한다. 한 번 부여된 코드는 바뀌지 않는다.
+ */
+public final class StringDictionary {
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[64];
+    private volatile int size;
+
+    /**
+     * 값의 코드를 반환하고, 없으면 새 코드를 부여한다.
+     */
+    public int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        synchronized (this) {
+            code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            int next = size;
+            if (next == values.length) {
+                values = Arrays.copyOf(values, next * 2);
+            }
+            values[next] = value;
+            codes.put(value, next);
+            size = next + 1;
+            return next;
+        }
+    }
+
+    /**
+     * 값의 코드를 반환한다. 사전에 없으면 -1.
+     */
+    public int lookup(String value) {
+        Integer code = codes.get(value);
+        return code != null ? code : -1;
+    }
+
+    public String decode(int code) {
+        return values[code];
+    }
+
+    public int size() {
+        return size;
+    }
+}
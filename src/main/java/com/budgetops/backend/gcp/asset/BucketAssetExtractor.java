@@ -0,0 +1,22 @@
+package com.budgetops.backend.gcp.asset;
+
+import com.google.cloud.asset.v1.ResourceSearchResult;
+
+/**
+ * Cloud Storage 버킷: location이 멀티 리전(US, ASIA)일 수 있어 zone 변환 없이 소문자로 사용한다.
+ */
+public class BucketAssetExtractor extends DefaultAssetExtractor {
+
+    public BucketAssetExtractor() {
+        super("storage.googleapis.com/Bucket", "ACTIVE");
+    }
+
+    @Override
+    public String extractRegion(ResourceSearchResult result) {
+        String location = result.getLocation();
+        if (location != null && !location.isEmpty()) {
+            return location.toLowerCase();
+        }
+        return super.extractRegion(result);
+    }
+}
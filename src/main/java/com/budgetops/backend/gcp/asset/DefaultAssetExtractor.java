@@ -0,0 +1,52 @@
+package com.budgetops.backend.gcp.asset;
+
+import com.google.cloud.asset.v1.ResourceSearchResult;
+
+/**
+ * 기본 추출기: location에서 리전, state에서 상태를 읽는다.
+ * 검색 요청에 read mask를 걸어 최상위 필드만 받으므로 versionedResources/additionalAttributes는 보지 않는다.
+ * 상태 필드가 없는 자산 유형(버킷, 포워딩 규칙 등)은 fallbackStatus를 사용한다.
+ */
+public class DefaultAssetExtractor implements GcpAssetExtractor {
+
+    private final String assetType;
+    private final String fallbackStatus;
+
+    public DefaultAssetExtractor(String assetType, String fallbackStatus) {
+        this.assetType = assetType;
+        this.fallbackStatus = fallbackStatus;
+    }
+
+    @Override
+    public String assetType() {
+        return assetType;
+    }
+
+    @Override
+    public String extractRegion(ResourceSearchResult result) {
+        return regionOf(result.getLocation());
+    }
+
+    @Override
+    public String extractStatus(ResourceSearchResult result) {
+        String state = result.getState();
+        if (state != null && !state.isEmpty()) {
+            return state;
+        }
+        return fallbackStatus;
+    }
+
+    /**
+     * location(zone/region/멀티 리전)을 리전으로 변환 (예: "us-central1-a" -> "us-central1")
+     */
+    public static String regionOf(String location) {
+        if (location == null || location.isEmpty()) {
+            return null;
+        }
+        String[] parts = location.split("-");
+        if (parts.length >= 3) {
+            return parts[0] + "-" + parts[1];
+        }
+        return location;
+    }
+}
@@ -0,0 +1,16 @@
+package com.budgetops.backend.gcp.asset;
+
+import com.google.cloud.asset.v1.ResourceSearchResult;
+
+/**
+ * Cloud Asset 검색 결과에서 자산 유형별로 리전/상태를 뽑는 추출기
+ */
+public interface GcpAssetExtractor {
+
+    /** 대상 자산 유형 (예: compute.googleapis.com/Instance) */
+    String assetType();
+
+    String extractRegion(ResourceSearchResult result);
+
+    String extractStatus(ResourceSearchResult result);
+}
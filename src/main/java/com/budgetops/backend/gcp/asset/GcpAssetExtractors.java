@@ -0,0 +1,32 @@
+package com.budgetops.backend.gcp.asset;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 자산 유형 → 추출기 레지스트리
+ * 등록되지 않은 유형은 기본 추출기로 처리하므로 설정에 유형만 추가해도 수집된다.
+ */
+@Component
+public class GcpAssetExtractors {
+
+    private final Map<String, GcpAssetExtractor> extractors = List.of(
+                    new DefaultAssetExtractor("compute.googleapis.com/Instance", null),
+                    new DefaultAssetExtractor("compute.googleapis.com/Disk", null),
+                    new BucketAssetExtractor(),
+                    new DefaultAssetExtractor("sqladmin.googleapis.com/Instance", null),
+                    new DefaultAssetExtractor("container.googleapis.com/Cluster", null),
+                    new DefaultAssetExtractor("compute.googleapis.com/ForwardingRule", "ACTIVE"),
+                    new DefaultAssetExtractor("compute.googleapis.com/Address", null)
+            ).stream()
+            .collect(Collectors.toUnmodifiableMap(GcpAssetExtractor::assetType, Function.identity()));
+
+    public GcpAssetExtractor forType(String assetType) {
+        GcpAssetExtractor extractor = extractors.get(assetType);
+        return extractor != null ? extractor : new DefaultAssetExtractor(assetType, null);
+    }
+}
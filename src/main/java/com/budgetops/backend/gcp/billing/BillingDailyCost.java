@@ -0,0 +1,9 @@
+package com.budgetops.backend.gcp.billing;
+
+import java.time.LocalDate;
+
+/**
+ * billing export 일별 합계 한 건 (서비스·리전 단위, 크레딧 차감 순비용)
+ */
+public record BillingDailyCost(LocalDate usageDate, String service, String region, double cost) {
+}
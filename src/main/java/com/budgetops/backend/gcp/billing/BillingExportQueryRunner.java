@@ -0,0 +1,245 @@
+package com.budgetops.backend.gcp.billing;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.FieldValue;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobId;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.JobStatistics;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.QueryParameterValue;
+import com.google.cloud.bigquery.TableResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 스캔량 상한을 지키는 billing export 집계 쿼리 실행기
+ * 파티션(_PARTITIONTIME) 범위로 잘라 dry-run으로 스캔량을 먼저 확인하고, 상한을 넘으면 범위를 반으로 나눈다.
+ * 하루 파티션도 상한을 넘으면 실행하지 않는다. 합계는 파티션 범위별로 더할 수 있어 나눈 결과를 그대로 합친다.
+ */
+@Slf4j
+@Component
+public class BillingExportQueryRunner {
+
+    private static final String AGGREGATE_SQL = """
+            SELECT DATE(usage_start_time) AS usage_date,
+                   service.description AS service,
+                   location.region AS region,
+                   SUM(cost) + SUM(IFNULL((SELECT SUM(c.amount) FROM UNNEST(credits) c), 0)) AS net_cost
+            FROM `%s`
+            WHERE _PARTITIONTIME >= @partitionFrom AND _PARTITIONTIME < @partitionTo
+              AND usage_start_time >= @usageFrom
+            GROUP BY usage_date, service, region
+            """;
+
+    private static final String RESOURCE_SQL = """
+            SELECT project.id AS project_id,
+                   project.number AS project_number,
+                   resource.name AS resource_name,
+                   resource.global_name AS global_name,
+                   SUM(CAST(cost AS NUMERIC))
+                     + SUM(IFNULL((SELECT SUM(CAST(c.amount AS NUMERIC)) FROM UNNEST(credits) c), 0)) AS net_cost
+            FROM `%s`
+            WHERE _PARTITIONTIME >= @partitionFrom AND _PARTITIONTIME < @partitionTo
+              AND usage_start_time >= @usageFrom AND usage_start_time < TIMESTAMP('%s')
+              AND resource.name IS NOT NULL
+            GROUP BY project_id, project_number, resource_name, global_name
+            """;
+
+    private static final int LATE_EXPORT_DAYS = 3;
+
+    /**
+     * @param bigquery       계정별로 캐시된 클라이언트 (과금 프로젝트 기준)
+     * @param table          "project.dataset.table"
+     * @param from           이 날짜 이후 사용분 (파티션도 이 날짜부터 읽는다)
+     * @param maxBytesBilled 쿼리 하나가 스캔할 수 있는 최대 바이트
+     */
+    public BillingExportResult read(BigQuery bigquery, String location, String table, LocalDate from, long maxBytesBilled) {
+        long startedAt = System.currentTimeMillis();
+        String sql = String.format(AGGREGATE_SQL, table);
+        LocalDate partitionTo = LocalDate.now(ZoneOffset.UTC).plusDays(1);
+
+        List<PartitionRange> ranges = plan(bigquery, sql, location, new PartitionRange(from, partitionTo), from, maxBytesBilled);
+
+        Map<DailyKey, Double> totals = new LinkedHashMap<>();
+        long[] rows = {0};
+        long bytesProcessed = execute(bigquery, location, sql, ranges, from, maxBytesBilled, row -> {
+            DailyKey key = new DailyKey(
+                    LocalDate.parse(row.get("usage_date").getStringValue()),
+                    textOr(row, "service", "Unknown"),
+                    textOr(row, "region", "global"));
+            totals.merge(key, row.get("net_cost").getDoubleValue(), Double::sum);
+            rows[0]++;
+        });
+
+        List<BillingDailyCost> daily = new ArrayList<>(totals.size());
+        totals.forEach((key, cost) -> daily.add(
+                new BillingDailyCost(key.usageDate(), key.service(), key.region(), cost)));
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("Queried {} in {} partition range(s): {} aggregate row(s), {} bytes processed in {} ms",
+                table, ranges.size(), rows[0], bytesProcessed, elapsed);
+        return new BillingExportResult(rows[0], bytesProcessed, daily, elapsed);
+    }
+
+    /**
+     * 리소스 단위 export 테이블에서 이번 달 리소스별 순비용을 한 번에 집계한다 (크레딧 포함).
+     * 결과는 리소스 수만큼의 작은 집계라 그대로 메모리에 올려 인벤토리와 조인한다.
+     *
+     * @param table "project.dataset.table" (gcp_billing_export_resource_v1_*)
+     */
+    public BillingResourceCostResult readResourceCosts(BigQuery bigquery, String location, String table,
+                                                       YearMonth month, long maxBytesBilled) {
+        long startedAt = System.currentTimeMillis();
+        LocalDate from = month.atDay(1);
+        LocalDate usageTo = month.plusMonths(1).atDay(1);
+        // 월 경계는 날짜 상수로 넣어 dry-run과 실행이 같은 파라미터를 쓰게 한다
+        String sql = String.format(RESOURCE_SQL, table, usageTo);
+        // 월말 사용분은 다음 달 초 파티션에 적재될 수 있어 다음 달 첫 며칠까지 읽는다
+        LocalDate partitionTo = min(usageTo.plusDays(LATE_EXPORT_DAYS), LocalDate.now(ZoneOffset.UTC).plusDays(1));
+
+        List<PartitionRange> ranges = plan(bigquery, sql, location, new PartitionRange(from, partitionTo), from, maxBytesBilled);
+
+        // 리소스 비용은 NUMERIC으로 합산해 그대로 BigDecimal로 받는다 (작은 금액이 많은 리소스의 double 오차 방지)
+        Map<ResourceKey, BigDecimal> totals = new HashMap<>();
+        long[] rows = {0};
+        long bytesProcessed = execute(bigquery, location, sql, ranges, from, maxBytesBilled, row -> {
+            ResourceKey key = new ResourceKey(
+                    textOr(row, "project_id", ""),
+                    textOr(row, "project_number", ""),
+                    textOr(row, "resource_name", ""),
+                    textOr(row, "global_name", ""));
+            FieldValue netCost = row.get("net_cost");
+            totals.merge(key, netCost.isNull() ? BigDecimal.ZERO : netCost.getNumericValue(), BigDecimal::add);
+            rows[0]++;
+        });
+
+        List<BillingResourceCost> costs = new ArrayList<>(totals.size());
+        totals.forEach((key, cost) -> costs.add(
+                new BillingResourceCost(key.projectId(), key.projectNumber(), key.resourceName(), key.globalName(), cost)));
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("Queried resource costs for {} from {} in {} partition range(s): {} resource(s), {} bytes processed in {} ms",
+                month, table, ranges.size(), costs.size(), bytesProcessed, elapsed);
+        return new BillingResourceCostResult(rows[0], bytesProcessed, costs, elapsed);
+    }
+
+    /**
+     * 계획된 파티션 범위마다 쿼리를 실행하고 결과 행을 페이지 단위로 넘긴다. 처리한 바이트 합계를 반환한다.
+     */
+    private long execute(BigQuery bigquery, String location, String sql, List<PartitionRange> ranges, LocalDate from,
+                         long maxBytesBilled, Consumer<FieldValueList> rowHandler) {
+        long bytesProcessed = 0;
+        for (PartitionRange range : ranges) {
+            QueryJobConfiguration config = configure(sql, range, from)
+                    .setMaximumBytesBilled(maxBytesBilled)   // 예상과 달라도 상한을 넘으면 BigQuery가 실패시킨다
+                    .build();
+            try {
+                Job job = bigquery.create(JobInfo.newBuilder(config).setJobId(jobId(location)).build()).waitFor();
+                if (job == null) {
+                    throw new IllegalStateException("billing export 쿼리 작업이 사라졌습니다.");
+                }
+                if (job.getStatus().getError() != null) {
+                    throw new IllegalStateException("billing export 쿼리 실패: " + job.getStatus().getError().getMessage());
+                }
+                TableResult result = job.getQueryResults();
+                for (FieldValueList row : result.iterateAll()) {
+                    rowHandler.accept(row);
+                }
+                JobStatistics.QueryStatistics stats = job.getStatistics();
+                if (stats != null && stats.getTotalBytesProcessed() != null) {
+                    bytesProcessed += stats.getTotalBytesProcessed();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("billing export 쿼리가 중단되었습니다.", e);
+            }
+        }
+        return bytesProcessed;
+    }
+
+    /**
+     * dry-run으로 범위별 스캔량을 확인해 상한 안에 드는 범위 목록을 만든다.
+     */
+    private List<PartitionRange> plan(BigQuery bigquery, String sql, String location, PartitionRange range,
+                                      LocalDate usageFrom, long maxBytesBilled) {
+        long estimated = dryRun(bigquery, sql, location, range, usageFrom);
+        if (estimated <= maxBytesBilled) {
+            return List.of(range);
+        }
+        if (range.days() <= 1) {
+            throw new IllegalStateException(String.format(
+                    "billing export 파티션 %s 하루 스캔량(%d bytes)이 상한(%d bytes)을 넘어 실행하지 않습니다.",
+                    range.from(), estimated, maxBytesBilled));
+        }
+        LocalDate middle = range.from().plusDays(range.days() / 2);
+        List<PartitionRange> planned = new ArrayList<>();
+        planned.addAll(plan(bigquery, sql, location, new PartitionRange(range.from(), middle), usageFrom, maxBytesBilled));
+        planned.addAll(plan(bigquery, sql, location, new PartitionRange(middle, range.to()), usageFrom, maxBytesBilled));
+        return planned;
+    }
+
+    private long dryRun(BigQuery bigquery, String sql, String location, PartitionRange range, LocalDate usageFrom) {
+        QueryJobConfiguration config = configure(sql, range, usageFrom)
+                .setDryRun(true)
+                .build();
+        Job job = bigquery.create(JobInfo.newBuilder(config).setJobId(jobId(location)).build());
+        JobStatistics.QueryStatistics stats = job.getStatistics();
+        return stats.getTotalBytesProcessed() == null ? 0L : stats.getTotalBytesProcessed();
+    }
+
+    private QueryJobConfiguration.Builder configure(String sql, PartitionRange range, LocalDate usageFrom) {
+        return QueryJobConfiguration.newBuilder(sql)
+                .setUseLegacySql(false)
+                .setUseQueryCache(false)
+                .addNamedParameter("partitionFrom", timestamp(range.from()))
+                .addNamedParameter("partitionTo", timestamp(range.to()))
+                .addNamedParameter("usageFrom", timestamp(usageFrom));
+    }
+
+    private JobId jobId(String location) {
+        JobId.Builder builder = JobId.newBuilder();
+        if (location != null && !location.isBlank()) {
+            builder.setLocation(location);
+        }
+        return builder.build();
+    }
+
+    private QueryParameterValue timestamp(LocalDate date) {
+        return QueryParameterValue.timestamp(TimeUnit.SECONDS.toMicros(date.atStartOfDay(ZoneOffset.UTC).toEpochSecond()));
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private String textOr(FieldValueList row, String field, String fallback) {
+        String value = row.get(field).isNull() ? null : row.get(field).getStringValue();
+        return value == null || value.isEmpty() ? fallback : value;
+    }
+
+    private record PartitionRange(LocalDate from, LocalDate to) {
+        long days() {
+            return to.toEpochDay() - from.toEpochDay();
+        }
+    }
+
+    private record DailyKey(LocalDate usageDate, String service, String region) {
+    }
+
+    private record ResourceKey(String projectId, String projectNumber, String resourceName, String globalName) {
+    }
+}
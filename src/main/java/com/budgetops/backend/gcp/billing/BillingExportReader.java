@@ -0,0 +1,285 @@
+package com.budgetops.backend.gcp.billing;
+
+import com.budgetops.backend.cost.support.LongDoubleHashMap;
+import com.budgetops.backend.cost.support.StringDictionary;
+import com.budgetops.backend.gcp.config.GcpBillingIngestionProperties;
+import com.google.api.gax.rpc.ServerStream;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.CreateReadSessionRequest;
+import com.google.cloud.bigquery.storage.v1.DataFormat;
+import com.google.cloud.bigquery.storage.v1.ReadRowsRequest;
+import com.google.cloud.bigquery.storage.v1.ReadRowsResponse;
+import com.google.cloud.bigquery.storage.v1.ReadSession;
+import com.google.cloud.bigquery.storage.v1.ReadStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorLoader;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.ipc.ReadChannel;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.arrow.vector.ipc.message.MessageSerializer;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.arrow.vector.util.ByteArrayReadableSeekableByteChannel;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BigQuery Storage Read API로 billing export를 읽어 (일자, 서비스, 리전) 일별 합계로 줄인다.
+ * 필요한 컬럼만 Arrow 배치로 받고, 세션의 스트림들을 병렬로 읽어 스트림별 맵에 합산한 뒤 합친다.
+ */
+@Slf4j
+@Component
+public class BillingExportReader {
+
+    // 읽을 컬럼만 지정 (서버 측 projection)
+    private static final List<String> SELECTED_FIELDS = List.of(
+            "usage_start_time", "service.description", "location.region", "cost", "credits.amount");
+    private static final long MICROS_PER_DAY = 86_400_000_000L;
+    private static final int CODE_BITS = 24;
+    private static final long CODE_MASK = (1L << CODE_BITS) - 1;
+    private static final String NO_REGION = "global";
+
+    private final GcpBillingIngestionProperties properties;
+    private final ExecutorService gcpBillingReadExecutor;
+
+    public BillingExportReader(GcpBillingIngestionProperties properties,
+                               @Qualifier("gcpBillingReadExecutor") ExecutorService gcpBillingReadExecutor) {
+        this.properties = properties;
+        this.gcpBillingReadExecutor = gcpBillingReadExecutor;
+    }
+
+    /**
+     * from 이후 사용분을 일별 합계로 읽는다. 비용은 크레딧을 차감한 순비용이다.
+     *
+     * @param client 계정별로 캐시된 Storage Read 클라이언트 (여기서 닫지 않는다)
+     * @param table  "projects/{p}/datasets/{d}/tables/{t}"
+     */
+    public BillingExportResult read(BigQueryReadClient client, String parentProjectId, String table, LocalDate from) {
+        long startedAt = System.currentTimeMillis();
+        // ingestion-time 파티션 테이블이라 usage_start_time보다 먼저 파티션으로 잘라낸다 (사용일 이전 파티션에는 해당 행이 없다)
+        String restriction = String.format("_PARTITIONTIME >= TIMESTAMP('%s') AND usage_start_time >= TIMESTAMP('%s')", from, from);
+
+        try (BufferAllocator allocator = new RootAllocator()) {
+
+            ReadSession session = client.createReadSession(CreateReadSessionRequest.newBuilder()
+                    .setParent("projects/" + parentProjectId)
+                    .setReadSession(ReadSession.newBuilder()
+                            .setTable(table)
+                            .setDataFormat(DataFormat.ARROW)
+                            .setReadOptions(ReadSession.TableReadOptions.newBuilder()
+                                    .addAllSelectedFields(SELECTED_FIELDS)
+                                    .setRowRestriction(restriction)))
+                    .setMaxStreamCount(Math.max(1, properties.getMaxStreams()))
+                    .build());
+
+            Schema schema = MessageSerializer.deserializeSchema(new ReadChannel(new ByteArrayReadableSeekableByteChannel(
+                    session.getArrowSchema().getSerializedSchema().toByteArray())));
+
+            // 스트림 간 공유 사전 (스레드 안전), 합계 맵은 스트림별로 두고 마지막에 합친다
+            StringDictionary dictionary = new StringDictionary();
+            long fromDay = from.toEpochDay();
+            AtomicLong rows = new AtomicLong();
+            StreamCancellation cancellation = new StreamCancellation();
+            List<Future<LongDoubleHashMap>> futures = new ArrayList<>();
+            for (ReadStream stream : session.getStreamsList()) {
+                futures.add(gcpBillingReadExecutor.submit(() ->
+                        readStream(client, stream.getName(), schema, allocator, dictionary, fromDay, rows, cancellation)));
+            }
+
+            LongDoubleHashMap totals = new LongDoubleHashMap();
+            try {
+                for (Future<LongDoubleHashMap> future : futures) {
+                    totals.addAll(future.get());
+                }
+            } catch (InterruptedException | ExecutionException | RuntimeException e) {
+                // 남은 스트림이 allocator를 쓰는 중에 닫히지 않도록 모두 취소하고 끝날 때까지 기다린다
+                cancellation.cancel();
+                awaitAll(futures);
+                throw e;
+            }
+
+            List<BillingDailyCost> daily = new ArrayList<>(totals.size());
+            totals.forEach((key, cost) -> daily.add(new BillingDailyCost(
+                    LocalDate.ofEpochDay(fromDay + (key >>> (2 * CODE_BITS))),
+                    dictionary.decode((int) ((key >>> CODE_BITS) & CODE_MASK)),
+                    dictionary.decode((int) (key & CODE_MASK)),
+                    cost)));
+
+            long elapsed = System.currentTimeMillis() - startedAt;
+            log.info("Read {} billing export row(s) from {} in {} stream(s) into {} daily aggregate(s) in {} ms",
+                    rows.get(), table, session.getStreamsCount(), daily.size(), elapsed);
+            return new BillingExportResult(rows.get(), 0L, daily, elapsed);
+        } catch (IOException e) {
+            throw new RuntimeException("billing export Arrow 스키마 해석 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("billing export 읽기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("billing export 스트림 읽기 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private LongDoubleHashMap readStream(BigQueryReadClient client, String streamName, Schema schema,
+                                         BufferAllocator parent, StringDictionary dictionary,
+                                         long fromDay, AtomicLong rows, StreamCancellation cancellation) throws IOException {
+        LongDoubleHashMap totals = new LongDoubleHashMap();
+        try (BufferAllocator allocator = parent.newChildAllocator(streamName, 0, Long.MAX_VALUE);
+             VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator)) {
+            VectorLoader loader = new VectorLoader(root);
+            // 스트림이 끊기면 클라이언트가 읽은 offset부터 자동으로 이어 받는다
+            if (cancellation.isCancelled()) {
+                return totals;
+            }
+            ServerStream<ReadRowsResponse> responses = client.readRowsCallable()
+                    .call(ReadRowsRequest.newBuilder().setReadStream(streamName).build());
+            cancellation.register(responses);
+            for (ReadRowsResponse response : responses) {
+                if (cancellation.isCancelled()) {
+                    break;
+                }
+                if (!response.hasArrowRecordBatch()) {
+                    continue;
+                }
+                try (ArrowRecordBatch batch = MessageSerializer.deserializeRecordBatch(
+                        new ReadChannel(new ByteArrayReadableSeekableByteChannel(
+                                response.getArrowRecordBatch().getSerializedRecordBatch().toByteArray())),
+                        allocator)) {
+                    loader.load(batch);
+                }
+                aggregate(root, dictionary, fromDay, totals);
+                rows.addAndGet(root.getRowCount());
+                root.clear();
+            }
+        }
+        return totals;
+    }
+
+    private void aggregate(VectorSchemaRoot root, StringDictionary dictionary, long fromDay, LongDoubleHashMap totals) {
+        TimeStampVector usageStart = (TimeStampVector) root.getVector("usage_start_time");
+        VarCharVector service = child(root.getVector("service"), "description");
+        VarCharVector region = child(root.getVector("location"), "region");
+        Float8Vector cost = (Float8Vector) root.getVector("cost");
+        ListVector credits = (ListVector) root.getVector("credits");
+        Float8Vector creditAmounts = child(credits.getDataVector(), "amount");
+
+        // 같은 서비스/리전이 연달아 나오는 경우가 많아 직전 바이트와 같으면 사전 조회를 건너뛴다
+        byte[] lastService = null;
+        byte[] lastRegion = null;
+        int serviceCode = -1;
+        int regionCode = -1;
+
+        int rowCount = root.getRowCount();
+        for (int i = 0; i < rowCount; i++) {
+            if (usageStart.isNull(i) || cost.isNull(i)) {
+                continue;
+            }
+            double amount = cost.get(i);
+            if (!credits.isNull(i)) {
+                for (int c = credits.getElementStartIndex(i), end = credits.getElementEndIndex(i); c < end; c++) {
+                    if (!creditAmounts.isNull(c)) {
+                        amount += creditAmounts.get(c);   // 크레딧은 음수로 기록된다
+                    }
+                }
+            }
+
+            byte[] serviceBytes = service.isNull(i) ? null : service.get(i);
+            if (serviceCode < 0 || !Arrays.equals(serviceBytes, lastService)) {
+                serviceCode = encode(dictionary, serviceBytes, "Unknown");
+                lastService = serviceBytes;
+            }
+            byte[] regionBytes = region.isNull(i) ? null : region.get(i);
+            if (regionCode < 0 || !Arrays.equals(regionBytes, lastRegion)) {
+                regionCode = encode(dictionary, regionBytes, NO_REGION);
+                lastRegion = regionBytes;
+            }
+
+            // 사용일은 UTC 기준
+            long dayOffset = Math.floorDiv(usageStart.get(i), MICROS_PER_DAY) - fromDay;
+            long key = (dayOffset << (2 * CODE_BITS)) | ((long) serviceCode << CODE_BITS) | regionCode;
+            totals.add(key, amount);
+        }
+    }
+
+    private int encode(StringDictionary dictionary, byte[] value, String fallback) {
+        int code = dictionary.encode(value == null || value.length == 0 ? fallback : new String(value, StandardCharsets.UTF_8));
+        if (code > CODE_MASK) {
+            throw new IllegalStateException("billing export 서비스/리전 값이 너무 많습니다.");
+        }
+        return code;
+    }
+
+    /**
+     * 취소한 작업까지 모두 끝날 때까지 기다린다. 대기 중 인터럽트는 끝난 뒤 다시 설정한다.
+     */
+    private static void awaitAll(List<? extends Future<?>> futures) {
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 한 번의 read에서 연 스트림들을 함께 취소한다.
+     * 취소 뒤에 열린 스트림도 등록 시점에 바로 취소한다.
+     */
+    private static final class StreamCancellation {
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final Queue<ServerStream<?>> streams = new ConcurrentLinkedQueue<>();
+
+        boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        void register(ServerStream<?> stream) {
+            streams.add(stream);
+            if (cancelled.get()) {
+                stream.cancel();
+            }
+        }
+
+        void cancel() {
+            cancelled.set(true);
+            streams.forEach(ServerStream::cancel);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends FieldVector> T child(FieldVector struct, String name) {
+        return (T) ((StructVector) struct).getChild(name);
+    }
+}
@@ -0,0 +1,12 @@
+package com.budgetops.backend.gcp.billing;
+
+import java.util.List;
+
+/**
+ * billing export 읽기 결과
+ *
+ * @param rowsRead       읽은 행 수 (쿼리 방식은 집계 결과 행 수)
+ * @param bytesProcessed 쿼리가 처리한 바이트 (Storage Read 방식은 0)
+ */
+public record BillingExportResult(long rowsRead, long bytesProcessed, List<BillingDailyCost> daily, long elapsedMs) {
+}
@@ -0,0 +1,125 @@
+package com.budgetops.backend.gcp.billing;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.QueryParameterValue;
+import com.google.cloud.bigquery.TableResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * billing export 테이블 탐색
+ * 데이터셋의 테이블을 하나씩 getTable 하지 않고, __TABLES__ 메타 테이블 쿼리 한 번으로 가장 최근 테이블을 찾는다.
+ * 결과는 (데이터셋, 접두어)별로 캐시하고, refresh-interval이 지나면 알고 있는 수정 시각 이후 바뀐 테이블만 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class BillingExportTableDiscovery {
+
+    public static final String ANY_EXPORT_PREFIX = "gcp_billing_export_";
+    private static final String STANDARD_PREFIX = "gcp_billing_export_v1_";
+    private static final String RESOURCE_PREFIX = "gcp_billing_export_resource_v1_";
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_.:-]+");
+
+    private static final String LATEST_SQL = """
+            SELECT table_id, last_modified_time, row_count, size_bytes
+            FROM `%s.%s.__TABLES__`
+            WHERE STARTS_WITH(table_id, @prefix) AND last_modified_time > @modifiedAfter
+            ORDER BY last_modified_time DESC
+            LIMIT 1
+            """;
+
+    private final Duration refreshInterval;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public BillingExportTableDiscovery(@Value("${app.gcp.billing-export.discovery-refresh:5m}") Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * 결제 계정의 표준 사용량 비용 export 테이블 (gcp_billing_export_v1_{billingAccountId})
+     */
+    public static String standardPrefix(String billingAccountId) {
+        return STANDARD_PREFIX + billingAccountId.replace('-', '_');
+    }
+
+    /**
+     * 결제 계정의 리소스 단위(상세) 사용량 비용 export 테이블 (gcp_billing_export_resource_v1_{billingAccountId})
+     */
+    public static String resourcePrefix(String billingAccountId) {
+        return RESOURCE_PREFIX + billingAccountId.replace('-', '_');
+    }
+
+    /**
+     * prefix로 시작하는 테이블 중 가장 최근에 수정된 테이블
+     */
+    public Optional<ExportTable> latest(BigQuery bigquery, String projectId, String datasetId, String prefix) {
+        if (!IDENTIFIER.matcher(projectId).matches() || !IDENTIFIER.matcher(datasetId).matches()) {
+            throw new IllegalArgumentException("잘못된 프로젝트/데이터셋 ID 입니다.");
+        }
+        String key = projectId + "." + datasetId + "/" + prefix;
+        Instant now = Instant.now();
+        Entry cached = cache.get(key);
+        if (cached != null && cached.checkedAt().plus(refreshInterval).isAfter(now)) {
+            return Optional.ofNullable(cached.table());
+        }
+
+        // 이미 아는 테이블보다 나중에 바뀐 것만 조회 (없으면 기존 결과 유지)
+        long modifiedAfter = cached != null && cached.table() != null ? cached.table().lastModifiedMillis() : 0L;
+        ExportTable found = query(bigquery, projectId, datasetId, prefix, modifiedAfter);
+        ExportTable latest = found != null ? found : (cached != null ? cached.table() : null);
+        cache.put(key, new Entry(latest, now));
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * 데이터셋 설정이 바뀌었을 때 등 캐시를 버린다.
+     */
+    public void evict(String projectId, String datasetId) {
+        String datasetKey = projectId + "." + datasetId + "/";
+        cache.keySet().removeIf(key -> key.startsWith(datasetKey));
+    }
+
+    private ExportTable query(BigQuery bigquery, String projectId, String datasetId, String prefix, long modifiedAfter) {
+        QueryJobConfiguration config = QueryJobConfiguration.newBuilder(String.format(LATEST_SQL, projectId, datasetId))
+                .setUseLegacySql(false)
+                .addNamedParameter("prefix", QueryParameterValue.string(prefix))
+                .addNamedParameter("modifiedAfter", QueryParameterValue.int64(modifiedAfter))
+                .build();
+        try {
+            TableResult result = bigquery.query(config);
+            for (FieldValueList row : result.iterateAll()) {
+                return new ExportTable(
+                        row.get("table_id").getStringValue(),
+                        row.get("last_modified_time").getLongValue(),
+                        row.get("row_count").isNull() ? 0L : row.get("row_count").getLongValue(),
+                        row.get("size_bytes").isNull() ? 0L : row.get("size_bytes").getLongValue());
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("billing export 테이블 조회가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * export 테이블과 최신성
+     */
+    public record ExportTable(String tableId, long lastModifiedMillis, long rowCount, long sizeBytes) {
+        public Instant lastModified() {
+            return Instant.ofEpochMilli(lastModifiedMillis);
+        }
+    }
+
+    private record Entry(ExportTable table, Instant checkedAt) {
+    }
+}
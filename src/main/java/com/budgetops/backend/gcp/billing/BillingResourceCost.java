@@ -0,0 +1,13 @@
+package com.budgetops.backend.gcp.billing;
+
+import java.math.BigDecimal;
+
+/**
+ * 리소스 단위 billing export의 리소스별 순비용 (크레딧 포함)
+ *
+ * @param projectNumber 프로젝트 번호 (리소스 이름에 번호만 있는 버킷 등과 맞출 때 쓴다)
+ * @param globalName    서비스가 채우는 전역 리소스 이름 (없으면 빈 문자열)
+ */
+public record BillingResourceCost(String projectId, String projectNumber, String resourceName, String globalName,
+                                  BigDecimal cost) {
+}
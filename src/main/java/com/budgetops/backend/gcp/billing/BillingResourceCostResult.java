@@ -0,0 +1,13 @@
+package com.budgetops.backend.gcp.billing;
+
+import java.util.List;
+
+/**
+ * 리소스별 비용 집계 결과
+ *
+ * @param rowsRead       쿼리 결과 행 수 (파티션 범위를 나눈 경우 범위별 합)
+ * @param bytesProcessed 쿼리가 처리한 바이트
+ */
+public record BillingResourceCostResult(long rowsRead, long bytesProcessed, List<BillingResourceCost> costs,
+                                        long elapsedMs) {
+}
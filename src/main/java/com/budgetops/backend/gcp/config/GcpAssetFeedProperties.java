@@ -0,0 +1,36 @@
+package com.budgetops.backend.gcp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cloud Asset feed(Pub/Sub push) 수신 설정 (app.gcp.asset-feed)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.gcp.asset-feed")
+public class GcpAssetFeedProperties {
+
+    /** push 구독 OIDC 토큰의 audience (설정하면 Authorization 헤더의 토큰을, 아니면 계정별 token 파라미터를 검증) */
+    private String audience;
+
+    /** push 구독에 지정한 서비스 계정 이메일 (OIDC 토큰의 확인된 email과 비교, audience를 설정하면 필수) */
+    private String serviceAccountEmail;
+
+    /** 한 번에 DB에 반영할 최대 변경 수 */
+    private int batchSize = 500;
+
+    /** 배치가 차지 않아도 반영하는 최대 대기 시간 */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /** 수신 대기열 크기 (가득 차면 503으로 응답해 Pub/Sub이 재전송) */
+    private int queueCapacity = 10_000;
+
+    /** push 요청이 반영 커밋을 기다리는 최대 시간 (넘으면 503으로 응답해 Pub/Sub이 재전송) */
+    private Duration ackTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,56 @@
+package com.budgetops.backend.gcp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cloud Asset 인벤토리 수집 설정 (app.gcp.asset)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.gcp.asset")
+public class GcpAssetProperties {
+
+    /** 수집할 자산 유형 */
+    private List<AssetType> types = new ArrayList<>(List.of(new AssetType("compute.googleapis.com/Instance")));
+
+    /** 유형에 readMask가 없을 때 쓰는 응답 필드 (매핑하는 필드만) */
+    private String defaultReadMask = "name,asset_type,project,parent_full_resource_name,display_name,location,state,labels,update_time";
+
+    /** 유형별 검색을 동시에 실행할 최대 개수 (모든 동기화가 공유) */
+    private int maxConcurrency = 4;
+
+    /** 검색 결과 페이지를 writer에게 넘기는 큐 크기 */
+    private int queueCapacity = 16;
+
+    /** 이 간격이 지나면 증분 대신 전체 동기화 (삭제 감지) */
+    private Duration fullSyncInterval = Duration.ofHours(24);
+
+    /** 증분 기준 시각을 당겨 잡는 여유 (자산 updateTime 반영 지연 대비) */
+    private Duration incrementalOverlap = Duration.ofMinutes(10);
+
+    @Getter
+    @Setter
+    public static class AssetType {
+        /** 자산 유형 (예: compute.googleapis.com/Instance) */
+        private String type;
+        /** 서버 측 검색 조건 (예: "state:RUNNING AND labels.env:prod") */
+        private String query;
+        /** 응답 필드 마스크 (쉼표 구분, 비우면 defaultReadMask) */
+        private String readMask;
+
+        public AssetType() {
+        }
+
+        public AssetType(String type) {
+            this.type = type;
+        }
+    }
+}
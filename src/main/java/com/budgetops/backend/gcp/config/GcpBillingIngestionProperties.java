@@ -0,0 +1,41 @@
+package com.budgetops.backend.gcp.config;
+
+import com.budgetops.backend.gcp.enums.BillingIngestionMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * billing export 적재 설정 (app.gcp.billing-ingestion)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.gcp.billing-ingestion")
+public class GcpBillingIngestionProperties {
+
+    /** 주기 적재 사용 여부 (수동 적재 API는 항상 사용 가능) */
+    private boolean enabled = false;
+
+    /** 적재 방식 */
+    private BillingIngestionMode mode = BillingIngestionMode.STORAGE_READ;
+
+    /** QUERY 방식에서 쿼리 하나의 최대 스캔량 (계정별 billingMaxBytesBilled가 있으면 그 값을 쓴다) */
+    private DataSize maxBytesBilled = DataSize.ofGigabytes(10);
+
+    /** Storage Read 세션의 최대 스트림 수 (병렬 읽기 스레드 풀 크기이기도 하다) */
+    private int maxStreams = 8;
+
+    /** 첫 적재 시 읽을 과거 일수 */
+    private int initialBackfillDays = 31;
+
+    /** 이미 적재한 날짜도 다시 읽는 일수 (billing export는 며칠 동안 늦게 도착·정정된다) */
+    private int lookbackDays = 3;
+
+    /** 실행 중 표시가 이보다 오래되면 중단된 실행으로 보고 새 실행을 허용한다 */
+    private Duration runTimeout = Duration.ofHours(1);
+}
@@ -0,0 +1,41 @@
+package com.budgetops.backend.gcp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class GcpInventoryConfig {
+
+    /**
+     * 자산 유형별 검색 스레드 풀. 크기가 전체 동시 검색 수의 상한이 된다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService gcpAssetSearchExecutor(GcpAssetProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "gcp-asset-search-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(Math.max(1, properties.getMaxConcurrency()), threadFactory);
+    }
+
+    /**
+     * billing export Storage Read 스트림 병렬 읽기 스레드 풀
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService gcpBillingReadExecutor(GcpBillingIngestionProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "gcp-billing-read-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(Math.max(1, properties.getMaxStreams()), threadFactory);
+    }
+}
@@ -0,0 +1,68 @@
+package com.budgetops.backend.gcp.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * gcp_resources (gcp_account_id, resource_id) unique 제약 마이그레이션
+ * 배치 upsert(ON CONFLICT)는 이 제약이 있어야 동작한다. 기존 DB에 중복 행이 있으면 ddl-auto update가
+ * 제약 추가에 실패하고 경고만 남기므로, 스키마 갱신 뒤 중복을 정리하고 제약을 직접 추가한다.
+ * 제약이 이미 있으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class GcpResourceSchemaMigration implements InitializingBean {
+
+    private static final String CONSTRAINT = "uk_gcp_resources_account_resource";
+
+    // 같은 키의 행 중 가장 최근에 들어온(id가 큰) 행만 남긴다
+    private static final String DELETE_DUPLICATES = """
+            DELETE FROM gcp_resources WHERE id IN (
+                SELECT older.id FROM gcp_resources older
+                JOIN gcp_resources newer
+                  ON newer.gcp_account_id = older.gcp_account_id
+                 AND newer.resource_id = older.resource_id
+                 AND newer.id > older.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (hasConstraint()) {
+            return;
+        }
+        boolean postgres = "PostgreSQL".equalsIgnoreCase(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        transactionTemplate.executeWithoutResult(status -> {
+            if (postgres) {
+                // 정리와 제약 추가 사이에 다른 인스턴스의 insert가 끼어들지 않도록 잠근다 (조회는 허용)
+                jdbcTemplate.execute("LOCK TABLE gcp_resources IN SHARE ROW EXCLUSIVE MODE");
+            }
+            if (hasConstraint()) {
+                return;
+            }
+            int removed = jdbcTemplate.update(DELETE_DUPLICATES);
+            jdbcTemplate.execute("ALTER TABLE gcp_resources ADD CONSTRAINT " + CONSTRAINT
+                    + " UNIQUE (gcp_account_id, resource_id)");
+            log.info("Added {} to gcp_resources ({} duplicate row(s) removed)", CONSTRAINT, removed);
+        });
+    }
+
+    private boolean hasConstraint() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.table_constraints
+                WHERE LOWER(table_name) = 'gcp_resources' AND LOWER(constraint_name) = ?
+                """, Integer.class, CONSTRAINT);
+        return count != null && count > 0;
+    }
+}
@@ -2,6 +2,7 @@ package com.budgetops.backend.gcp.controller;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.budgetops.backend.gcp.dto.AssetScopeRequest;
 import com.budgetops.backend.gcp.dto.BillingAccountIdRequest;
 import com.budgetops.backend.gcp.dto.BillingTestResponse;
 import com.budgetops.backend.gcp.dto.GcpAccountResponse;
@@ -81,6 +83,15 @@ public class GcpAccountController {
         return ResponseEntity.ok(result);
     }
 
+    @PutMapping("/{id}/asset-scope")
+    public ResponseEntity<GcpAccountResponse> updateAssetScope(@PathVariable Long id, @RequestBody AssetScopeRequest request) {
+        try {
+            return ResponseEntity.ok(accountService.updateAssetScope(id, request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAccount(@PathVariable Long id) {
         try {
@@ -0,0 +1,46 @@
+package com.budgetops.backend.gcp.controller;
+
+import com.budgetops.backend.gcp.dto.AssetFeedBindingRequest;
+import com.budgetops.backend.gcp.dto.AssetFeedBindingResponse;
+import com.budgetops.backend.gcp.dto.PubSubPushRequest;
+import com.budgetops.backend.gcp.service.GcpAssetFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Cloud Asset feed push 수신 엔드포인트
+ * Pub/Sub은 2xx가 아니면 재전송하므로, 반영이 커밋되지 않았으면(대기열 가득 참, 실패, 시간 초과) 503으로 응답한다.
+ */
+@RestController
+@RequestMapping("/api/gcp")
+@RequiredArgsConstructor
+public class GcpAssetFeedController {
+
+    private final GcpAssetFeedService service;
+
+    @PostMapping("/accounts/{accountId}/asset-feed")
+    public ResponseEntity<Void> receive(@PathVariable Long accountId,
+                                        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                        @RequestParam(required = false) String token,
+                                        @RequestBody PubSubPushRequest request) {
+        if (!service.receive(accountId, authorization, token, request)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // 계정에 push 구독 연결 (token 방식 인증용 토큰을 새로 발급해 한 번만 내려준다)
+    @PutMapping("/accounts/{accountId}/asset-feed")
+    public ResponseEntity<AssetFeedBindingResponse> bind(@PathVariable Long accountId,
+                                                         @RequestBody AssetFeedBindingRequest request) {
+        try {
+            return ResponseEntity.ok(service.bind(accountId, request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.budgetops.backend.gcp.controller;
+
+import com.budgetops.backend.gcp.dto.PubSubPushRequest;
+import com.budgetops.backend.gcp.service.GcpAssetFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 로컬 개발용 asset feed 시뮬레이터
+ * Pub/Sub 없이 feed 메시지(JSON)를 push 봉투로 감싸 수신 처리와 같은 경로로 넣는다.
+ */
+@Profile("local")
+@RestController
+@RequestMapping("/api/gcp")
+@RequiredArgsConstructor
+public class GcpAssetFeedSimulatorController {
+
+    private final GcpAssetFeedService service;
+
+    @PostMapping("/accounts/{accountId}/asset-feed/simulate")
+    public ResponseEntity<Void> simulate(@PathVariable Long accountId, @RequestBody String feedMessage) {
+        PubSubPushRequest.Message message = new PubSubPushRequest.Message();
+        message.setData(Base64.getEncoder().encodeToString(feedMessage.getBytes(StandardCharsets.UTF_8)));
+        message.setAttributes(Map.of());
+        message.setMessageId(UUID.randomUUID().toString());
+        message.setPublishTime(Instant.now().toString());
+
+        PubSubPushRequest request = new PubSubPushRequest();
+        request.setMessage(message);
+        request.setSubscription("projects/local/subscriptions/asset-feed");
+
+        if (!service.receiveUnverified(accountId, request)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.budgetops.backend.gcp.controller;
+
+import com.budgetops.backend.gcp.dto.BillingIngestionResponse;
+import com.budgetops.backend.gcp.service.GcpBillingIngestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/gcp")
+@RequiredArgsConstructor
+public class GcpBillingController {
+
+    private final GcpBillingIngestionService service;
+
+    @PostMapping("/accounts/{accountId}/billing/ingest")
+    public ResponseEntity<BillingIngestionResponse> ingest(@PathVariable Long accountId) {
+        try {
+            return ResponseEntity.ok(service.ingest(accountId));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
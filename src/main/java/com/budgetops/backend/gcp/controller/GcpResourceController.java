@@ -1,10 +1,19 @@
 package com.budgetops.backend.gcp.controller;
 
 import com.budgetops.backend.gcp.dto.GcpResourceListResponse;
+import com.budgetops.backend.gcp.dto.ResourceCostAttributionResponse;
+import com.budgetops.backend.gcp.service.GcpResourceCostService;
+import com.budgetops.backend.gcp.service.GcpResourceRefreshService;
 import com.budgetops.backend.gcp.service.GcpResourceService;
+import com.budgetops.backend.inventory.dto.InventorySyncJobResponse;
+import com.budgetops.backend.inventory.paging.ResourcePageRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
 
 @RestController
 @RequestMapping("/api/gcp")
@@ -12,11 +21,62 @@ import org.springframework.web.bind.annotation.*;
 public class GcpResourceController {
 
     private final GcpResourceService service;
+    private final GcpResourceRefreshService refreshService;
+    private final GcpResourceCostService costService;
 
+    // 마지막 동기화 결과 (DB 기준, 커서 페이지, 다음 페이지는 응답의 nextCursor를 cursor로 전달)
     @GetMapping("/accounts/{accountId}/resources")
-    public ResponseEntity<GcpResourceListResponse> listResources(@PathVariable Long accountId) {
-        GcpResourceListResponse response = service.listResources(accountId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<GcpResourceListResponse> listResources(@PathVariable Long accountId,
+                                                                 @RequestParam(required = false) String resourceType,
+                                                                 @RequestParam(required = false) String region,
+                                                                 @RequestParam(required = false) String status,
+                                                                 @RequestParam(required = false) String sort,
+                                                                 @RequestParam(required = false) String direction,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer limit) {
+        ResourcePageRequest page;
+        try {
+            page = ResourcePageRequest.of(sort, direction, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        try {
+            return ResponseEntity.ok(service.getResources(accountId, resourceType, region, status, page));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    // 동기화 작업 등록 후 202 + jobId, 진행 상황은 /api/inventory/jobs/{jobId}로 조회
+    @PostMapping("/accounts/{accountId}/resources/refresh")
+    public ResponseEntity<InventorySyncJobResponse> refresh(@PathVariable Long accountId,
+                                                            @RequestParam(defaultValue = "false") boolean full) {
+        // full=true면 증분 조건과 관계없이 전체 동기화 (삭제 감지 포함)
+        try {
+            InventorySyncJobResponse job = refreshService.requestRefresh(accountId, full);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/inventory/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
     }
-}
 
+    // 가장 최근 동기화 작업
+    @GetMapping("/accounts/{accountId}/resources/refresh")
+    public ResponseEntity<InventorySyncJobResponse> latestRefresh(@PathVariable Long accountId) {
+        return ResponseEntity.of(refreshService.latestJob(accountId));
+    }
+
+    // 리소스별 이번 달 비용 다시 계산 (리소스 단위 billing export 집계 1회)
+    @PostMapping("/accounts/{accountId}/resources/costs/refresh")
+    public ResponseEntity<ResourceCostAttributionResponse> refreshCosts(@PathVariable Long accountId) {
+        try {
+            return ResponseEntity.ok(costService.attribute(accountId));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.budgetops.backend.gcp.controller;
+
+import com.budgetops.backend.gcp.dto.GcpVmAlert;
+import com.budgetops.backend.gcp.service.GcpVmAlertService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/gcp")
+@RequiredArgsConstructor
+public class GcpVmAlertController {
+
+    private final GcpVmAlertService service;
+
+    @PostMapping("/accounts/{accountId}/vm-alerts/check")
+    public ResponseEntity<List<GcpVmAlert>> checkAccount(@PathVariable Long accountId) {
+        return ResponseEntity.ok(service.checkAccount(accountId));
+    }
+
+    @PostMapping("/vm-alerts/check")
+    public ResponseEntity<List<GcpVmAlert>> checkAllAccounts() {
+        return ResponseEntity.ok(service.checkAllAccounts());
+    }
+}
@@ -0,0 +1,10 @@
+package com.budgetops.backend.gcp.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AssetFeedBindingRequest {
+    private String subscription;    // push 구독 이름 (projects/{project}/subscriptions/{name})
+}
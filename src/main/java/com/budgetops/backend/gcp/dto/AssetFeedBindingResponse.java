@@ -0,0 +1,17 @@
+package com.budgetops.backend.gcp.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * asset feed push 구독 연결 결과
+ * verificationToken은 발급할 때만 내려준다 (OIDC를 쓰지 않으면 pushEndpoint의 token 파라미터로 설정).
+ */
+@Getter
+@Setter
+public class AssetFeedBindingResponse {
+    private Long accountId;
+    private String subscription;
+    private String pushEndpoint;
+    private String verificationToken;
+}
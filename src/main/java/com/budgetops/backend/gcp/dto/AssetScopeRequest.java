@@ -0,0 +1,11 @@
+package com.budgetops.backend.gcp.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AssetScopeRequest {
+    private String scopeType;   // "PROJECT" | "FOLDER" | "ORGANIZATION"
+    private String scopeId;     // 프로젝트 ID, 폴더 번호 또는 조직 번호
+}
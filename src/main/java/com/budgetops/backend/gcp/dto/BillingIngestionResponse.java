@@ -0,0 +1,21 @@
+package com.budgetops.backend.gcp.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class BillingIngestionResponse {
+    private Long accountId;
+    private LocalDate from;
+    private LocalDate through;
+    private boolean upToDate;   // 마지막 적재 이후 export 테이블이 바뀌지 않아 읽지 않음
+    private boolean inProgress; // 다른 실행이 이미 적재 중이라 건너뜀
+    private long rowsRead;
+    private long bytesProcessed;
+    private int dailyAggregates;
+    private int changedFacts;
+    private long elapsedMs;
+}
@@ -3,12 +3,15 @@ package com.budgetops.backend.gcp.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 public class BillingTestResponse {
     private boolean ok;
     private boolean datasetExists;
     private String latestTable;
+    private Instant latestTableModifiedAt;
     private String message;
 
     public boolean isOk() {
@@ -11,6 +11,7 @@ public class GcpAccountResponse {
     private String serviceAccountName;  // serviceAccountId @ 앞부분 (예: "budgetops")
     // private String projectName;  // TODO: 프로젝트 이름 부분 (예: "My First Project")
     private String projectId;   // projectId (예: "elated-bison-476314-f8")
+    private String assetScope;  // 리소스 검색 범위 (예: "organizations/123456789")
     private Instant createdAt;
 }
 
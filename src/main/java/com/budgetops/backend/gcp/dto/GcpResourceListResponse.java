@@ -3,6 +3,7 @@ package com.budgetops.backend.gcp.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.util.List;
 
 @Getter
@@ -10,6 +11,10 @@ import java.util.List;
 public class GcpResourceListResponse {
     private Long accountId;
     private String projectId;
+    // 목록이 반영하는 마지막 동기화 시각 (null이면 아직 동기화 전)
+    private Instant lastSyncedAt;
     private List<GcpResourceResponse> resources;
+    // 다음 페이지 커서 (null이면 마지막 페이지)
+    private String nextCursor;
 }
 
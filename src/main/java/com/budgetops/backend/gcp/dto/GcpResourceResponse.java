@@ -5,6 +5,7 @@ import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -12,9 +13,23 @@ public class GcpResourceResponse {
     private String resourceName;
     private String resourceType;
     private String resourceTypeShort;
+    private String projectId;
     private BigDecimal monthlyCost;
     private String region;
     private String status;
     private Instant lastUpdated;
+    private Map<String, String> labels;
+
+    // 예: "compute.googleapis.com/Instance" -> "Instance"
+    public static String shortType(String resourceType) {
+        if (resourceType == null || resourceType.isEmpty()) {
+            return null;
+        }
+        int lastSlashIndex = resourceType.lastIndexOf('/');
+        if (lastSlashIndex >= 0 && lastSlashIndex < resourceType.length() - 1) {
+            return resourceType.substring(lastSlashIndex + 1);
+        }
+        return resourceType;
+    }
 }
 
@@ -0,0 +1,42 @@
+package com.budgetops.backend.gcp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * GCP VM 사용률 규칙 위반 알림
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GcpVmAlert {
+    private Long accountId;
+    private String projectId;
+    private String instanceId;
+    private String instanceName;
+    private String ruleId;
+    private String ruleTitle;
+    private String violatedMetric;
+    private Double currentValue;
+    private Double threshold;
+    private String message;
+    private AlertSeverity severity;
+    private AlertStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+    public enum AlertSeverity {
+        INFO, WARNING, CRITICAL
+    }
+
+    public enum AlertStatus {
+        PENDING, SENT
+    }
+}
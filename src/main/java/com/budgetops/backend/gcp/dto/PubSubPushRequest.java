@@ -0,0 +1,25 @@
+package com.budgetops.backend.gcp.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * Pub/Sub push 구독 요청 본문
+ */
+@Getter
+@Setter
+public class PubSubPushRequest {
+    private Message message;
+    private String subscription;
+
+    @Getter
+    @Setter
+    public static class Message {
+        private String data;                    // base64 인코딩된 Cloud Asset feed 메시지(JSON)
+        private Map<String, String> attributes;
+        private String messageId;
+        private String publishTime;
+    }
+}
@@ -0,0 +1,21 @@
+package com.budgetops.backend.gcp.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Getter
+@Setter
+public class ResourceCostAttributionResponse {
+    private Long accountId;
+    private YearMonth month;
+    private boolean upToDate;       // 마지막 계산 이후 리소스 export 테이블이 바뀌지 않아 읽지 않음
+    private long billedResources;   // export에서 비용이 잡힌 리소스 수
+    private int matchedResources;   // 인벤토리 리소스 중 비용을 찾은 수
+    private int updatedResources;   // 값이 바뀌어 갱신한 행 수
+    private BigDecimal unmatchedCost;   // 인벤토리에 없는 리소스의 비용 합계 (삭제된 리소스, 미수집 유형 등)
+    private long bytesProcessed;
+    private long elapsedMs;
+}
@@ -8,13 +8,17 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.Convert;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import com.budgetops.backend.aws.support.CryptoStringConverter;
+import com.budgetops.backend.gcp.enums.GcpAssetScopeType;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
+import java.time.LocalDate;
 
 @Getter
 @Setter
@@ -49,9 +53,69 @@ public class GcpAccount {
     @Column(columnDefinition = "TEXT")
     private String encryptedServiceAccountKey;
 
+    // 리소스 검색 범위 (비어 있으면 projectId 프로젝트)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private GcpAssetScopeType assetScopeType;
+
+    @Column(length = 128)
+    private String assetScopeId;
+
+    // asset feed push 구독 (projects/{project}/subscriptions/{name}, 이 구독에서 온 push만 이 계정에 반영)
+    @Column
+    private String assetFeedSubscription;
+
+    // OIDC를 쓰지 않을 때 push URL의 token 파라미터와 비교하는 계정별 토큰
+    @Convert(converter = CryptoStringConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private String assetFeedToken;
+
+    // 리소스 동기화 세대 (동기화마다 1씩 증가, 이보다 오래된 리소스는 삭제 대상)
+    @Column
+    private Long resourceSyncGeneration;
+
+    // 증분 동기화 기준 시각 (이 시각 이후 변경된 자산만 조회)
+    @Column
+    private Instant lastResourceSyncAt;
+
+    // 마지막 전체 동기화 시각 (삭제 감지는 전체 동기화에서만 수행)
+    @Column
+    private Instant lastFullResourceSyncAt;
+
+    // 마지막 전체 동기화의 스캔 조건 지문 (범위·유형·쿼리·필드 마스크). 조건이 바뀌면 증분 대신 전체 동기화
+    @Column(length = 64)
+    private String lastFullScanFingerprint;
+
+    // billing export 적재 워터마크 (이 날짜까지 일별 합계를 적재함, 다음 적재는 lookback만큼 겹쳐 다시 읽는다)
+    @Column
+    private LocalDate billingIngestedThrough;
+
+    @Column
+    private Instant billingIngestedAt;
+
+    // 진행 중인 billing export 적재의 시작 시각 (실행 중 표시, 끝나면 비운다)
+    @Column
+    private Instant billingIngestStartedAt;
+
+    // 쿼리 방식 적재 시 쿼리 하나의 스캔 상한 (bytes, 비어 있으면 기본 설정)
+    @Column
+    private Long billingMaxBytesBilled;
+
+    // 리소스별 월 비용(GcpResource.monthlyCost)을 마지막으로 계산한 시각
+    @Column
+    private Instant resourceCostsUpdatedAt;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
-}
-
 
+    /**
+     * Cloud Asset 검색 scope (예: projects/my-project, organizations/123)
+     */
+    public String assetScope() {
+        if (assetScopeType == null || assetScopeId == null || assetScopeId.isBlank()) {
+            return GcpAssetScopeType.PROJECT.scope(projectId);
+        }
+        return assetScopeType.scope(assetScopeId);
+    }
+}
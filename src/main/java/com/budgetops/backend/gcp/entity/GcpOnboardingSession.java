@@ -0,0 +1,53 @@
+package com.budgetops.backend.gcp.entity;
+
+import com.budgetops.backend.aws.support.CryptoStringConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * GCP 연동 마법사 진행 상태 (사용자별, 만료 시각 이후 폐기)
+ * 여러 인스턴스가 같은 상태를 보도록 DB에 저장한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "gcp_onboarding_sessions",
+        indexes = @Index(name = "idx_gcp_onboarding_sessions_expires_at", columnList = "expiresAt"))
+public class GcpOnboardingSession {
+
+    // 로그인 사용자 식별자 (JWT subject)
+    @Id
+    @Column(length = 320)
+    private String ownerKey;
+
+    @Column(length = 320)
+    private String serviceAccountId;
+
+    @Convert(converter = CryptoStringConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private String encryptedServiceAccountKey;
+
+    @Column(length = 32)
+    private String billingAccountId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Version
+    private Long version;
+
+    public GcpOnboardingSession(String ownerKey) {
+        this.ownerKey = ownerKey;
+    }
+}
@@ -1,13 +1,22 @@
 package com.budgetops.backend.gcp.entity;
 
+import com.budgetops.backend.common.support.TagMapConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Map;
 
 @Entity
-@Table(name = "gcp_resources")
+@Table(name = "gcp_resources",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gcp_resources_account_resource",
+                columnNames = {"gcp_account_id", "resourceId"}),
+        // 목록 키셋 페이지용 (필터 컬럼, 정렬 컬럼, id) 인덱스
+        indexes = {
+                @Index(name = "idx_gcp_resources_account_id", columnList = "gcp_account_id, id"),
+                @Index(name = "idx_gcp_resources_account_name_id", columnList = "gcp_account_id, resourceName, id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,6 +36,14 @@ public class GcpResource {
     @Column(nullable = false)
     private String resourceName;
 
+    // 리소스가 속한 프로젝트 (조직/폴더 범위 검색 시 계정 프로젝트와 다를 수 있음)
+    @Column(length = 128)
+    private String projectId;
+
+    // 프로젝트 번호 (버킷 등 이름에 ID가 없는 유형은 번호만 알 수 있어 ID와 따로 둔다)
+    @Column(length = 32)
+    private String projectNumber;
+
     @Column
     private String region;
 
@@ -36,12 +53,25 @@ public class GcpResource {
     @Column
     private String description;
 
+    // 리소스 라벨 (JSON)
+    @Convert(converter = TagMapConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private Map<String, String> labels;
+
     @Column(precision = 19, scale = 2)
     private BigDecimal monthlyCost;
 
     @Column
     private Instant lastUpdated;
 
+    // Cloud Asset의 자산 변경 시각 (updateTime). 순서가 뒤바뀌어 도착한 feed가 더 최신 상태를 덮어쓰지 않게 비교한다
+    @Column
+    private Instant assetUpdatedAt;
+
+    // 마지막으로 이 리소스를 확인한 동기화 세대
+    @Column
+    private Long syncGeneration;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "gcp_account_id")
     private GcpAccount gcpAccount;
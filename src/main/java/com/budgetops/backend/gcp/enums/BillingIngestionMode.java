@@ -0,0 +1,11 @@
+package com.budgetops.backend.gcp.enums;
+
+/**
+ * billing export 적재 방식
+ */
+public enum BillingIngestionMode {
+    /** BigQuery Storage Read API로 필요한 컬럼만 병렬 스트림으로 읽어 로컬에서 합산 */
+    STORAGE_READ,
+    /** 파티션 조건을 건 집계 쿼리 (dry-run으로 스캔량을 확인한 뒤 상한을 걸어 실행) */
+    QUERY
+}
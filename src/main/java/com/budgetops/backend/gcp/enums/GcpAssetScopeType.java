@@ -0,0 +1,35 @@
+package com.budgetops.backend.gcp.enums;
+
+/**
+ * Cloud Asset 검색 범위
+ * 조직/폴더 범위는 한 번의 searchAllResources 스트림으로 하위 프로젝트 전체를 조회한다.
+ */
+public enum GcpAssetScopeType {
+    PROJECT("projects/"),
+    FOLDER("folders/"),
+    ORGANIZATION("organizations/");
+
+    private final String prefix;
+
+    GcpAssetScopeType(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * searchAllResources scope 문자열 (예: organizations/123456789)
+     */
+    public String scope(String id) {
+        return prefix + id;
+    }
+
+    public static GcpAssetScopeType from(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("scopeType은 필수입니다.");
+        }
+        try {
+            return GcpAssetScopeType.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 scopeType 입니다: " + value);
+        }
+    }
+}
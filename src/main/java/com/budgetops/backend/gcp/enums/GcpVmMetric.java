@@ -0,0 +1,76 @@
+package com.budgetops.backend.gcp.enums;
+
+import com.google.monitoring.v3.Aggregation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 알림 규칙 메트릭 키 ↔ Cloud Monitoring 메트릭
+ * AWS 규칙과 같은 단위가 되도록 scale을 곱한다 (CPU는 0~1 비율 → %, 네트워크는 5분당 MB).
+ */
+public enum GcpVmMetric {
+    CPU_UTILIZATION("cpu_utilization", "compute.googleapis.com/instance/cpu/utilization", "",
+            Aggregation.Aligner.ALIGN_MEAN, Aggregation.Reducer.REDUCE_MEAN, true, 100.0),
+    // Ops Agent가 설치된 VM에만 있다
+    MEMORY_UTILIZATION("memory_utilization", "agent.googleapis.com/memory/percent_used", " AND metric.label.state=\"used\"",
+            Aggregation.Aligner.ALIGN_MEAN, Aggregation.Reducer.REDUCE_MEAN, false, 1.0),
+    // 초당 바이트 → CloudWatch 기본 모니터링(5분 합계)과 같은 5분당 MB
+    NETWORK_IN("network_in", "compute.googleapis.com/instance/network/received_bytes_count", "",
+            Aggregation.Aligner.ALIGN_RATE, Aggregation.Reducer.REDUCE_SUM, true, 300.0 / (1024.0 * 1024.0)),
+    NETWORK_OUT("network_out", "compute.googleapis.com/instance/network/sent_bytes_count", "",
+            Aggregation.Aligner.ALIGN_RATE, Aggregation.Reducer.REDUCE_SUM, true, 300.0 / (1024.0 * 1024.0));
+
+    private final String key;
+    private final String metricType;
+    private final String extraFilter;
+    private final Aggregation.Aligner aligner;
+    private final Aggregation.Reducer reducer;
+    private final boolean hasInstanceName;
+    private final double scale;
+
+    GcpVmMetric(String key, String metricType, String extraFilter, Aggregation.Aligner aligner,
+                Aggregation.Reducer reducer, boolean hasInstanceName, double scale) {
+        this.key = key;
+        this.metricType = metricType;
+        this.extraFilter = extraFilter;
+        this.aligner = aligner;
+        this.reducer = reducer;
+        this.hasInstanceName = hasInstanceName;
+        this.scale = scale;
+    }
+
+    public static Optional<GcpVmMetric> fromKey(String key) {
+        return Arrays.stream(values()).filter(metric -> metric.key.equals(key)).findFirst();
+    }
+
+    public String filter() {
+        return String.format("metric.type=\"%s\" AND resource.type=\"gce_instance\"%s", metricType, extraFilter);
+    }
+
+    /**
+     * 인스턴스별 한 시계열로 모은다. compute 메트릭은 이름 라벨이 있어 함께 묶는다.
+     */
+    public List<String> groupByFields() {
+        return hasInstanceName
+                ? List.of("resource.label.instance_id", "metric.label.instance_name")
+                : List.of("resource.label.instance_id");
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Aggregation.Aligner getAligner() {
+        return aligner;
+    }
+
+    public Aggregation.Reducer getReducer() {
+        return reducer;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+}
@@ -2,13 +2,57 @@ package com.budgetops.backend.gcp.repository;
 
 import com.budgetops.backend.gcp.entity.GcpAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface GcpAccountRepository extends JpaRepository<GcpAccount, Long> {
     Optional<GcpAccount> findByServiceAccountId(String serviceAccountId);
     List<GcpAccount> findByBillingAccountId(String billingAccountId);
-}
 
+    @Modifying
+    @Query("update GcpAccount a set a.resourceSyncGeneration = :generation, a.lastResourceSyncAt = :syncedAt, " +
+            "a.lastFullResourceSyncAt = :syncedAt, a.lastFullScanFingerprint = :fingerprint where a.id = :id")
+    int markFullResourceSync(@Param("id") Long id, @Param("generation") Long generation, @Param("syncedAt") Instant syncedAt,
+                             @Param("fingerprint") String fingerprint);
+
+    @Modifying
+    @Query("update GcpAccount a set a.lastResourceSyncAt = :syncedAt where a.id = :id")
+    int markIncrementalResourceSync(@Param("id") Long id, @Param("syncedAt") Instant syncedAt);
+
+    List<GcpAccount> findByBillingExportDatasetIdIsNotNull();
+
+    /**
+     * 적재 실행을 시작 표시한다. 다른 실행이 진행 중이면(표시가 staleBefore 이후) 0을 반환한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update GcpAccount a set a.billingIngestStartedAt = :startedAt where a.id = :id " +
+            "and (a.billingIngestStartedAt is null or a.billingIngestStartedAt < :staleBefore)")
+    int claimBillingIngestion(@Param("id") Long id, @Param("startedAt") Instant startedAt,
+                              @Param("staleBefore") Instant staleBefore);
 
+    @Transactional
+    @Modifying
+    @Query("update GcpAccount a set a.billingIngestStartedAt = null where a.id = :id and a.billingIngestStartedAt = :startedAt")
+    int releaseBillingIngestion(@Param("id") Long id, @Param("startedAt") Instant startedAt);
+
+    /**
+     * 적재 완료를 기록한다. ingestedAt은 실행 시작 시각이며, 더 늦게 시작한 실행이 이미 기록했으면 덮어쓰지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update GcpAccount a set a.billingIngestedThrough = :through, a.billingIngestedAt = :ingestedAt " +
+            "where a.id = :id and (a.billingIngestedAt is null or a.billingIngestedAt < :ingestedAt)")
+    int markBillingIngested(@Param("id") Long id, @Param("through") LocalDate through, @Param("ingestedAt") Instant ingestedAt);
+
+    @Modifying
+    @Query("update GcpAccount a set a.resourceCostsUpdatedAt = :updatedAt where a.id = :id")
+    int markResourceCostsUpdated(@Param("id") Long id, @Param("updatedAt") Instant updatedAt);
+}
@@ -0,0 +1,40 @@
+package com.budgetops.backend.gcp.repository;
+
+import com.budgetops.backend.gcp.entity.GcpOnboardingSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface GcpOnboardingSessionRepository extends JpaRepository<GcpOnboardingSession, String> {
+
+    @Query("select s.version from GcpOnboardingSession s where s.ownerKey = :ownerKey and s.expiresAt > :now")
+    Optional<Long> findLiveVersion(@Param("ownerKey") String ownerKey, @Param("now") Instant now);
+
+    /**
+     * 사용자의 행이 없으면 빈 상태로 만든다. 동시에 처음 저장하는 요청이 있어도 한쪽만 insert되고 다른 쪽은 건너뛴다.
+     * 로컬 H2(PostgreSQL 모드)는 충돌 대상 없는 ON CONFLICT DO NOTHING만 받는다. 이 테이블의 unique 키는 owner_key뿐이라 같은 의미다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO gcp_onboarding_sessions (owner_key, expires_at, version)
+            VALUES (:ownerKey, :expiresAt, 0)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("ownerKey") String ownerKey, @Param("expiresAt") Instant expiresAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from GcpOnboardingSession s where s.ownerKey = :ownerKey")
+    Optional<GcpOnboardingSession> lockByOwnerKey(@Param("ownerKey") String ownerKey);
+
+    @Transactional
+    @Modifying
+    @Query("delete from GcpOnboardingSession s where s.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
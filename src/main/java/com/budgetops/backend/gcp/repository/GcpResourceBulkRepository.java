@@ -0,0 +1,208 @@
+package com.budgetops.backend.gcp.repository;
+
+import com.budgetops.backend.common.support.TagMapConverter;
+import com.budgetops.backend.gcp.entity.GcpResource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * gcp_resources 대량 쓰기 (JDBC 배치)
+ * IDENTITY 키라 Hibernate insert 배치가 동작하지 않으므로, 동기화 청크는 여기서 한 번의 배치 upsert로 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GcpResourceBulkRepository {
+
+    private static final String POSTGRES_UPSERT = """
+            INSERT INTO gcp_resources (gcp_account_id, resource_id, resource_type, resource_name, project_id,
+                                       project_number, region, status, description, last_updated, sync_generation,
+                                       labels, asset_updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (gcp_account_id, resource_id) DO UPDATE SET
+                resource_type = EXCLUDED.resource_type,
+                resource_name = EXCLUDED.resource_name,
+                project_id = EXCLUDED.project_id,
+                project_number = EXCLUDED.project_number,
+                region = EXCLUDED.region,
+                status = EXCLUDED.status,
+                description = EXCLUDED.description,
+                last_updated = EXCLUDED.last_updated,
+                sync_generation = EXCLUDED.sync_generation,
+                labels = EXCLUDED.labels,
+                asset_updated_at = EXCLUDED.asset_updated_at
+            """;
+
+    // asset feed는 순서가 보장되지 않으므로 저장된 자산 변경 시각보다 오래된 변경은 반영하지 않는다
+    private static final String POSTGRES_UPSERT_IF_NEWER = POSTGRES_UPSERT + """
+            WHERE gcp_resources.asset_updated_at IS NULL OR EXCLUDED.asset_updated_at IS NULL
+               OR gcp_resources.asset_updated_at <= EXCLUDED.asset_updated_at
+            """;
+
+    // 로컬 H2(PostgreSQL 모드)는 ON CONFLICT DO UPDATE를 지원하지 않아 MERGE ... KEY를 사용 (feed 순서 비교 없음)
+    private static final String H2_UPSERT = """
+            MERGE INTO gcp_resources (gcp_account_id, resource_id, resource_type, resource_name, project_id,
+                                      project_number, region, status, description, last_updated, sync_generation,
+                                      labels, asset_updated_at)
+            KEY (gcp_account_id, resource_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private volatile Boolean h2;
+
+    /**
+     * (gcp_account_id, resource_id) 기준 배치 upsert. monthly_cost는 건드리지 않는다.
+     */
+    public void upsert(Long accountId, List<GcpResource> resources) {
+        upsert(accountId, resources, isH2() ? H2_UPSERT : POSTGRES_UPSERT);
+    }
+
+    /**
+     * asset feed용 upsert: 저장된 assetUpdatedAt보다 오래된 변경은 건너뛴다.
+     */
+    public void upsertIfNewer(Long accountId, List<GcpResource> resources) {
+        upsert(accountId, resources, isH2() ? H2_UPSERT : POSTGRES_UPSERT_IF_NEWER);
+    }
+
+    private void upsert(Long accountId, List<GcpResource> resources, String sql) {
+        if (resources.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, resources, resources.size(), (ps, resource) -> {
+            ps.setLong(1, accountId);
+            ps.setString(2, resource.getResourceId());
+            ps.setString(3, resource.getResourceType());
+            ps.setString(4, resource.getResourceName());
+            ps.setString(5, resource.getProjectId());
+            ps.setString(6, resource.getProjectNumber());
+            ps.setString(7, resource.getRegion());
+            ps.setString(8, resource.getStatus());
+            ps.setString(9, resource.getDescription());
+            ps.setTimestamp(10, Timestamp.from(resource.getLastUpdated()));
+            ps.setLong(11, resource.getSyncGeneration());
+            ps.setString(12, TagMapConverter.toJson(resource.getLabels()));
+            ps.setTimestamp(13, resource.getAssetUpdatedAt() == null ? null : Timestamp.from(resource.getAssetUpdatedAt()));
+        });
+    }
+
+    /**
+     * 내용이 바뀌지 않은 리소스는 확인 시각과 세대만 한 문장으로 갱신한다 (mark).
+     */
+    public int touch(Collection<Long> ids, Instant lastUpdated, long generation) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("lastUpdated", Timestamp.from(lastUpdated))
+                .addValue("generation", generation);
+        return namedJdbcTemplate.update(
+                "UPDATE gcp_resources SET last_updated = :lastUpdated, sync_generation = :generation WHERE id IN (:ids)",
+                params);
+    }
+
+    /**
+     * 리소스별 월 비용을 배치로 갱신한다 (id → 비용, 바뀐 행만 넘긴다).
+     */
+    public void updateMonthlyCosts(Map<Long, BigDecimal> costs) {
+        if (costs.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, BigDecimal>> entries = new ArrayList<>(costs.entrySet());
+        jdbcTemplate.batchUpdate("UPDATE gcp_resources SET monthly_cost = ? WHERE id = ?", entries, BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+
+    /**
+     * 이번 동기화에서 확인되지 않은(세대가 오래된) 리소스를 한 문장으로 삭제한다 (sweep).
+     * 스캔 시작 이후에 쓰인 행(스캔 도중 asset feed가 반영한 리소스)은 세대와 관계없이 남긴다.
+     */
+    public int deleteOlderThan(Long accountId, long generation, Instant scanStartedAt) {
+        return jdbcTemplate.update("""
+                DELETE FROM gcp_resources WHERE gcp_account_id = ? AND (sync_generation IS NULL OR sync_generation < ?)
+                  AND (last_updated IS NULL OR last_updated < ?)
+                """, accountId, generation, Timestamp.from(scanStartedAt));
+    }
+
+    /**
+     * asset feed의 삭제 알림 반영 (리소스 ID → 삭제 시각). 삭제 시각보다 나중에 바뀐 행은 남긴다.
+     */
+    public void deleteUnlessNewer(Long accountId, Map<String, Instant> deletedAt) {
+        if (deletedAt.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Instant>> entries = new ArrayList<>(deletedAt.entrySet());
+        jdbcTemplate.batchUpdate("""
+                DELETE FROM gcp_resources WHERE gcp_account_id = ? AND resource_id = ?
+                  AND (asset_updated_at IS NULL OR asset_updated_at <= ?)
+                """, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, accountId);
+            ps.setString(2, entry.getKey());
+            ps.setTimestamp(3, Timestamp.from(entry.getValue()));
+        });
+    }
+
+    /**
+     * 리소스 ID 목록으로 한 문장 삭제 (삭제 시각을 모르는 asset feed 삭제 알림 반영)
+     */
+    public int deleteByResourceIds(Long accountId, Collection<String> resourceIds) {
+        if (resourceIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("resourceIds", resourceIds);
+        return namedJdbcTemplate.update(
+                "DELETE FROM gcp_resources WHERE gcp_account_id = :accountId AND resource_id IN (:resourceIds)", params);
+    }
+
+    /**
+     * 프로젝트 번호만 아는 리소스의 project_id를 같은 계정·같은 번호의 다른 리소스에서 채운다.
+     * (compute 등은 이름에 ID, project 필드에 번호가 함께 있어 번호 → ID 대응을 알려 준다)
+     */
+    public int fillProjectIds(Long accountId) {
+        return jdbcTemplate.update("""
+                UPDATE gcp_resources SET project_id = (
+                    SELECT MIN(known.project_id) FROM gcp_resources known
+                    WHERE known.gcp_account_id = gcp_resources.gcp_account_id
+                      AND known.project_number = gcp_resources.project_number
+                      AND known.project_id IS NOT NULL)
+                WHERE gcp_account_id = ? AND project_id IS NULL AND project_number IS NOT NULL
+                  AND EXISTS (
+                    SELECT 1 FROM gcp_resources known
+                    WHERE known.gcp_account_id = gcp_resources.gcp_account_id
+                      AND known.project_number = gcp_resources.project_number
+                      AND known.project_id IS NOT NULL)
+                """, accountId);
+    }
+
+    private boolean isH2() {
+        Boolean result = h2;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "H2".equalsIgnoreCase(product);
+            h2 = result;
+        }
+        return result;
+    }
+}
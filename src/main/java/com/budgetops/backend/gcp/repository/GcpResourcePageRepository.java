@@ -0,0 +1,66 @@
+package com.budgetops.backend.gcp.repository;
+
+import com.budgetops.backend.common.support.TagMapConverter;
+import com.budgetops.backend.gcp.dto.GcpResourceResponse;
+import com.budgetops.backend.inventory.paging.ResourcePage;
+import com.budgetops.backend.inventory.paging.ResourcePageRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * gcp_resources 목록 조회 (키셋 페이지, 응답 컬럼만 읽는 DTO 프로젝션)
+ * 엔티티와 계정(gcpAccount)을 올리지 않고, 인덱스 (gcp_account_id, id) / (gcp_account_id, resource_name, id)로
+ * 페이지를 넘긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GcpResourcePageRepository {
+
+    private static final String SELECT = "SELECT id, resource_name, resource_type, project_id, monthly_cost, "
+            + "region, status, last_updated, labels FROM gcp_resources";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 계정의 리소스를 타입·리전·상태로 걸러 한 페이지 읽는다 (null이면 조건 없음)
+     */
+    public ResourcePage<GcpResourceResponse> find(Long accountId, String resourceType, String region, String status,
+                                                  ResourcePageRequest page) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("accountId", accountId);
+        conditions.add("gcp_account_id = :accountId");
+        if (resourceType != null) {
+            conditions.add("resource_type = :resourceType");
+            params.addValue("resourceType", resourceType);
+        }
+        if (region != null) {
+            conditions.add("region = :region");
+            params.addValue("region", region);
+        }
+        if (status != null) {
+            conditions.add("status = :status");
+            params.addValue("status", status);
+        }
+
+        return page.fetch(namedJdbcTemplate, SELECT, conditions, params, (rs, rowNum) -> {
+            GcpResourceResponse response = new GcpResourceResponse();
+            response.setResourceName(rs.getString("resource_name"));
+            response.setResourceType(rs.getString("resource_type"));
+            response.setResourceTypeShort(GcpResourceResponse.shortType(response.getResourceType()));
+            response.setProjectId(rs.getString("project_id"));
+            response.setMonthlyCost(rs.getBigDecimal("monthly_cost"));
+            response.setRegion(rs.getString("region"));
+            response.setStatus(rs.getString("status"));
+            Timestamp lastUpdated = rs.getTimestamp("last_updated");
+            response.setLastUpdated(lastUpdated == null ? null : lastUpdated.toInstant());
+            response.setLabels(TagMapConverter.fromJson(rs.getString("labels")));
+            return response;
+        });
+    }
+}
@@ -2,8 +2,12 @@ package com.budgetops.backend.gcp.repository;
 
 import com.budgetops.backend.gcp.entity.GcpResource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,5 +15,26 @@ import java.util.Optional;
 public interface GcpResourceRepository extends JpaRepository<GcpResource, Long> {
     Optional<GcpResource> findByResourceIdAndGcpAccountId(String resourceId, Long gcpAccountId);
     List<GcpResource> findByGcpAccountId(Long gcpAccountId);
+    List<GcpResource> findByGcpAccountIdAndResourceIdIn(Long gcpAccountId, Collection<String> resourceIds);
+
+    // 프로젝트 ID에 대응하는 프로젝트 번호 (asset feed 범위 확인용)
+    @Query("select distinct r.projectNumber from GcpResource r where r.gcpAccount.id = :accountId " +
+            "and r.projectId = :projectId and r.projectNumber is not null")
+    List<String> findProjectNumbers(@Param("accountId") Long accountId, @Param("projectId") String projectId);
+
+    // 비용 조인에 필요한 컬럼만 조회 (엔티티를 올리지 않는다)
+    @Query("select r.id as id, r.resourceId as resourceId, r.resourceName as resourceName, " +
+            "r.projectId as projectId, r.projectNumber as projectNumber, r.monthlyCost as monthlyCost " +
+            "from GcpResource r where r.gcpAccount.id = :accountId")
+    List<CostKey> findCostKeysByGcpAccountId(@Param("accountId") Long accountId);
+
+    interface CostKey {
+        Long getId();
+        String getResourceId();
+        String getResourceName();
+        String getProjectId();
+        String getProjectNumber();
+        BigDecimal getMonthlyCost();
+    }
 }
 
@@ -1,9 +1,13 @@
 package com.budgetops.backend.gcp.service;
 
+import com.budgetops.backend.common.enums.CloudProvider;
 import com.budgetops.backend.gcp.dto.*;
 import com.google.auth.oauth2.ServiceAccountCredentials;
 import com.budgetops.backend.gcp.entity.GcpAccount;
+import com.budgetops.backend.gcp.enums.GcpAssetScopeType;
 import com.budgetops.backend.gcp.repository.GcpAccountRepository;
+import com.budgetops.backend.gcp.support.GcpClientCache;
+import com.budgetops.backend.inventory.service.InventoryScanCheckpoints;
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.BigQueryOptions;
 import com.google.cloud.bigquery.Dataset;
@@ -11,50 +15,54 @@ import com.google.cloud.bigquery.DatasetId;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.regex.Pattern;
 
 @Service
 public class GcpAccountService {
 
-    private static class TempState {
-        private String serviceAccountId;
-        private String serviceAccountKeyJson;
-        private String billingAccountId;
-    }
+    private static final Pattern SCOPE_NUMBER = Pattern.compile("\\d+");
 
-    private final AtomicReference<TempState> tempStateRef = new AtomicReference<>(new TempState());
     private final GcpServiceAccountVerifier serviceAccountVerifier;
     private final GcpBillingAccountVerifier billingVerifier;
     private final GcpAccountRepository gcpAccountRepository;
+    private final GcpClientCache clientCache;
+    // 마법사 진행 상태 (로그인 사용자별, DB 저장이라 여러 인스턴스에서 공유)
+    private final GcpOnboardingSessionStore onboardingStore;
+    private final InventoryScanCheckpoints checkpoints;
 
     public GcpAccountService(GcpServiceAccountVerifier serviceAccountVerifier,
                              GcpBillingAccountVerifier billingVerifier,
-                             GcpAccountRepository gcpAccountRepository) {
+                             GcpAccountRepository gcpAccountRepository,
+                             GcpClientCache clientCache,
+                             GcpOnboardingSessionStore onboardingStore,
+                             InventoryScanCheckpoints checkpoints) {
         this.serviceAccountVerifier = serviceAccountVerifier;
         this.billingVerifier = billingVerifier;
         this.gcpAccountRepository = gcpAccountRepository;
+        this.clientCache = clientCache;
+        this.onboardingStore = onboardingStore;
+        this.checkpoints = checkpoints;
     }
 
     public void setServiceAccountId(ServiceAccountIdRequest request) {
-        TempState s = tempStateRef.get();
-        s.serviceAccountId = request.getServiceAccountId();
+        onboardingStore.update(s -> s.withServiceAccountId(request.getServiceAccountId()));
     }
 
     public void setServiceAccountKeyJson(ServiceAccountKeyUploadRequest request) {
         // 파싱 유효성 점검. 실패 시 예외 발생(Controller에서 400 처리)
-        ServiceAccountCredentials credentials = GcpCredentialParser.parse(request.getServiceAccountKeyJson());
-        
-        TempState s = tempStateRef.get();
-        s.serviceAccountKeyJson = request.getServiceAccountKeyJson();
+        GcpCredentialParser.parse(request.getServiceAccountKeyJson());
+
+        onboardingStore.update(s -> s.withServiceAccountKeyJson(request.getServiceAccountKeyJson()));
     }
 
     public ServiceAccountTestResponse testServiceAccount() {
-        TempState s = tempStateRef.get();
-        return serviceAccountVerifier.verifyServiceAccount(s.serviceAccountId, s.serviceAccountKeyJson);
+        GcpOnboardingSessionStore.OnboardingState s = onboardingStore.current();
+        return serviceAccountVerifier.verifyServiceAccount(s.serviceAccountId(), s.serviceAccountKeyJson());
     }
 
     public void setBillingAccountId(BillingAccountIdRequest request) {
@@ -68,25 +76,24 @@ public class GcpAccountService {
             throw new IllegalArgumentException("잘못된 결제 계정 ID 형식입니다. 예) EXAMPL-123456-ABC123");
         }
 
-        TempState s = tempStateRef.get();
-        s.billingAccountId = billingId;
+        onboardingStore.update(s -> s.withBillingAccountId(billingId));
     }
 
     public BillingTestResponse testBilling() {
-        TempState s = tempStateRef.get();
-        return billingVerifier.verifyBilling(s.billingAccountId, s.serviceAccountKeyJson);
+        GcpOnboardingSessionStore.OnboardingState s = onboardingStore.current();
+        return billingVerifier.verifyBilling(s.billingAccountId(), s.serviceAccountKeyJson());
     }
 
     public SaveIntegrationResponse saveIntegration() {
-        TempState s = tempStateRef.get();
+        GcpOnboardingSessionStore.OnboardingState s = onboardingStore.current();
         SaveIntegrationResponse res = new SaveIntegrationResponse();
-        if (s.serviceAccountId == null || s.serviceAccountKeyJson == null) {
+        if (s.serviceAccountId() == null || s.serviceAccountKeyJson() == null) {
             res.setOk(false);
             res.setMessage("서비스 계정 정보가 없습니다. 이전 단계를 완료해주세요.");
             return res;
         }
         try {
-            ServiceAccountCredentials credentials = GcpCredentialParser.parse(s.serviceAccountKeyJson);
+            ServiceAccountCredentials credentials = GcpCredentialParser.parse(s.serviceAccountKeyJson());
             String projectId = credentials.getProjectId();
 
             // BigQuery dataset 위치 확인 (있으면 함께 저장)
@@ -109,17 +116,17 @@ public class GcpAccountService {
             }
 
             GcpAccount entity = new GcpAccount();
-            entity.setServiceAccountId(s.serviceAccountId);
+            entity.setServiceAccountId(s.serviceAccountId());
             entity.setProjectId(projectId);
-            entity.setBillingAccountId(s.billingAccountId);
+            entity.setBillingAccountId(s.billingAccountId());
             entity.setBillingExportDatasetId(datasetIdStr);
             entity.setBillingExportLocation(datasetLocation);
-            entity.setEncryptedServiceAccountKey(s.serviceAccountKeyJson);
+            entity.setEncryptedServiceAccountKey(s.serviceAccountKeyJson());
 
             GcpAccount saved = gcpAccountRepository.save(entity);
 
             // 완료 후 임시 상태 초기화
-            tempStateRef.set(new TempState());
+            onboardingStore.clear();
 
             res.setOk(true);
             res.setId(saved.getId());
@@ -144,17 +151,59 @@ public class GcpAccountService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 리소스 검색 범위 변경 (조직/폴더 범위면 하위 프로젝트를 한 번에 동기화)
+     */
+    @Transactional
+    public GcpAccountResponse updateAssetScope(Long id, AssetScopeRequest request) {
+        GcpAccount account = gcpAccountRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("GCP 계정을 찾을 수 없습니다."));
+        GcpAssetScopeType scopeType = GcpAssetScopeType.from(request.getScopeType());
+        String scopeId = request.getScopeId() == null ? null : request.getScopeId().trim();
+        if (scopeType != GcpAssetScopeType.PROJECT && (scopeId == null || !SCOPE_NUMBER.matcher(scopeId).matches())) {
+            throw new IllegalArgumentException("폴더/조직 ID는 숫자여야 합니다.");
+        }
+        String previousScope = account.assetScope();
+        account.setAssetScopeType(scopeType);
+        account.setAssetScopeId(scopeId == null || scopeId.isEmpty() ? account.getProjectId() : scopeId);
+        if (!previousScope.equals(account.assetScope())) {
+            // 이전 범위의 페이지 토큰으로 이어서 스캔하지 않도록 진행 중인 체크포인트를 버리고,
+            // 새 범위의 기존 리소스는 증분(updateTime 기준)으로 잡히지 않으므로 다음 동기화를 전체로 돌린다
+            checkpoints.clear(CloudProvider.GCP, id);
+            account.setLastFullResourceSyncAt(null);
+        }
+        return toResponse(account);
+    }
+
     @Transactional
     public void deleteAccount(Long id) {
         GcpAccount account = gcpAccountRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("GCP 계정을 찾을 수 없습니다."));
         gcpAccountRepository.delete(account);
+        evictClientsAfterCommit(id);
+    }
+
+    /**
+     * 롤백되면 계정이 그대로 남으므로 커밋된 뒤에만 캐시된 클라이언트를 닫는다.
+     */
+    private void evictClientsAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clientCache.evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clientCache.evict(id);
+            }
+        });
     }
 
     private GcpAccountResponse toResponse(GcpAccount account) {
         GcpAccountResponse response = new GcpAccountResponse();
         response.setId(account.getId());
         response.setProjectId(account.getProjectId());
+        response.setAssetScope(account.assetScope());
         response.setCreatedAt(account.getCreatedAt());
 
         // serviceAccountId 파싱: "budgetops@elated-bison-476314-f8.iam.gserviceaccount.com"
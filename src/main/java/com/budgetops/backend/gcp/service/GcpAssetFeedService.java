@@ -0,0 +1,338 @@
+package com.budgetops.backend.gcp.service;
+
+import com.budgetops.backend.gcp.asset.DefaultAssetExtractor;
+import com.budgetops.backend.gcp.config.GcpAssetFeedProperties;
+import com.budgetops.backend.gcp.config.GcpAssetProperties;
+import com.budgetops.backend.gcp.dto.AssetFeedBindingRequest;
+import com.budgetops.backend.gcp.dto.AssetFeedBindingResponse;
+import com.budgetops.backend.gcp.dto.PubSubPushRequest;
+import com.budgetops.backend.gcp.entity.GcpAccount;
+import com.budgetops.backend.gcp.entity.GcpResource;
+import com.budgetops.backend.gcp.repository.GcpAccountRepository;
+import com.budgetops.backend.gcp.repository.GcpResourceRepository;
+import com.budgetops.backend.gcp.support.GcpProjectRef;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import com.google.auth.oauth2.TokenVerifier;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Cloud Asset feed(Pub/Sub push) 수신
+ * 메시지를 검증·파싱해 writer 대기열에 넣고, GcpAssetFeedWriter가 배치로 커밋할 때까지 기다린 뒤 응답한다.
+ * push는 계정에 연결된 구독에서 온 것만 받고, 계정의 검색 범위 밖 자산은 버린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GcpAssetFeedService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Pattern SUBSCRIPTION = Pattern.compile("projects/[^/]+/subscriptions/[^/]+");
+    private static final String PROJECT_SCOPE_PREFIX = "projects/";
+    // Pub/Sub push가 붙이는 Google 서명 ID 토큰의 발급자
+    private static final String GOOGLE_ISSUER = "https://accounts.google.com";
+
+    private final GcpAssetFeedProperties properties;
+    private final GcpAssetProperties assetProperties;
+    private final GcpAssetFeedWriter writer;
+    private final GcpAccountRepository accountRepository;
+    private final GcpResourceRepository resourceRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecureRandom random = new SecureRandom();
+    // 프로젝트 범위 계정의 프로젝트 번호 (범위 확인용, 동기화된 리소스에서 찾는다)
+    private final Map<String, String> scopeProjectNumbers = new ConcurrentHashMap<>();
+
+    private volatile TokenVerifier tokenVerifier;
+
+    /**
+     * audience만으로는 어느 Google 서비스 계정이든 토큰을 받을 수 있으므로, push 서비스 계정 이메일을 반드시 함께 설정하게 한다.
+     */
+    @PostConstruct
+    void validate() {
+        if (hasText(properties.getAudience()) && !hasText(properties.getServiceAccountEmail())) {
+            throw new IllegalStateException(
+                    "app.gcp.asset-feed.audience를 설정하면 app.gcp.asset-feed.service-account-email도 설정해야 합니다.");
+        }
+    }
+
+    /**
+     * 계정에 push 구독을 연결하고 token 방식 인증용 토큰을 새로 발급한다 (이전 토큰은 무효).
+     */
+    @Transactional
+    public AssetFeedBindingResponse bind(Long accountId, AssetFeedBindingRequest request) {
+        GcpAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("GCP 계정을 찾을 수 없습니다: " + accountId));
+        String subscription = request.getSubscription() == null ? null : request.getSubscription().trim();
+        if (subscription == null || !SUBSCRIPTION.matcher(subscription).matches()) {
+            throw new IllegalArgumentException("구독 이름은 projects/{project}/subscriptions/{name} 형식이어야 합니다.");
+        }
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        account.setAssetFeedSubscription(subscription);
+        account.setAssetFeedToken(token);
+
+        AssetFeedBindingResponse response = new AssetFeedBindingResponse();
+        response.setAccountId(accountId);
+        response.setSubscription(subscription);
+        response.setPushEndpoint("/api/gcp/accounts/" + accountId + "/asset-feed"
+                + (hasText(properties.getAudience()) ? "" : "?token=" + token));
+        response.setVerificationToken(token);
+        return response;
+    }
+
+    /**
+     * push 메시지 한 건 수신. 계정에 연결된 구독인지와 OIDC 토큰(또는 계정별 token 파라미터)을 확인한 뒤 반영한다.
+     * 반영이 커밋되지 않았으면(대기열 가득 참, 실패, ack 대기 시간 초과) false → 호출 측이 재전송을 요청한다.
+     */
+    public boolean receive(Long accountId, String authorization, String token, PubSubPushRequest request) {
+        GcpAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "GCP 계정을 찾을 수 없습니다."));
+        verify(account, authorization, token, request);
+        return accept(account, request);
+    }
+
+    /**
+     * 인증 없이 반영한다 (로컬 시뮬레이터 전용)
+     */
+    public boolean receiveUnverified(Long accountId, PubSubPushRequest request) {
+        GcpAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "GCP 계정을 찾을 수 없습니다."));
+        return accept(account, request);
+    }
+
+    private void verify(GcpAccount account, String authorization, String token, PubSubPushRequest request) {
+        String subscription = account.getAssetFeedSubscription();
+        if (!hasText(subscription) || request == null || !subscription.equals(request.getSubscription())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 계정에 연결된 asset feed 구독이 아닙니다.");
+        }
+        if (hasText(properties.getAudience())) {
+            verifyOidcToken(authorization);
+            return;
+        }
+        String expected = account.getAssetFeedToken();
+        if (!hasText(expected) || token == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "asset feed 인증에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 형식이 잘못되었거나 대상이 아닌 메시지는 재전송해도 같으므로 로그만 남기고 수신 처리한다.
+     */
+    private boolean accept(GcpAccount account, PubSubPushRequest request) {
+        Long accountId = account.getId();
+        if (request == null || request.getMessage() == null || request.getMessage().getData() == null) {
+            log.warn("Ignoring asset feed push without data for account {}", accountId);
+            return true;
+        }
+        JsonNode message;
+        try {
+            byte[] decoded = Base64.getDecoder().decode(request.getMessage().getData());
+            message = objectMapper.readTree(decoded);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed asset feed message {} for account {}: {}",
+                    request.getMessage().getMessageId(), accountId, e.getMessage());
+            return true;
+        }
+
+        GcpAssetFeedWriter.FeedChange change = toChange(account, message);
+        if (change == null) {
+            return true;
+        }
+        if (!writer.offer(change)) {
+            return false;
+        }
+        try {
+            change.ack().get(properties.getAckTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            // 늦게라도 커밋되면 재전송된 메시지는 같은 내용으로 다시 반영된다 (멱등)
+            return false;
+        }
+    }
+
+    private GcpAssetFeedWriter.FeedChange toChange(GcpAccount account, JsonNode message) {
+        Long accountId = account.getId();
+        JsonNode asset = message.path("asset");
+        String name = text(asset, "name");
+        String assetType = text(asset, "assetType");
+        if (name == null || assetType == null) {
+            return null;
+        }
+        // 동기화 대상이 아닌 유형은 무시 (전체 동기화 결과와 같은 범위를 유지)
+        if (!configuredTypes().contains(assetType)) {
+            return null;
+        }
+        // 버킷 등은 parent가 "//cloudresourcemanager.googleapis.com/projects/{projectNumber}"
+        JsonNode resource = asset.path("resource");
+        GcpProjectRef project = GcpProjectRef.of(null, name, text(resource, "parent"));
+        if (!inScope(account, asset, project)) {
+            log.warn("Ignoring asset feed change outside scope {} of account {}: {}", account.assetScope(), accountId, name);
+            return null;
+        }
+        // 변경 순서는 자산의 updateTime으로 정한다. 삭제는 asset이 삭제 직전 상태이므로 window 시작 시각(삭제 시각)을 쓴다
+        Instant windowStart = parseInstant(text(message.path("window"), "startTime"));
+        if (message.path("deleted").asBoolean(false)) {
+            return new GcpAssetFeedWriter.FeedChange(accountId, name, null, windowStart);
+        }
+        Instant updatedAt = parseInstant(text(asset, "updateTime"));
+        Instant changedAt = updatedAt != null ? updatedAt : windowStart;
+
+        JsonNode data = resource.path("data");
+        String location = firstText(resource, "location", data, "zone", "region", "location");
+        String status = firstText(data, "status", data, "state");
+
+        GcpResource entity = GcpResource.builder()
+                .resourceId(name)
+                .resourceType(assetType)
+                .resourceName(name.substring(name.lastIndexOf('/') + 1))
+                .projectId(project.projectId())
+                .projectNumber(project.projectNumber())
+                .region(DefaultAssetExtractor.regionOf(lastSegment(location)))
+                .status(status)
+                .labels(labelsOf(data.path("labels")))
+                .build();
+        return new GcpAssetFeedWriter.FeedChange(accountId, name, entity, changedAt);
+    }
+
+    /**
+     * 자산이 계정의 검색 범위 안에 있는지 (ancestors: ["projects/{number}", "folders/{id}", "organizations/{id}"])
+     * 프로젝트 범위는 ID로 지정되므로 이름의 프로젝트 ID로 비교하고, 번호만 있으면 동기화된 리소스에서 찾은 번호로 비교한다.
+     */
+    private boolean inScope(GcpAccount account, JsonNode asset, GcpProjectRef project) {
+        String scope = account.assetScope();
+        Set<String> ancestors = new HashSet<>();
+        asset.path("ancestors").forEach(ancestor -> ancestors.add(ancestor.asText()));
+        if (ancestors.contains(scope)) {
+            return true;
+        }
+        if (!scope.startsWith(PROJECT_SCOPE_PREFIX)) {
+            return false;
+        }
+        String scopeProject = scope.substring(PROJECT_SCOPE_PREFIX.length());
+        if (project.projectId() != null) {
+            return scopeProject.equals(project.projectId());
+        }
+        String number = scopeProjectNumber(account.getId(), scopeProject);
+        return number != null && (number.equals(project.projectNumber()) || ancestors.contains(PROJECT_SCOPE_PREFIX + number));
+    }
+
+    private String scopeProjectNumber(Long accountId, String projectId) {
+        String key = accountId + "/" + projectId;
+        String cached = scopeProjectNumbers.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> numbers = resourceRepository.findProjectNumbers(accountId, projectId);
+        if (numbers.isEmpty()) {
+            return null;
+        }
+        scopeProjectNumbers.put(key, numbers.get(0));
+        return numbers.get(0);
+    }
+
+    private static Map<String, String> labelsOf(JsonNode labels) {
+        if (!labels.isObject() || labels.isEmpty()) {
+            return null;
+        }
+        Map<String, String> result = new HashMap<>();
+        labels.fields().forEachRemaining(field -> result.put(field.getKey(), field.getValue().asText("")));
+        return result;
+    }
+
+    private void verifyOidcToken(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "asset feed 인증 토큰이 없습니다.");
+        }
+        try {
+            JsonWebSignature jws = tokenVerifier().verify(authorization.substring(BEARER_PREFIX.length()));
+            // 확인된 이메일이어야 push 구독에 지정한 서비스 계정과 비교할 의미가 있다
+            Object emailVerified = jws.getPayload().get("email_verified");
+            boolean verified = Boolean.TRUE.equals(emailVerified) || "true".equals(emailVerified);
+            if (!verified || !properties.getServiceAccountEmail().equals(jws.getPayload().get("email"))) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "허용되지 않은 push 서비스 계정입니다.");
+            }
+        } catch (TokenVerifier.VerificationException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "asset feed 토큰 검증에 실패했습니다.");
+        }
+    }
+
+    private TokenVerifier tokenVerifier() {
+        // 공개 키를 캐시하므로 하나를 재사용한다
+        if (tokenVerifier == null) {
+            tokenVerifier = TokenVerifier.newBuilder()
+                    .setAudience(properties.getAudience())
+                    .setIssuer(GOOGLE_ISSUER)
+                    .build();
+        }
+        return tokenVerifier;
+    }
+
+    private Set<String> configuredTypes() {
+        return assetProperties.getTypes().stream()
+                .map(GcpAssetProperties.AssetType::getType)
+                .collect(Collectors.toSet());
+    }
+
+    private String firstText(JsonNode primary, String primaryField, JsonNode fallback, String... fallbackFields) {
+        String value = text(primary, primaryField);
+        for (int i = 0; value == null && i < fallbackFields.length; i++) {
+            value = text(fallback, fallbackFields[i]);
+        }
+        return value;
+    }
+
+    private String lastSegment(String value) {
+        // compute 리소스의 zone/region은 URL 형태 (".../zones/us-central1-a")
+        return value == null ? null : value.substring(value.lastIndexOf('/') + 1);
+    }
+
+    private Instant parseInstant(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isTextual() && !value.asText().isEmpty() ? value.asText() : null;
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
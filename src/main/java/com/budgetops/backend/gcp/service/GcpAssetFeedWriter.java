@@ -0,0 +1,199 @@
+package com.budgetops.backend.gcp.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.gcp.config.GcpAssetFeedProperties;
+import com.budgetops.backend.gcp.entity.GcpAccount;
+import com.budgetops.backend.gcp.entity.GcpResource;
+import com.budgetops.backend.gcp.repository.GcpAccountRepository;
+import com.budgetops.backend.gcp.repository.GcpResourceBulkRepository;
+import com.budgetops.backend.gcp.support.GcpProjectRef;
+import com.budgetops.backend.inventory.service.InventoryScanCheckpoints;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * asset feed 변경을 모아 배치로 반영하는 단일 writer
+ * push 요청 스레드는 큐에 넣고 ack를 기다리며, 이 스레드가 배치 크기나 flush 간격마다 계정별 upsert/delete를 한 번에 실행한다.
+ * ack는 배치가 커밋된 뒤에 완료하므로, 반영에 실패한 메시지는 2xx로 응답되지 않고 Pub/Sub이 재전송한다.
+ */
+@Slf4j
+@Component
+public class GcpAssetFeedWriter {
+
+    private final GcpAccountRepository accountRepository;
+    private final GcpResourceBulkRepository bulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final GcpAssetFeedProperties properties;
+    private final InventoryScanCheckpoints checkpoints;
+    private final BlockingQueue<FeedChange> queue;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public GcpAssetFeedWriter(GcpAccountRepository accountRepository,
+                              GcpResourceBulkRepository bulkRepository,
+                              PlatformTransactionManager transactionManager,
+                              GcpAssetFeedProperties properties,
+                              InventoryScanCheckpoints checkpoints) {
+        this.accountRepository = accountRepository;
+        this.bulkRepository = bulkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.checkpoints = checkpoints;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "gcp-asset-feed-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 뒤에 들어온 변경은 반영하지 못했으므로 실패로 응답하게 한다
+        List<FeedChange> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        IllegalStateException stopped = new IllegalStateException("asset feed writer가 종료되었습니다.");
+        remaining.forEach(change -> change.ack().completeExceptionally(stopped));
+    }
+
+    /**
+     * 변경을 대기열에 넣는다. 가득 차 있거나 종료 중이면 false (호출 측이 재전송을 요청)
+     * 반영 결과는 change.ack()로 기다린다.
+     */
+    public boolean offer(FeedChange change) {
+        return running && queue.offer(change);
+    }
+
+    private void run() {
+        List<FeedChange> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                FeedChange first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + properties.getFlushInterval().toNanos();
+                while (batch.size() < properties.getBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    FeedChange next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중에는 남은 변경을 모두 반영하고 끝낸다
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<FeedChange> batch) {
+        // 계정별로 묶고, 같은 리소스는 가장 최근 변경만 남긴다
+        Map<Long, Map<String, FeedChange>> byAccount = new LinkedHashMap<>();
+        for (FeedChange change : batch) {
+            byAccount.computeIfAbsent(change.accountId(), id -> new LinkedHashMap<>())
+                    .merge(change.resourceId(), change, (prev, next) -> next.isNewerThan(prev) ? next : prev);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> byAccount.forEach(this::apply));
+        } catch (RuntimeException e) {
+            log.error("Failed to apply {} asset feed changes", batch.size(), e);
+            batch.forEach(change -> change.ack().completeExceptionally(e));
+            return;
+        }
+        // 커밋된 뒤에 ack (중복으로 합쳐진 변경도 더 최신 변경이 반영되었으므로 함께 완료)
+        batch.forEach(change -> change.ack().complete(null));
+    }
+
+    private void apply(Long accountId, Map<String, FeedChange> changes) {
+        GcpAccount account = accountRepository.findById(accountId).orElse(null);
+        if (account == null) {
+            log.warn("Dropping {} asset feed changes for unknown GCP account {}", changes.size(), accountId);
+            return;
+        }
+        // 진행 중인 전체 스캔이 있으면 그 세대로 기록해야 스캔 종료 sweep에서 지워지지 않는다
+        long generation = Math.max(
+                account.getResourceSyncGeneration() == null ? 0L : account.getResourceSyncGeneration(),
+                checkpoints.activeGeneration(CloudProvider.GCP, accountId).orElse(0L));
+        Instant now = Instant.now();
+
+        List<GcpResource> upserts = new ArrayList<>();
+        Map<String, Instant> timedDeletes = new LinkedHashMap<>();
+        List<String> deletes = new ArrayList<>();
+        for (FeedChange change : changes.values()) {
+            if (change.resource() == null) {
+                if (change.changedAt() != null) {
+                    timedDeletes.put(change.resourceId(), change.changedAt());
+                } else {
+                    deletes.add(change.resourceId());
+                }
+            } else {
+                GcpResource resource = change.resource();
+                if (resource.getProjectId() == null) {
+                    // 프로젝트 범위 계정이면 범위 프로젝트가 곧 리소스의 프로젝트다
+                    resource.setProjectId(GcpProjectRef.of(account.assetScope()).projectId());
+                }
+                resource.setLastUpdated(now);
+                // 현재 세대로 기록해야 다음 전체 동기화 sweep에서 지워지지 않는다
+                resource.setSyncGeneration(generation);
+                resource.setAssetUpdatedAt(change.changedAt());
+                upserts.add(resource);
+            }
+        }
+        // 순서가 뒤바뀌어 도착한 오래된 변경은 저장된 자산 변경 시각과 비교해 건너뛴다
+        bulkRepository.upsertIfNewer(accountId, upserts);
+        bulkRepository.deleteUnlessNewer(accountId, timedDeletes);
+        bulkRepository.deleteByResourceIds(accountId, deletes);
+        if (upserts.stream().anyMatch(resource -> resource.getProjectId() == null)) {
+            bulkRepository.fillProjectIds(accountId);
+        }
+        log.debug("Applied asset feed for account {}: {} upserts, {} deletes", accountId, upserts.size(),
+                timedDeletes.size() + deletes.size());
+    }
+
+    /**
+     * 리소스 변경 한 건. resource가 null이면 삭제
+     * changedAt은 자산의 updateTime (없으면 feed window 시작 시각), ack는 반영이 커밋되면 완료된다.
+     */
+    public record FeedChange(Long accountId, String resourceId, GcpResource resource, Instant changedAt,
+                             CompletableFuture<Void> ack) {
+
+        public FeedChange(Long accountId, String resourceId, GcpResource resource, Instant changedAt) {
+            this(accountId, resourceId, resource, changedAt, new CompletableFuture<>());
+        }
+
+        boolean isNewerThan(FeedChange other) {
+            if (changedAt == null || other.changedAt == null) {
+                return true;
+            }
+            return !changedAt.isBefore(other.changedAt);
+        }
+    }
+}
@@ -1,23 +1,26 @@
 package com.budgetops.backend.gcp.service;
 
+import com.budgetops.backend.gcp.billing.BillingExportTableDiscovery;
 import com.budgetops.backend.gcp.dto.BillingTestResponse;
 import com.google.auth.oauth2.ServiceAccountCredentials;
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.BigQueryOptions;
 import com.google.cloud.bigquery.Dataset;
 import com.google.cloud.bigquery.DatasetId;
-import com.google.cloud.bigquery.Table;
-import com.google.cloud.bigquery.TableId;
-import com.google.api.gax.paging.Page;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
+import java.util.Optional;
 
 @Service
+@RequiredArgsConstructor
 public class GcpBillingAccountVerifier {
 
     private static final String DATASET_NAME = "billing_export_dataset";
 
+    private final BillingExportTableDiscovery tableDiscovery;
+
     public BillingTestResponse verifyBilling(String billingAccountId, String serviceAccountKeyJson) {
         BillingTestResponse res = new BillingTestResponse();
         if (billingAccountId == null || billingAccountId.isBlank() || serviceAccountKeyJson == null || serviceAccountKeyJson.isBlank()) {
@@ -50,35 +53,15 @@ public class GcpBillingAccountVerifier {
                 return res;
             }
 
-            String billingIdForTable = billingAccountId.replace('-', '_');
-            String tablePrefixV1 = "gcp_billing_export_v1_" + billingIdForTable;
-            String tablePrefixAll = "gcp_billing_export_"; // 백업: 패턴이 다른 경우도 포괄
-
-            Page<Table> tables = bigquery.listTables(datasetId);
-            Table latest = null;
-            for (Table entry : tables.iterateAll()) {
-                String tableId = entry.getTableId().getTable();
-                if (tableId.startsWith(tablePrefixV1) || tableId.startsWith(tablePrefixAll)) {
-                    TableId fullId = TableId.of(projectId, DATASET_NAME, tableId);
-                    Table full = bigquery.getTable(fullId);
-                    if (full != null) {
-                        if (latest == null) {
-                            latest = full;
-                        } else {
-                            long lhs = latest.getLastModifiedTime() == null ? 0L : latest.getLastModifiedTime();
-                            long rhs = full.getLastModifiedTime() == null ? 0L : full.getLastModifiedTime();
-                            if (rhs > lhs) {
-                                latest = full;
-                            }
-                        }
-                    }
-                }
-            }
+            // __TABLES__ 쿼리 한 번으로 가장 최근 export 테이블 확인 (데이터셋별 캐시)
+            Optional<BillingExportTableDiscovery.ExportTable> latest = tableDiscovery.latest(
+                    bigquery, projectId, DATASET_NAME, BillingExportTableDiscovery.ANY_EXPORT_PREFIX);
 
             res.setDatasetExists(true);
-            if (latest != null) {
+            if (latest.isPresent()) {
                 res.setOk(true);
-                res.setLatestTable(DATASET_NAME + "." + latest.getTableId().getTable());
+                res.setLatestTable(DATASET_NAME + "." + latest.get().tableId());
+                res.setLatestTableModifiedAt(latest.get().lastModified());
                 res.setMessage("billing 내보내기 확인 성공");
             } else {
                 res.setOk(false);
@@ -0,0 +1,156 @@
+package com.budgetops.backend.gcp.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.entity.CostFact;
+import com.budgetops.backend.cost.event.CostFactChange;
+import com.budgetops.backend.cost.service.CostIngestionService;
+import com.budgetops.backend.gcp.billing.BillingExportQueryRunner;
+import com.budgetops.backend.gcp.billing.BillingExportReader;
+import com.budgetops.backend.gcp.billing.BillingExportResult;
+import com.budgetops.backend.gcp.billing.BillingExportTableDiscovery;
+import com.budgetops.backend.gcp.config.GcpBillingIngestionProperties;
+import com.budgetops.backend.gcp.dto.BillingIngestionResponse;
+import com.budgetops.backend.gcp.entity.GcpAccount;
+import com.budgetops.backend.gcp.enums.BillingIngestionMode;
+import com.budgetops.backend.gcp.repository.GcpAccountRepository;
+import com.budgetops.backend.gcp.support.GcpClientCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * GCP billing export 적재
+ * 워터마크(billingIngestedThrough)에서 lookback만큼 앞선 날짜부터 다시 읽어 일별 합계를 덮어쓴다.
+ * 원격 읽기는 트랜잭션 밖에서 하고, 적재(CostIngestionService)만 트랜잭션으로 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GcpBillingIngestionService {
+
+    private final GcpAccountRepository accountRepository;
+    private final BillingExportReader billingExportReader;
+    private final BillingExportQueryRunner billingExportQueryRunner;
+    private final BillingExportTableDiscovery tableDiscovery;
+    private final CostIngestionService costIngestionService;
+    private final GcpBillingIngestionProperties properties;
+    private final GcpClientCache clientCache;
+
+    /**
+     * billing export가 설정된 모든 계정을 주기적으로 적재한다.
+     */
+    @Scheduled(cron = "${app.gcp.billing-ingestion.cron:0 15 */6 * * *}")
+    public void ingestAll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (GcpAccount account : accountRepository.findByBillingExportDatasetIdIsNotNull()) {
+            try {
+                ingest(account);
+            } catch (RuntimeException e) {
+                log.warn("GCP billing ingestion failed for account {}: {}", account.getId(), e.getMessage());
+            }
+        }
+    }
+
+    public BillingIngestionResponse ingest(Long accountId) {
+        GcpAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("GCP 계정을 찾을 수 없습니다: " + accountId));
+        return ingest(account);
+    }
+
+    private BillingIngestionResponse ingest(GcpAccount account) {
+        if (account.getBillingAccountId() == null || account.getBillingExportDatasetId() == null) {
+            throw new IllegalStateException("billing export 설정이 없습니다.");
+        }
+        // 최신 여부 확인 전에 실행 중 표시를 걸어 같은 계정의 동시 적재(주기 + 수동, 다른 인스턴스)를 막는다
+        Instant startedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant staleBefore = startedAt.minus(properties.getRunTimeout());
+        if (accountRepository.claimBillingIngestion(account.getId(), startedAt, staleBefore) == 0) {
+            BillingIngestionResponse response = new BillingIngestionResponse();
+            response.setAccountId(account.getId());
+            response.setInProgress(true);
+            return response;
+        }
+        try {
+            // 목록을 읽은 뒤 다른 실행이 끝났을 수 있으므로 표시를 건 뒤의 워터마크로 읽는다
+            GcpAccount current = accountRepository.findById(account.getId()).orElse(account);
+            return ingest(current, startedAt);
+        } finally {
+            accountRepository.releaseBillingIngestion(account.getId(), startedAt);
+        }
+    }
+
+    /**
+     * 워터마크는 실행 시작 시각으로 기록한다. 읽는 도중 갱신된 export는 다음 실행이 다시 읽는다.
+     */
+    private BillingIngestionResponse ingest(GcpAccount account, Instant startedAt) {
+        LocalDate today = LocalDate.ofInstant(startedAt, ZoneOffset.UTC);
+        LocalDate from = account.getBillingIngestedThrough() == null
+                ? today.minusDays(properties.getInitialBackfillDays())
+                : account.getBillingIngestedThrough().minusDays(properties.getLookbackDays());
+
+        String exportProjectId = account.getBillingExportProjectId() != null
+                ? account.getBillingExportProjectId() : account.getProjectId();
+        // 표준 export 테이블과 최신성은 __TABLES__ 한 번으로 확인한다 (데이터셋별 캐시)
+        BillingExportTableDiscovery.ExportTable exportTable = tableDiscovery.latest(
+                        clientCache.bigQuery(account, exportProjectId), exportProjectId, account.getBillingExportDatasetId(),
+                        BillingExportTableDiscovery.standardPrefix(account.getBillingAccountId()))
+                .orElseThrow(() -> new IllegalStateException("billing export 테이블을 찾지 못했습니다."));
+
+        BillingIngestionResponse response = new BillingIngestionResponse();
+        response.setAccountId(account.getId());
+        response.setFrom(from);
+        response.setThrough(today);
+
+        // 마지막 적재 실행이 시작된 뒤로 export가 갱신되지 않았으면 읽지 않는다
+        if (account.getBillingIngestedAt() != null && exportTable.lastModified().isBefore(account.getBillingIngestedAt())) {
+            response.setUpToDate(true);
+            return response;
+        }
+        String tableName = exportTable.tableId();
+
+        BillingExportResult result;
+        if (properties.getMode() == BillingIngestionMode.QUERY) {
+            // 파티션 조건 + dry-run 스캔량 확인 + maximumBytesBilled 상한
+            long maxBytesBilled = account.getBillingMaxBytesBilled() != null
+                    ? account.getBillingMaxBytesBilled() : properties.getMaxBytesBilled().toBytes();
+            String table = String.format("%s.%s.%s", exportProjectId, account.getBillingExportDatasetId(), tableName);
+            result = billingExportQueryRunner.read(clientCache.bigQuery(account, exportProjectId),
+                    account.getBillingExportLocation(), table, from, maxBytesBilled);
+        } else {
+            String table = String.format("projects/%s/datasets/%s/tables/%s", exportProjectId,
+                    account.getBillingExportDatasetId(), tableName);
+            result = billingExportReader.read(clientCache.bigQueryReadClient(account), exportProjectId, table, from);
+        }
+
+        // 일별 합계에는 라벨이 없고 GCP 계정은 워크스페이스에 연결되어 있지 않아 배분 태깅 없이 팩트로 적재한다
+        List<CostFact> items = result.daily().stream()
+                .map(daily -> CostFact.builder()
+                        .usageDate(daily.usageDate())
+                        .provider(CloudProvider.GCP)
+                        .accountId(account.getId())
+                        .service(daily.service())
+                        .region(daily.region())
+                        .cost(BigDecimal.valueOf(daily.cost()))
+                        .build())
+                .toList();
+        List<CostFactChange> changes = costIngestionService.ingest(items);
+        accountRepository.markBillingIngested(account.getId(), today, startedAt);
+
+        response.setRowsRead(result.rowsRead());
+        response.setBytesProcessed(result.bytesProcessed());
+        response.setDailyAggregates(items.size());
+        response.setChangedFacts(changes.size());
+        response.setElapsedMs(result.elapsedMs());
+        return response;
+    }
+}
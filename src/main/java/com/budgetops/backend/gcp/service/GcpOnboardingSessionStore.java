@@ -0,0 +1,145 @@
+package com.budgetops.backend.gcp.service;
+
+import com.budgetops.backend.gcp.entity.GcpOnboardingSession;
+import com.budgetops.backend.gcp.repository.GcpOnboardingSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * GCP 연동 마법사 상태 저장소 (로그인 사용자별)
+ * DB(gcp_onboarding_sessions)가 기준이고, 프로세스 캐시는 버전이 DB와 같을 때만 사용해 복호화를 건너뛴다.
+ * 그래서 다른 노드에서 바뀐 상태도 바로 보이고, 스티키 세션 없이 동작한다.
+ */
+@Slf4j
+@Component
+public class GcpOnboardingSessionStore {
+
+    private final GcpOnboardingSessionRepository repository;
+    private final Duration ttl;
+    private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+
+    public GcpOnboardingSessionStore(GcpOnboardingSessionRepository repository,
+                                     @Value("${app.gcp.onboarding.session-ttl:30m}") Duration ttl) {
+        this.repository = repository;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 현재 사용자의 진행 상태. 없거나 만료되었으면 빈 상태
+     */
+    @Transactional(readOnly = true)
+    public OnboardingState current() {
+        String ownerKey = currentOwnerKey();
+        Instant now = Instant.now();
+        Optional<Long> version = repository.findLiveVersion(ownerKey, now);
+        if (version.isEmpty()) {
+            cache.remove(ownerKey);
+            return OnboardingState.EMPTY;
+        }
+        Cached cached = cache.get(ownerKey);
+        if (cached != null && cached.version() == version.get()) {
+            return cached.state();
+        }
+        return repository.findById(ownerKey)
+                .map(session -> remember(ownerKey, session))
+                .orElse(OnboardingState.EMPTY);
+    }
+
+    /**
+     * 현재 사용자의 상태를 바꾸고 만료 시각을 연장한다.
+     * 새로 만든 빈 행은 필드가 모두 비어 있어 EMPTY와 같게 읽힌다.
+     */
+    @Transactional
+    public OnboardingState update(UnaryOperator<OnboardingState> change) {
+        String ownerKey = currentOwnerKey();
+        Instant now = Instant.now();
+        // 행을 먼저 보장하고 잠가서, 같은 사용자의 동시 요청이 insert 충돌 없이 차례로 이전 상태 위에 변경을 쌓게 한다
+        repository.insertIfAbsent(ownerKey, now.plus(ttl));
+        GcpOnboardingSession session = repository.lockByOwnerKey(ownerKey)
+                .orElseThrow(() -> new IllegalStateException("연동 진행 상태를 저장하지 못했습니다."));
+        OnboardingState before = session.getExpiresAt() != null && session.getExpiresAt().isAfter(now)
+                ? OnboardingState.of(session) : OnboardingState.EMPTY;
+        OnboardingState after = change.apply(before);
+
+        session.setServiceAccountId(after.serviceAccountId());
+        session.setEncryptedServiceAccountKey(after.serviceAccountKeyJson());
+        session.setBillingAccountId(after.billingAccountId());
+        session.setExpiresAt(now.plus(ttl));
+        // 버전은 flush 시 올라가므로 저장 직후 반환된 엔티티 기준으로 캐시한다
+        GcpOnboardingSession saved = repository.saveAndFlush(session);
+        remember(ownerKey, saved);
+        return after;
+    }
+
+    /**
+     * 연동 완료 후 현재 사용자의 상태를 지운다.
+     */
+    @Transactional
+    public void clear() {
+        String ownerKey = currentOwnerKey();
+        cache.remove(ownerKey);
+        repository.deleteById(ownerKey);
+    }
+
+    @Scheduled(fixedDelayString = "${app.gcp.onboarding.purge-interval:10m}")
+    public void purgeExpired() {
+        int removed = repository.deleteExpired(Instant.now());
+        cache.clear();
+        if (removed > 0) {
+            log.debug("Purged {} expired GCP onboarding session(s)", removed);
+        }
+    }
+
+    private OnboardingState remember(String ownerKey, GcpOnboardingSession session) {
+        OnboardingState state = OnboardingState.of(session);
+        cache.put(ownerKey, new Cached(session.getVersion(), state));
+        return state;
+    }
+
+    private String currentOwnerKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null) {
+            throw new IllegalStateException("인증되지 않은 사용자입니다.");
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * 마법사 단계별 입력값
+     */
+    public record OnboardingState(String serviceAccountId, String serviceAccountKeyJson, String billingAccountId) {
+        static final OnboardingState EMPTY = new OnboardingState(null, null, null);
+
+        static OnboardingState of(GcpOnboardingSession session) {
+            return new OnboardingState(session.getServiceAccountId(), session.getEncryptedServiceAccountKey(),
+                    session.getBillingAccountId());
+        }
+
+        public OnboardingState withServiceAccountId(String value) {
+            return new OnboardingState(value, serviceAccountKeyJson, billingAccountId);
+        }
+
+        public OnboardingState withServiceAccountKeyJson(String value) {
+            return new OnboardingState(serviceAccountId, value, billingAccountId);
+        }
+
+        public OnboardingState withBillingAccountId(String value) {
+            return new OnboardingState(serviceAccountId, serviceAccountKeyJson, value);
+        }
+    }
+
+    private record Cached(long version, OnboardingState state) {
+    }
+}
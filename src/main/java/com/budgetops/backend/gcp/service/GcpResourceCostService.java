@@ -0,0 +1,187 @@
+package com.budgetops.backend.gcp.service;
+
+import com.budgetops.backend.gcp.billing.BillingExportQueryRunner;
+import com.budgetops.backend.gcp.billing.BillingExportTableDiscovery;
+import com.budgetops.backend.gcp.billing.BillingResourceCost;
+import com.budgetops.backend.gcp.billing.BillingResourceCostResult;
+import com.budgetops.backend.gcp.config.GcpBillingIngestionProperties;
+import com.budgetops.backend.gcp.dto.ResourceCostAttributionResponse;
+import com.budgetops.backend.gcp.entity.GcpAccount;
+import com.budgetops.backend.gcp.repository.GcpAccountRepository;
+import com.budgetops.backend.gcp.repository.GcpResourceBulkRepository;
+import com.budgetops.backend.gcp.repository.GcpResourceRepository;
+import com.budgetops.backend.gcp.support.GcpClientCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GCP 리소스별 월 비용 계산
+ * 리소스 단위 billing export를 이번 달 리소스별로 한 번 집계하고, 계정의 gcp_resources를 메모리 해시 테이블로 만들어
+ * 집계 행을 조인한다. 값이 바뀐 행만 배치 UPDATE로 쓰므로 목록 조회는 리소스별 쿼리 없이 비용을 보여준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GcpResourceCostService {
+
+    private final GcpAccountRepository accountRepository;
+    private final GcpResourceRepository resourceRepository;
+    private final GcpResourceBulkRepository bulkRepository;
+    private final BillingExportQueryRunner queryRunner;
+    private final BillingExportTableDiscovery tableDiscovery;
+    private final GcpBillingIngestionProperties billingProperties;
+    private final GcpClientCache clientCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.gcp.resource-cost.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * billing export가 설정된 모든 계정의 리소스 비용을 주기적으로 다시 계산한다.
+     */
+    @Scheduled(cron = "${app.gcp.resource-cost.cron:0 45 */6 * * *}")
+    public void attributeAll() {
+        if (!enabled) {
+            return;
+        }
+        for (GcpAccount account : accountRepository.findByBillingExportDatasetIdIsNotNull()) {
+            try {
+                attribute(account);
+            } catch (RuntimeException e) {
+                log.warn("GCP resource cost attribution failed for account {}: {}", account.getId(), e.getMessage());
+            }
+        }
+    }
+
+    public ResourceCostAttributionResponse attribute(Long accountId) {
+        GcpAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("GCP 계정을 찾을 수 없습니다: " + accountId));
+        return attribute(account);
+    }
+
+    private ResourceCostAttributionResponse attribute(GcpAccount account) {
+        if (account.getBillingAccountId() == null || account.getBillingExportDatasetId() == null) {
+            throw new IllegalStateException("billing export 설정이 없습니다.");
+        }
+        Instant startedAt = Instant.now();
+        YearMonth month = YearMonth.now(ZoneOffset.UTC);
+        String exportProjectId = account.getBillingExportProjectId() != null
+                ? account.getBillingExportProjectId() : account.getProjectId();
+        BillingExportTableDiscovery.ExportTable exportTable = tableDiscovery.latest(
+                        clientCache.bigQuery(account, exportProjectId), exportProjectId, account.getBillingExportDatasetId(),
+                        BillingExportTableDiscovery.resourcePrefix(account.getBillingAccountId()))
+                .orElseThrow(() -> new IllegalStateException("리소스 단위 billing export 테이블을 찾지 못했습니다."));
+
+        ResourceCostAttributionResponse response = new ResourceCostAttributionResponse();
+        response.setAccountId(account.getId());
+        response.setMonth(month);
+
+        // 같은 달 안에서 마지막 계산 이후 export가 갱신되지 않았으면 읽지 않는다
+        Instant lastRun = account.getResourceCostsUpdatedAt();
+        if (lastRun != null && YearMonth.from(lastRun.atZone(ZoneOffset.UTC)).equals(month)
+                && exportTable.lastModified().isBefore(lastRun)) {
+            response.setUpToDate(true);
+            return response;
+        }
+
+        long maxBytesBilled = account.getBillingMaxBytesBilled() != null
+                ? account.getBillingMaxBytesBilled() : billingProperties.getMaxBytesBilled().toBytes();
+        String table = String.format("%s.%s.%s", exportProjectId, account.getBillingExportDatasetId(), exportTable.tableId());
+        BillingResourceCostResult result = queryRunner.readResourceCosts(clientCache.bigQuery(account, exportProjectId),
+                account.getBillingExportLocation(), table, month, maxBytesBilled);
+
+        // build: 인벤토리 (작은 쪽) → probe: 집계 행
+        // 프로젝트는 ID와 번호 양쪽으로 색인한다 (버킷처럼 이름에 번호만 있는 리소스는 ID가 비어 있을 수 있다)
+        List<GcpResourceRepository.CostKey> resources = resourceRepository.findCostKeysByGcpAccountId(account.getId());
+        Map<String, Long> byFullName = new HashMap<>(resources.size() * 2);
+        Map<String, Long> byProjectAndName = new HashMap<>(resources.size() * 8);
+        for (GcpResourceRepository.CostKey resource : resources) {
+            byFullName.put(resource.getResourceId(), resource.getId());
+            List<String> projects = new ArrayList<>(2);
+            if (resource.getProjectId() != null) {
+                projects.add(resource.getProjectId());
+            }
+            if (resource.getProjectNumber() != null) {
+                projects.add(resource.getProjectNumber());
+            }
+            if (projects.isEmpty()) {
+                projects.add(account.getProjectId());
+            }
+            for (String project : projects) {
+                byProjectAndName.putIfAbsent(projectKey(project, shortName(resource.getResourceId())), resource.getId());
+                if (resource.getResourceName() != null) {
+                    byProjectAndName.putIfAbsent(projectKey(project, resource.getResourceName()), resource.getId());
+                }
+            }
+        }
+
+        Map<Long, BigDecimal> costs = new HashMap<>();
+        BigDecimal unmatched = BigDecimal.ZERO;
+        for (BillingResourceCost cost : result.costs()) {
+            String name = shortName(cost.resourceName());
+            Long id = byFullName.get(cost.globalName());
+            if (id == null) {
+                id = byProjectAndName.get(projectKey(cost.projectId(), name));
+            }
+            if (id == null && !cost.projectNumber().isEmpty()) {
+                id = byProjectAndName.get(projectKey(cost.projectNumber(), name));
+            }
+            if (id == null) {
+                unmatched = unmatched.add(cost.cost());
+            } else {
+                costs.merge(id, cost.cost(), BigDecimal::add);
+            }
+        }
+
+        // 이번 달 비용이 없는 리소스는 0으로 둔다. 값이 같은 행은 쓰지 않는다.
+        Map<Long, BigDecimal> changed = new HashMap<>();
+        for (GcpResourceRepository.CostKey resource : resources) {
+            BigDecimal monthlyCost = costs.getOrDefault(resource.getId(), BigDecimal.ZERO)
+                    .setScale(2, RoundingMode.HALF_UP);
+            if (resource.getMonthlyCost() == null || resource.getMonthlyCost().compareTo(monthlyCost) != 0) {
+                changed.put(resource.getId(), monthlyCost);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            bulkRepository.updateMonthlyCosts(changed);
+            accountRepository.markResourceCostsUpdated(account.getId(), startedAt);
+        });
+
+        response.setBilledResources(result.costs().size());
+        response.setMatchedResources(costs.size());
+        response.setUpdatedResources(changed.size());
+        response.setUnmatchedCost(unmatched.setScale(2, RoundingMode.HALF_UP));
+        response.setBytesProcessed(result.bytesProcessed());
+        response.setElapsedMs(Instant.now().toEpochMilli() - startedAt.toEpochMilli());
+        log.info("Attributed {} cost for account {}: {} of {} billed resource(s) matched, {} row(s) updated",
+                month, account.getId(), costs.size(), result.costs().size(), changed.size());
+        return response;
+    }
+
+    private static String projectKey(String projectId, String name) {
+        return projectId + "/" + name;
+    }
+
+    // 전체 리소스 이름(//service/projects/p/.../name)의 마지막 부분
+    private static String shortName(String name) {
+        if (name == null) {
+            return "";
+        }
+        int slash = name.lastIndexOf('/');
+        return slash < 0 ? name : name.substring(slash + 1);
+    }
+}
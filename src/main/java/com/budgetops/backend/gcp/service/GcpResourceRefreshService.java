@@ -0,0 +1,45 @@
+package com.budgetops.backend.gcp.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.gcp.repository.GcpAccountRepository;
+import com.budgetops.backend.inventory.dto.InventorySyncJobResponse;
+import com.budgetops.backend.inventory.service.InventorySyncHandler;
+import com.budgetops.backend.inventory.service.InventorySyncJobService;
+import com.budgetops.backend.inventory.service.InventorySyncTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * GCP 리소스 동기화를 비동기 작업으로 요청한다 (본문은 GcpResourceService.sync)
+ */
+@Service
+@RequiredArgsConstructor
+public class GcpResourceRefreshService implements InventorySyncHandler {
+
+    private final GcpAccountRepository accountRepository;
+    private final GcpResourceService resourceService;
+    private final InventorySyncJobService jobService;
+
+    public InventorySyncJobResponse requestRefresh(Long accountId, boolean forceFull) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new IllegalArgumentException("GCP 계정을 찾을 수 없습니다: " + accountId);
+        }
+        return jobService.submit(CloudProvider.GCP, accountId, forceFull, task(accountId, forceFull));
+    }
+
+    @Override
+    public CloudProvider provider() {
+        return CloudProvider.GCP;
+    }
+
+    @Override
+    public InventorySyncTask task(Long accountId, boolean fullSync) {
+        return progress -> resourceService.sync(accountId, fullSync, progress);
+    }
+
+    public Optional<InventorySyncJobResponse> latestJob(Long accountId) {
+        return jobService.latest(CloudProvider.GCP, accountId);
+    }
+}
@@ -1,124 +1,386 @@
 package com.budgetops.backend.gcp.service;
 
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.gcp.asset.GcpAssetExtractor;
+import com.budgetops.backend.gcp.asset.GcpAssetExtractors;
+import com.budgetops.backend.gcp.config.GcpAssetProperties;
 import com.budgetops.backend.gcp.dto.GcpResourceListResponse;
 import com.budgetops.backend.gcp.dto.GcpResourceResponse;
 import com.budgetops.backend.gcp.entity.GcpAccount;
 import com.budgetops.backend.gcp.entity.GcpResource;
 import com.budgetops.backend.gcp.repository.GcpAccountRepository;
+import com.budgetops.backend.gcp.repository.GcpResourceBulkRepository;
+import com.budgetops.backend.gcp.repository.GcpResourcePageRepository;
 import com.budgetops.backend.gcp.repository.GcpResourceRepository;
-import com.google.auth.oauth2.ServiceAccountCredentials;
+import com.budgetops.backend.gcp.support.GcpClientCache;
+import com.budgetops.backend.gcp.support.GcpProjectRef;
+import com.budgetops.backend.inventory.entity.InventoryScanCheckpoint;
+import com.budgetops.backend.inventory.paging.ResourcePage;
+import com.budgetops.backend.inventory.paging.ResourcePageRequest;
+import com.budgetops.backend.inventory.service.InventoryScanCheckpoints;
+import com.budgetops.backend.inventory.service.InventorySyncProgress;
+import com.google.api.gax.rpc.InvalidArgumentException;
 import com.google.cloud.asset.v1.AssetServiceClient;
-import com.google.cloud.asset.v1.AssetServiceSettings;
 import com.google.cloud.asset.v1.ResourceSearchResult;
 import com.google.cloud.asset.v1.SearchAllResourcesRequest;
-import com.google.cloud.asset.v1.VersionedResource;
-import com.google.protobuf.Struct;
-import com.google.protobuf.Value;
+import com.google.protobuf.FieldMask;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
-import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GcpResourceService {
+    // searchAllResources 최대 페이지 크기
+    private static final int PAGE_SIZE = 500;
+
     private final GcpResourceRepository resourceRepository;
     private final GcpAccountRepository accountRepository;
+    private final GcpResourceBulkRepository bulkRepository;
+    private final GcpResourcePageRepository pageRepository;
+    private final EntityManager entityManager;
+    private final GcpAssetProperties assetProperties;
+    private final GcpAssetExtractors assetExtractors;
+    private final ExecutorService gcpAssetSearchExecutor;
+    private final GcpClientCache clientCache;
+    private final InventoryScanCheckpoints checkpoints;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public GcpResourceListResponse listResources(Long accountId) {
+    /**
+     * 마지막으로 동기화된 리소스 목록 (DB 기준, 원격 조회 없음)
+     * 커서 페이지 단위로 응답 컬럼만 읽는다. 다음 페이지는 nextCursor로 이어서 요청한다.
+     */
+    public GcpResourceListResponse getResources(Long accountId, String resourceType, String region, String status,
+                                                ResourcePageRequest page) {
         GcpAccount account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new IllegalArgumentException("GCP 계정을 찾을 수 없습니다: " + accountId));
+        ResourcePage<GcpResourceResponse> resources = pageRepository.find(accountId, resourceType, region, status, page);
+
+        GcpResourceListResponse response = new GcpResourceListResponse();
+        response.setAccountId(accountId);
+        response.setProjectId(account.getProjectId());
+        response.setLastSyncedAt(account.getLastResourceSyncAt());
+        response.setResources(resources.items());
+        response.setNextCursor(resources.nextCursor());
+        return response;
+    }
+
+    /**
+     * 리소스 동기화 (동기화 작업 스레드에서 실행). 반영한 리소스 수를 반환한다.
+     * 마지막 전체 동기화가 fullSyncInterval 이내면 그 뒤 변경된 자산만 받아 반영하고(증분),
+     * 아니면 전체를 조회한 뒤 확인되지 않은 리소스를 정리한다(전체).
+     * 페이지마다 반영과 체크포인트(다음 페이지 토큰)를 한 트랜잭션으로 커밋하므로,
+     * 중단된 스캔은 같은 세대·기준 시각으로 마지막 커밋 페이지 다음부터 이어진다.
+     */
+    public int sync(Long accountId, boolean forceFull, InventorySyncProgress progress) {
+        GcpAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("GCP 계정을 찾을 수 없습니다: " + accountId));
+
+        // 파싱된 자격증명과 클라이언트(공유 채널)는 계정별로 캐시된다
+        AssetServiceClient client = clientCache.assetClient(account);
+        List<String> streams = assetProperties.getTypes().stream().map(GcpAssetProperties.AssetType::getType).toList();
+        String fingerprint = scanFingerprint(account.assetScope());
+        List<InventoryScanCheckpoint> scan = checkpoints.resumable(CloudProvider.GCP, accountId, streams, fingerprint)
+                .filter(resumable -> !forceFull || resumable.get(0).isFullScan())
+                .orElseGet(() -> startScan(account, forceFull, streams, fingerprint));
 
-        String serviceAccountKeyJson = account.getEncryptedServiceAccountKey();
-        if (serviceAccountKeyJson == null || serviceAccountKeyJson.isBlank()) {
-            throw new IllegalStateException("서비스 계정 키가 설정되지 않았습니다.");
+        InventoryScanCheckpoint first = scan.get(0);
+        // 이어서 하는 스캔이어도 시작 시각을 동기화 시각으로 쓴다 (스캔 중 변경분은 다음 증분이 다시 받는다)
+        Instant now = first.getStartedAt();
+        long generation = first.getGeneration();
+        boolean incremental = !first.isFullScan();
+        long resumedPages = scan.stream().mapToLong(InventoryScanCheckpoint::getPagesProcessed).sum();
+        if (resumedPages > 0) {
+            progress.resumed(resumedPages, scan.stream().mapToLong(InventoryScanCheckpoint::getResourcesProcessed).sum());
+            log.info("Resuming GCP resource scan for account {} from checkpoint ({} page(s) already applied)",
+                    accountId, resumedPages);
         }
+        int[] applied = {0};
 
-        ServiceAccountCredentials credentials = GcpCredentialParser.parse(serviceAccountKeyJson);
-        String projectId = account.getProjectId();
+        // 조직/폴더 범위면 하위 프로젝트 전체가 유형별 한 스트림으로 조회된다
+        collectInParallel(client, account.assetScope(), scan, page -> {
+            for (GcpResource resource : page.resources()) {
+                resource.setGcpAccount(account);
+                resource.setLastUpdated(now);
+                resource.setSyncGeneration(generation);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                syncPage(accountId, page.resources(), now, generation);
+                checkpoints.advance(page.checkpointId(), page.nextPageToken(), page.resources().size());
+            });
+            applied[0] += page.resources().size();
+            progress.page(page.resources().size());
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (incremental) {
+                accountRepository.markIncrementalResourceSync(accountId, now);
+                log.info("Incremental GCP resource sync for account {}: {} changed asset(s) since {}",
+                        accountId, applied[0], first.getChangedSince());
+            } else {
+                // 전체 조회가 끝난 경우에만 이번 세대에 확인되지 않은 리소스를 정리한다
+                int removed = bulkRepository.deleteOlderThan(accountId, generation, now);
+                accountRepository.markFullResourceSync(accountId, generation, now, first.getScanFingerprint());
+                log.info("Full GCP resource sync for account {}: {} asset(s), {} removed", accountId, applied[0], removed);
+            }
+            // 번호만 알던 리소스(버킷 등)는 같은 프로젝트의 다른 리소스에서 ID를 채운다
+            bulkRepository.fillProjectIds(accountId);
+            checkpoints.clear(CloudProvider.GCP, accountId);
+        });
+        return applied[0];
+    }
+
+    private List<InventoryScanCheckpoint> startScan(GcpAccount account, boolean forceFull, List<String> streams,
+                                                    String fingerprint) {
         Instant now = Instant.now();
+        boolean incremental = !forceFull && canSyncIncrementally(account, now, fingerprint);
+        long currentGeneration = Optional.ofNullable(account.getResourceSyncGeneration()).orElse(0L);
+        // 증분은 세대를 올리지 않는다 (다음 전체 동기화의 sweep 기준 유지)
+        long generation = incremental ? currentGeneration : currentGeneration + 1;
+        Instant changedSince = incremental ? account.getLastResourceSyncAt().minus(assetProperties.getIncrementalOverlap()) : null;
+        return checkpoints.start(CloudProvider.GCP, account.getId(), streams, fingerprint, generation, changedSince);
+    }
+
+    /**
+     * 페이지 토큰이 유효한 조건: 범위와 유형별 쿼리·필드 마스크
+     */
+    private String scanFingerprint(String scope) {
+        List<String> parts = new ArrayList<>();
+        parts.add(scope);
+        for (GcpAssetProperties.AssetType assetType : assetProperties.getTypes()) {
+            parts.add(assetType.getType());
+            parts.add(assetType.getQuery());
+            parts.add(readMask(assetType));
+        }
+        return InventoryScanCheckpoints.fingerprint(parts.toArray(String[]::new));
+    }
+
+    private String readMask(GcpAssetProperties.AssetType config) {
+        return StringUtils.hasText(config.getReadMask()) ? config.getReadMask() : assetProperties.getDefaultReadMask();
+    }
+
+    /**
+     * 증분은 updateTime 이후 바뀐 자산만 받으므로, 마지막 전체 동기화와 스캔 조건이 같을 때만 쓴다
+     * (유형 추가·쿼리 변경 뒤에는 기존 자산을 받기 위해 전체 동기화).
+     */
+    private boolean canSyncIncrementally(GcpAccount account, Instant now, String fingerprint) {
+        return account.getLastResourceSyncAt() != null
+                && account.getLastFullResourceSyncAt() != null
+                && fingerprint.equals(account.getLastFullScanFingerprint())
+                && account.getLastFullResourceSyncAt().plus(assetProperties.getFullSyncInterval()).isAfter(now);
+    }
 
-        List<GcpResource> resources = new ArrayList<>();
+    /**
+     * 설정된 자산 유형마다 독립적으로 페이지를 넘기는 검색 작업을 공유 풀에서 병렬 실행하고,
+     * 호출 스레드(단일 writer)가 큐에서 페이지를 꺼내 DB에 반영한다.
+     * 끝난 스트림은 건너뛰고, 나머지는 체크포인트의 페이지 토큰부터 조회한다.
+     * 한 유형이라도 실패하면 예외를 던져 sweep이 실행되지 않게 한다 (체크포인트는 남아 다음 실행이 이어받는다).
+     */
+    private void collectInParallel(AssetServiceClient client, String scope, List<InventoryScanCheckpoint> scan,
+                                   Consumer<AssetPage> writer) {
+        Map<String, GcpAssetProperties.AssetType> assetTypes = new HashMap<>();
+        for (GcpAssetProperties.AssetType assetType : assetProperties.getTypes()) {
+            assetTypes.put(assetType.getType(), assetType);
+        }
+        BlockingQueue<AssetPage> queue = new ArrayBlockingQueue<>(Math.max(1, assetProperties.getQueueCapacity()));
+        List<Future<?>> searches = new ArrayList<>(scan.size());
+        for (InventoryScanCheckpoint checkpoint : scan) {
+            if (checkpoint.isCompleted()) {
+                continue;
+            }
+            GcpAssetProperties.AssetType assetType = assetTypes.get(checkpoint.getStream());
+            searches.add(gcpAssetSearchExecutor.submit(() -> searchType(client, scope, assetType, checkpoint, queue)));
+        }
+
+        try {
+            int running = searches.size();
+            while (running > 0) {
+                AssetPage page = queue.take();
+                if (page.error() != null) {
+                    throw new IllegalStateException(
+                            "Cloud Asset 검색 실패 (" + page.assetType() + "): " + page.error().getMessage(), page.error());
+                }
+                if (page.last()) {
+                    running--;
+                } else {
+                    writer.accept(page);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("GCP 리소스 동기화가 중단되었습니다.", e);
+        } finally {
+            searches.forEach(search -> search.cancel(true));
+        }
+    }
 
+    private void searchType(AssetServiceClient client, String scope, GcpAssetProperties.AssetType config,
+                            InventoryScanCheckpoint checkpoint, BlockingQueue<AssetPage> queue) {
+        String assetType = config.getType();
+        GcpAssetExtractor extractor = assetExtractors.forType(assetType);
+        String pageToken = checkpoint.getPageToken();
         try {
-            AssetServiceSettings settings = AssetServiceSettings.newBuilder()
-                    .setCredentialsProvider(() -> credentials)
-                    .build();
-            
-            // TODO: AssetType 추가 필요 (주요 서비스 위주로. 현재는 VM 인스턴스만 되어 있음)
-            try (AssetServiceClient client = AssetServiceClient.create(settings)) {
-                String parent = "projects/" + projectId;
-                SearchAllResourcesRequest request = SearchAllResourcesRequest.newBuilder()
-                        .setScope(parent)
-                        .addAssetTypes("compute.googleapis.com/Instance")
-                        .build();
+            try {
+                searchPages(client, scope, config, checkpoint, pageToken, extractor, queue);
+            } catch (InvalidArgumentException e) {
+                if (pageToken == null) {
+                    throw e;
+                }
+                // 저장된 페이지 토큰이 만료되었으면 이 유형만 처음부터 다시 조회한다 (페이지 반영은 멱등)
+                log.info("Checkpointed page token for {} was rejected, rescanning type from the start", assetType);
+                checkpoints.rewind(checkpoint.getId());
+                searchPages(client, scope, config, checkpoint, null, extractor, queue);
+            }
+            queue.put(new AssetPage(assetType, checkpoint.getId(), List.of(), null, null, true));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Cloud Asset search failed for {}: {}", assetType, e.getMessage());
+            try {
+                queue.put(new AssetPage(assetType, checkpoint.getId(), List.of(), null, e, true));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void searchPages(AssetServiceClient client, String scope, GcpAssetProperties.AssetType config,
+                             InventoryScanCheckpoint checkpoint, String pageToken, GcpAssetExtractor extractor,
+                             BlockingQueue<AssetPage> queue) throws InterruptedException {
+        SearchAllResourcesRequest request = buildSearchRequest(scope, config, checkpoint.getChangedSince(), pageToken);
+        for (AssetServiceClient.SearchAllResourcesPage page : client.searchAllResources(request).iteratePages()) {
+            List<GcpResource> resources = new ArrayList<>(page.getPageElementCount());
+            for (ResourceSearchResult result : page.getValues()) {
+                resources.add(convertResourceSearchResultToResource(result, extractor, scope));
+            }
+            // 빈 페이지도 보내 다음 페이지 토큰을 기록한다
+            queue.put(new AssetPage(config.getType(), checkpoint.getId(), resources, page.getNextPageToken(), null, false));
+        }
+    }
 
-                for (ResourceSearchResult result : client.searchAllResources(request).iterateAll()) {
-                    GcpResource resource = convertResourceSearchResultToResource(result, account, now);
-                    resources.add(resource);
+    /**
+     * 유형별 검색 요청: 서버 측 query로 대상을 줄이고, read mask로 매핑하는 필드만 받는다.
+     * changedSince가 있으면 그 이후 updateTime인 자산만 조회한다 (증분).
+     */
+    private SearchAllResourcesRequest buildSearchRequest(String scope, GcpAssetProperties.AssetType config,
+                                                         Instant changedSince, String pageToken) {
+        SearchAllResourcesRequest.Builder builder = SearchAllResourcesRequest.newBuilder()
+                .setScope(scope)
+                .addAssetTypes(config.getType())
+                .setPageSize(PAGE_SIZE);
+        if (StringUtils.hasText(pageToken)) {
+            builder.setPageToken(pageToken);
+        }
+        String query = config.getQuery();
+        if (changedSince != null) {
+            String window = "updateTime > " + changedSince.getEpochSecond();
+            query = StringUtils.hasText(query) ? "(" + query + ") AND " + window : window;
+        }
+        if (StringUtils.hasText(query)) {
+            builder.setQuery(query);
+        }
+        String readMask = readMask(config);
+        if (StringUtils.hasText(readMask)) {
+            FieldMask.Builder mask = FieldMask.newBuilder();
+            for (String path : readMask.split(",")) {
+                if (!path.isBlank()) {
+                    mask.addPaths(path.trim());
                 }
             }
-        } catch (IOException e) {
-            throw new RuntimeException("Cloud Asset API 호출 실패: " + e.getMessage(), e);
+            builder.setReadMask(mask.build());
         }
+        return builder.build();
+    }
 
-        // DB에 저장 또는 업데이트
-        List<GcpResource> savedResources = new ArrayList<>();
+    /**
+     * 한 페이지를 반영한다: 기존 행은 IN 조회 한 번으로 가져오고, 새로 생기거나 바뀐 행은 배치 upsert,
+     * 그대로인 행은 확인 시각과 세대만 한 문장으로 갱신한 뒤 영속성 컨텍스트를 비운다.
+     */
+    private void syncPage(Long accountId, List<GcpResource> resources, Instant now, long generation) {
+        if (resources.isEmpty()) {
+            return;
+        }
+        Map<String, GcpResource> existing = new HashMap<>();
+        List<String> resourceIds = resources.stream().map(GcpResource::getResourceId).toList();
+        for (GcpResource resource : resourceRepository.findByGcpAccountIdAndResourceIdIn(accountId, resourceIds)) {
+            existing.put(resource.getResourceId(), resource);
+        }
+
+        List<GcpResource> changed = new ArrayList<>();
+        List<Long> unchangedIds = new ArrayList<>();
         for (GcpResource resource : resources) {
-            Optional<GcpResource> existing = resourceRepository.findByResourceIdAndGcpAccountId(
-                    resource.getResourceId(), accountId);
-            if (existing.isPresent()) {
-                GcpResource existingResource = existing.get();
-                existingResource.setResourceType(resource.getResourceType());
-                existingResource.setResourceName(resource.getResourceName());
-                existingResource.setRegion(resource.getRegion());
-                existingResource.setStatus(resource.getStatus());
-                existingResource.setDescription(resource.getDescription());
-                existingResource.setLastUpdated(now);
-                savedResources.add(resourceRepository.save(existingResource));
+            GcpResource current = existing.get(resource.getResourceId());
+            if (current != null && sameContent(current, resource)) {
+                unchangedIds.add(current.getId());
             } else {
-                savedResources.add(resourceRepository.save(resource));
+                changed.add(resource);
             }
         }
 
-        // DTO로 변환
-        List<GcpResourceResponse> responseList = savedResources.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        bulkRepository.upsert(accountId, changed);
+        bulkRepository.touch(unchangedIds, now, generation);
+        entityManager.clear();
+    }
 
-        GcpResourceListResponse response = new GcpResourceListResponse();
-        response.setAccountId(accountId);
-        response.setProjectId(account.getProjectId());
-        response.setResources(responseList);
-        return response;
+    private boolean sameContent(GcpResource current, GcpResource incoming) {
+        return Objects.equals(current.getResourceType(), incoming.getResourceType())
+                && Objects.equals(current.getResourceName(), incoming.getResourceName())
+                && Objects.equals(current.getProjectId(), incoming.getProjectId())
+                && Objects.equals(current.getProjectNumber(), incoming.getProjectNumber())
+                && Objects.equals(current.getRegion(), incoming.getRegion())
+                && Objects.equals(current.getStatus(), incoming.getStatus())
+                && Objects.equals(current.getDescription(), incoming.getDescription())
+                && Objects.equals(current.getAssetUpdatedAt(), incoming.getAssetUpdatedAt())
+                && Objects.equals(labelsOf(current), labelsOf(incoming));
+    }
+
+    private static Map<String, String> labelsOf(GcpResource resource) {
+        return resource.getLabels() == null ? Map.of() : resource.getLabels();
     }
 
-    private GcpResource convertResourceSearchResultToResource(ResourceSearchResult result, GcpAccount account, Instant now) {
+    private GcpResource convertResourceSearchResultToResource(ResourceSearchResult result, GcpAssetExtractor extractor,
+                                                              String scope) {
         String resourceId = result.getName();
         String resourceType = result.getAssetType();
         String resourceName = extractResourceName(result);
-        String region = extractRegion(result);
-        String status = extractStatus(result);
+        // 이름 → 상위 리소스 이름 → project 필드(projects/{projectNumber}) 순으로 ID와 번호를 따로 찾는다
+        GcpProjectRef project = GcpProjectRef.of(scope, result.getName(), result.getParentFullResourceName(),
+                result.getProject());
+        String region = extractor.extractRegion(result);
+        String status = extractor.extractStatus(result);
         String description = null;
 
         return GcpResource.builder()
                 .resourceId(resourceId)
                 .resourceType(resourceType)
                 .resourceName(resourceName)
+                .projectId(project.projectId())
+                .projectNumber(project.projectNumber())
                 .region(region)
                 .status(status)
                 .description(description)
-                .monthlyCost(null) // 나중에 별도 API로 채워질 예정
-                .lastUpdated(now)
-                .gcpAccount(account)
+                .labels(result.getLabelsMap().isEmpty() ? null : new HashMap<>(result.getLabelsMap()))
+                .assetUpdatedAt(result.hasUpdateTime()
+                        ? Instant.ofEpochSecond(result.getUpdateTime().getSeconds(), result.getUpdateTime().getNanos())
+                        : null)
+                .monthlyCost(null) // GcpResourceCostService가 리소스 단위 billing export로 채운다
                 .build();
     }
 
@@ -141,128 +403,7 @@ public class GcpResourceService {
         return name;
     }
 
-    private String extractRegion(ResourceSearchResult result) {
-        // ResourceSearchResult의 location 정보 추출
-        try {
-            // 먼저 직접 location 필드 확인
-            String location = result.getLocation();
-            if (location != null && !location.isEmpty()) {
-                // zone에서 region 추출 (예: "us-central1-a" -> "us-central1")
-                if (location.contains("-")) {
-                    String[] parts = location.split("-");
-                    if (parts.length >= 2) {
-                        return parts[0] + "-" + parts[1];
-                    }
-                }
-                return location;
-            }
-            
-            // additionalAttributes에서 location 정보 추출
-            Struct additionalAttributes = result.getAdditionalAttributes();
-            if (additionalAttributes != null) {
-                Map<String, Value> fields = additionalAttributes.getFieldsMap();
-                if (fields.containsKey("location")) {
-                    Value locationValue = fields.get("location");
-                    if (locationValue.hasStringValue()) {
-                        return locationValue.getStringValue();
-                    }
-                }
-                if (fields.containsKey("zone")) {
-                    Value zoneValue = fields.get("zone");
-                    if (zoneValue.hasStringValue()) {
-                        String zone = zoneValue.getStringValue();
-                        // zone에서 region 추출 (예: "us-central1-a" -> "us-central1")
-                        if (zone.contains("-")) {
-                            String[] parts = zone.split("-");
-                            if (parts.length >= 2) {
-                                return parts[0] + "-" + parts[1];
-                            }
-                        }
-                        return zone;
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // 리소스 데이터 접근 실패 시 무시
-        }
-        return null;
-    }
-
-    private String extractStatus(ResourceSearchResult result) {
-        // 1. ResourceSearchResult의 최상위 레벨에서 state 필드 추출 (GCP API는 state 필드를 최상위에 제공)
-        try {
-            String state = result.getState();
-            if (state != null && !state.isEmpty()) {
-                return state;
-            }
-        } catch (Exception e) {
-            // getState() 접근 실패 시 무시하고 계속
-        }
-
-        // 2. versionedResources에서 state 필드 추출
-        try {
-            List<VersionedResource> versionedResources = result.getVersionedResourcesList();
-            if (versionedResources != null && !versionedResources.isEmpty()) {
-                // 가장 최신 버전의 리소스 사용
-                VersionedResource latestResource = versionedResources.get(0);
-                if (latestResource.hasResource()) {
-                    Struct resourceData = latestResource.getResource();
-                    if (resourceData != null) {
-                        Map<String, Value> fields = resourceData.getFieldsMap();
-                        // state 필드 확인
-                        if (fields.containsKey("state")) {
-                            Value stateValue = fields.get("state");
-                            if (stateValue.hasStringValue()) {
-                                return stateValue.getStringValue();
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // versionedResources 접근 실패 시 무시하고 계속
-        }
-
-        // 3. additionalAttributes에서 상태 정보 추출
-        try {
-            Struct additionalAttributes = result.getAdditionalAttributes();
-            if (additionalAttributes != null) {
-                Map<String, Value> fields = additionalAttributes.getFieldsMap();
-                if (fields.containsKey("state")) {
-                    Value stateValue = fields.get("state");
-                    if (stateValue.hasStringValue()) {
-                        return stateValue.getStringValue();
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // additionalAttributes 접근 실패 시 무시
-        }
-        return null;
-    }
-
-    private GcpResourceResponse convertToResponse(GcpResource resource) {
-        GcpResourceResponse response = new GcpResourceResponse();
-        response.setResourceName(resource.getResourceName());
-        response.setResourceType(resource.getResourceType());
-        response.setResourceTypeShort(extractResourceTypeShort(resource.getResourceType()));
-        response.setMonthlyCost(resource.getMonthlyCost());
-        response.setRegion(resource.getRegion());
-        response.setStatus(resource.getStatus());
-        response.setLastUpdated(resource.getLastUpdated());
-        return response;
-    }
-
-    private String extractResourceTypeShort(String resourceType) {
-        // 예: "compute.googleapis.com/Instance" -> "Instance"
-        if (resourceType == null || resourceType.isEmpty()) {
-            return null;
-        }
-        int lastSlashIndex = resourceType.lastIndexOf('/');
-        if (lastSlashIndex >= 0 && lastSlashIndex < resourceType.length() - 1) {
-            return resourceType.substring(lastSlashIndex + 1);
-        }
-        return resourceType;
+    private record AssetPage(String assetType, Long checkpointId, List<GcpResource> resources, String nextPageToken,
+                             RuntimeException error, boolean last) {
     }
 }
-
@@ -1,138 +1,164 @@
 package com.budgetops.backend.gcp.service;
 
 import com.budgetops.backend.gcp.dto.ServiceAccountTestResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.google.auth.oauth2.ServiceAccountCredentials;
-import com.google.cloud.bigquery.BigQuery;
-import com.google.cloud.bigquery.BigQueryOptions;
-import com.google.cloud.bigquery.Dataset;
-
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+/**
+ * 서비스 계정 유효성·권한 확인
+ * 토큰은 한 번만 발급받고, BigQuery 접근 확인과 testIamPermissions를 공유 HTTP 클라이언트로 동시에 보낸다.
+ * 전체 소요 시간은 가장 느린 확인 하나 (전체 제한 시간 적용).
+ */
 @Service
 public class GcpServiceAccountVerifier {
 
-    public ServiceAccountTestResponse verifyServiceAccount(String serviceAccountId, String serviceAccountKeyJson) {
-        ServiceAccountTestResponse res = new ServiceAccountTestResponse();
-        Set<String> requiredRoles = new HashSet<>(Arrays.asList(
+    private static final List<String> SCOPES = List.of("https://www.googleapis.com/auth/cloud-platform");
+    private static final List<String> REQUIRED_ROLES = List.of(
             "roles/viewer",
             "roles/monitoring.viewer",
             "roles/bigquery.dataViewer",
             "roles/bigquery.jobUser"
-        ));
+    );
+    // 각 역할에 대응하는 핵심 권한
+    private static final Map<String, String> ROLE_TO_PERMISSION = new LinkedHashMap<>();
+
+    static {
+        ROLE_TO_PERMISSION.put("roles/viewer", "resourcemanager.projects.get");
+        ROLE_TO_PERMISSION.put("roles/monitoring.viewer", "monitoring.timeSeries.list");
+        ROLE_TO_PERMISSION.put("roles/bigquery.dataViewer", "bigquery.datasets.get");
+        ROLE_TO_PERMISSION.put("roles/bigquery.jobUser", "bigquery.jobs.create");
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public GcpServiceAccountVerifier(ObjectMapper objectMapper,
+                                     @Value("${app.gcp.verification.timeout:10s}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public ServiceAccountTestResponse verifyServiceAccount(String serviceAccountId, String serviceAccountKeyJson) {
+        ServiceAccountTestResponse res = new ServiceAccountTestResponse();
 
         if (serviceAccountId == null || serviceAccountId.isBlank() || serviceAccountKeyJson == null || serviceAccountKeyJson.isBlank()) {
             res.setOk(false);
             res.setMessage("service account id 또는 key json이 비어 있습니다.");
-            res.setMissingRoles(Arrays.asList(
-                "roles/viewer",
-                "roles/monitoring.viewer",
-                "roles/bigquery.dataViewer",
-                "roles/bigquery.jobUser"
-            ));
+            res.setMissingRoles(new ArrayList<>(REQUIRED_ROLES));
             return res;
         }
+        // 토큰 발급부터 두 확인까지 하나의 마감 시각 안에서 끝낸다. 끝나지 않은 요청은 반환 전에 모두 취소한다
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
         try {
-            // 서비스 계정 json으로 인증객체 생성
-            ServiceAccountCredentials credentials = ServiceAccountCredentials.fromStream(
-                new ByteArrayInputStream(serviceAccountKeyJson.getBytes())
-            );
+            // 서비스 계정 json으로 인증객체 생성, 토큰은 두 확인이 함께 쓴다
+            ServiceAccountCredentials credentials = GcpCredentialParser.parse(serviceAccountKeyJson);
             String projectId = credentials.getProjectId();
-
-            // 1) BigQuery API 테스트 호출 (권한 체크 전 유효성/접근성 확인)
-            BigQuery bigquery = BigQueryOptions.newBuilder()
-                .setCredentials(credentials)
-                .setProjectId(projectId)
-                .build().getService();
-            for (Dataset ignored : bigquery.listDatasets().iterateAll()) { break; }
-            // (실제 반환값 사용X, 단 호출만으로도 인증+API 확인)
-
-            // 2) testIamPermissions로 필요한 최소 권한 보유 여부 확인 (REST 호출)
-            Set<String> foundRoles = new HashSet<>();
-            try {
-                ServiceAccountCredentials scoped = (ServiceAccountCredentials) credentials.createScoped(
-                        java.util.List.of("https://www.googleapis.com/auth/cloud-platform")
-                );
-                String accessToken = scoped.refreshAccessToken().getTokenValue();
-
-                // 각 역할에 대응하는 핵심 권한
-                java.util.Map<String, String> roleToPermission = new java.util.LinkedHashMap<>();
-                roleToPermission.put("roles/viewer", "resourcemanager.projects.get");
-                roleToPermission.put("roles/monitoring.viewer", "monitoring.timeSeries.list");
-                roleToPermission.put("roles/bigquery.dataViewer", "bigquery.datasets.get");
-                roleToPermission.put("roles/bigquery.jobUser", "bigquery.jobs.create");
-
-                URL url = new URL("https://cloudresourcemanager.googleapis.com/v1/projects/" + projectId + ":testIamPermissions");
-                HttpURLConnection con = (HttpURLConnection) url.openConnection();
-                con.setRequestMethod("POST");
-                con.setRequestProperty("Authorization", "Bearer " + accessToken);
-                con.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
-                con.setDoOutput(true);
-
-                // 요청 본문 준비 (ObjectMapper로 안전 직렬화)
-                java.util.List<String> permissions = new java.util.ArrayList<>(roleToPermission.values());
-                ObjectMapper mapperForWrite = new ObjectMapper();
-                com.fasterxml.jackson.databind.node.ObjectNode rootNode = mapperForWrite.createObjectNode();
-                com.fasterxml.jackson.databind.node.ArrayNode permsArray = rootNode.putArray("permissions");
-                for (String p : permissions) {
-                    permsArray.add(p);
+            GoogleCredentials scoped = credentials.createScoped(SCOPES);
+            CompletableFuture<String> tokenRequest = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return scoped.refreshAccessToken().getTokenValue();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-                byte[] body = mapperForWrite.writeValueAsBytes(rootNode);
-                con.getOutputStream().write(body);
-
-                int code = con.getResponseCode();
-                res.setHttpStatus(code);
-                if (code >= 200 && code < 300) {
-                    try (InputStream is = con.getInputStream()) {
-                        ObjectMapper mapper = new ObjectMapper();
-                        JsonNode root = mapper.readTree(is);
-                        JsonNode granted = root.path("permissions");
-                        java.util.Set<String> grantedSet = new java.util.HashSet<>();
-                        java.util.List<String> grantedList = new java.util.ArrayList<>();
-                        if (granted.isArray()) {
-                            for (JsonNode g : granted) {
-                                String p = g.asText("");
-                                grantedSet.add(p);
-                                grantedList.add(p);
-                            }
-                        }
-                        res.setGrantedPermissions(grantedList);
-                        for (java.util.Map.Entry<String, String> e : roleToPermission.entrySet()) {
-                            if (grantedSet.contains(e.getValue())) {
-                                foundRoles.add(e.getKey());
-                            }
-                        }
-                    }
-                } else {
-                    try (InputStream es = con.getErrorStream()) {
-                        String snippet = readFirstN(es, 512);
-                        res.setDebugBodySnippet(snippet);
-                    }
-                    res.setOk(false);
-                    res.setMessage("권한 검사 실패: HTTP " + code);
-                    res.setMissingRoles(new java.util.ArrayList<>(requiredRoles));
-                    return res;
+            });
+            pending.add(tokenRequest);
+            String accessToken = await(tokenRequest, deadline);
+
+            // 1) BigQuery API 접근 확인 (데이터셋 1건 조회)
+            CompletableFuture<HttpResponse<String>> bigQueryProbe = httpClient.sendAsync(HttpRequest.newBuilder()
+                            .uri(URI.create("https://bigquery.googleapis.com/bigquery/v2/projects/" + projectId + "/datasets?maxResults=1"))
+                            .header("Authorization", "Bearer " + accessToken)
+                            .timeout(timeout)
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            pending.add(bigQueryProbe);
+
+            // 2) testIamPermissions로 필요한 최소 권한 보유 여부 확인
+            ObjectNode rootNode = objectMapper.createObjectNode();
+            ArrayNode permsArray = rootNode.putArray("permissions");
+            ROLE_TO_PERMISSION.values().forEach(permsArray::add);
+            CompletableFuture<HttpResponse<String>> iamProbe = httpClient.sendAsync(HttpRequest.newBuilder()
+                            .uri(URI.create("https://cloudresourcemanager.googleapis.com/v1/projects/" + projectId + ":testIamPermissions"))
+                            .header("Authorization", "Bearer " + accessToken)
+                            .header("Content-Type", "application/json; charset=UTF-8")
+                            .timeout(timeout)
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(rootNode)))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            pending.add(iamProbe);
+
+            HttpResponse<String> iamResponse = await(iamProbe, deadline);
+            HttpResponse<String> bigQueryResponse = await(bigQueryProbe, deadline);
+
+            int code = iamResponse.statusCode();
+            res.setHttpStatus(code);
+            if (code < 200 || code >= 300) {
+                res.setDebugBodySnippet(snippet(iamResponse.body()));
+                res.setOk(false);
+                res.setMessage("권한 검사 실패: HTTP " + code);
+                res.setMissingRoles(new ArrayList<>(REQUIRED_ROLES));
+                return res;
+            }
+
+            JsonNode granted = objectMapper.readTree(iamResponse.body()).path("permissions");
+            Set<String> grantedSet = new HashSet<>();
+            List<String> grantedList = new ArrayList<>();
+            if (granted.isArray()) {
+                for (JsonNode g : granted) {
+                    String p = g.asText("");
+                    grantedSet.add(p);
+                    grantedList.add(p);
                 }
-            } catch (Exception e) {
+            }
+            res.setGrantedPermissions(grantedList);
+            List<String> notGranted = ROLE_TO_PERMISSION.entrySet().stream()
+                    .filter(e -> !grantedSet.contains(e.getValue()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+
+            int bigQueryCode = bigQueryResponse.statusCode();
+            if (bigQueryCode < 200 || bigQueryCode >= 300) {
+                res.setHttpStatus(bigQueryCode);
+                res.setDebugBodySnippet(snippet(bigQueryResponse.body()));
                 res.setOk(false);
-                res.setMessage("권한 검사 실패: " + e.getMessage());
-                res.setMissingRoles(new java.util.ArrayList<>(requiredRoles));
+                res.setMessage("서비스 계정 인증 또는 테스트 실패: BigQuery API HTTP " + bigQueryCode);
+                res.setMissingRoles(notGranted);
                 return res;
             }
 
-            Set<String> notGranted = requiredRoles.stream().filter(r -> !foundRoles.contains(r)).collect(Collectors.toSet());
             if (notGranted.isEmpty()) {
                 res.setOk(true);
                 res.setMessage("account/권한 테스트 성공");
@@ -140,31 +166,42 @@ public class GcpServiceAccountVerifier {
             } else {
                 res.setOk(false);
                 res.setMessage("권한 누락: " + String.join(", ", notGranted));
-                res.setMissingRoles(new java.util.ArrayList<>(notGranted));
+                res.setMissingRoles(notGranted);
             }
             return res;
+        } catch (TimeoutException e) {
+            res.setOk(false);
+            res.setMessage("서비스 계정 테스트 시간 초과 (" + timeout.toSeconds() + "초)");
+            res.setMissingRoles(new ArrayList<>(REQUIRED_ROLES));
+            return res;
         } catch (Exception ex) {
+            Throwable cause = ex instanceof ExecutionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof UncheckedIOException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             res.setOk(false);
-            res.setMessage("서비스 계정 인증 또는 테스트 실패: " + ex.getMessage());
-            res.setMissingRoles(Arrays.asList(
-                "roles/viewer",
-                "roles/monitoring.viewer",
-                "roles/bigquery.dataViewer",
-                "roles/bigquery.jobUser"
-            ));
+            res.setMessage("서비스 계정 인증 또는 테스트 실패: " + cause.getMessage());
+            res.setMissingRoles(new ArrayList<>(REQUIRED_ROLES));
             return res;
+        } finally {
+            pending.forEach(future -> future.cancel(true));
         }
     }
 
-    private static String readFirstN(InputStream is, int maxBytes) {
-        if (is == null) return null;
-        try {
-            byte[] buf = is.readNBytes(maxBytes);
-            return new String(buf, java.nio.charset.StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            return null;
-        }
+    /**
+     * 전체 마감 시각까지 남은 시간만큼 기다린다.
+     */
+    private static <T> T await(CompletableFuture<T> future, long deadline)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
     }
-}
-
 
+    private static String snippet(String body) {
+        if (body == null) return null;
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= 512 ? body : new String(bytes, 0, 512, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,293 @@
+package com.budgetops.backend.gcp.service;
+
+import com.budgetops.backend.aws.dto.AlertCondition;
+import com.budgetops.backend.aws.dto.AlertRule;
+import com.budgetops.backend.aws.service.AwsEc2RuleLoader;
+import com.budgetops.backend.billing.entity.Member;
+import com.budgetops.backend.billing.repository.MemberRepository;
+import com.budgetops.backend.gcp.dto.GcpVmAlert;
+import com.budgetops.backend.gcp.entity.GcpAccount;
+import com.budgetops.backend.gcp.entity.GcpResource;
+import com.budgetops.backend.gcp.enums.GcpVmMetric;
+import com.budgetops.backend.gcp.repository.GcpAccountRepository;
+import com.budgetops.backend.gcp.repository.GcpResourceRepository;
+import com.budgetops.backend.gcp.support.GcpClientCache;
+import com.budgetops.backend.notification.service.SlackNotificationService;
+import com.google.cloud.monitoring.v3.MetricServiceClient;
+import com.google.monitoring.v3.Aggregation;
+import com.google.monitoring.v3.ListTimeSeriesRequest;
+import com.google.monitoring.v3.Point;
+import com.google.monitoring.v3.ProjectName;
+import com.google.monitoring.v3.TimeInterval;
+import com.google.monitoring.v3.TimeSeries;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * GCP VM 사용률 임계치 확인 및 알림 발송
+ * VM마다 조회하지 않고, 프로젝트·메트릭·기간마다 ListTimeSeries 한 번으로 모든 인스턴스의 기간 평균을 받는다
+ * (서버 측 정렬·집계, 인스턴스별 group by). 규칙 평가는 AWS EC2 알림과 같은 규칙 파일과 기준을 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GcpVmAlertService {
+
+    private static final String INSTANCE_TYPE = "compute.googleapis.com/Instance";
+
+    private final GcpAccountRepository accountRepository;
+    private final GcpResourceRepository resourceRepository;
+    private final AwsEc2RuleLoader ruleLoader;
+    private final MemberRepository memberRepository;
+    private final SlackNotificationService slackNotificationService;
+    private final GcpClientCache clientCache;
+
+    @Value("${app.gcp.monitoring.enabled:false}")
+    private boolean scheduleEnabled;
+
+    @Scheduled(cron = "${app.gcp.monitoring.cron:0 0 9 * * *}")
+    public void scheduledCheck() {
+        if (scheduleEnabled) {
+            checkAllAccounts();
+        }
+    }
+
+    /**
+     * 모든 GCP 계정의 VM에 대해 임계치 확인 및 알림 발송
+     */
+    public List<GcpVmAlert> checkAllAccounts() {
+        List<GcpVmAlert> allAlerts = new ArrayList<>();
+        for (GcpAccount account : accountRepository.findAll()) {
+            try {
+                allAlerts.addAll(checkAccount(account.getId()));
+            } catch (Exception e) {
+                log.error("Failed to check GCP account {}: {}", account.getId(), e.getMessage(), e);
+            }
+        }
+        log.info("Total {} GCP VM alerts generated", allAlerts.size());
+        return allAlerts;
+    }
+
+    /**
+     * 특정 GCP 계정의 VM에 대해 임계치 확인 및 알림 발송
+     */
+    public List<GcpVmAlert> checkAccount(Long accountId) {
+        GcpAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "GCP 계정을 찾을 수 없습니다."));
+        MetricServiceClient client = clientCache.metricClient(account);
+
+        // 인벤토리의 실행 중 VM (프로젝트별). 인벤토리가 없으면 계정 프로젝트의 모든 시계열을 대상으로 한다
+        Map<String, Set<String>> runningByProject = new LinkedHashMap<>();
+        boolean hasInventory = false;
+        for (GcpResource resource : resourceRepository.findByGcpAccountId(accountId)) {
+            if (!INSTANCE_TYPE.equals(resource.getResourceType()) || resource.getProjectId() == null) {
+                continue;
+            }
+            hasInventory = true;
+            if ("RUNNING".equalsIgnoreCase(resource.getStatus())) {
+                runningByProject.computeIfAbsent(resource.getProjectId(), p -> new LinkedHashSet<>())
+                        .add(resource.getResourceName());
+            }
+        }
+        if (!hasInventory) {
+            runningByProject.put(account.getProjectId(), null);
+        }
+
+        List<AlertRule> rules = ruleLoader.getAllRules();
+        List<GcpVmAlert> alerts = new ArrayList<>();
+        int calls = 0;
+
+        for (Map.Entry<String, Set<String>> entry : runningByProject.entrySet()) {
+            String projectId = entry.getKey();
+            Set<String> running = entry.getValue();
+
+            // (메트릭, 기간)마다 한 번 조회해 인스턴스별 평균을 받는다
+            Map<MetricWindow, Map<String, Double>> values = new HashMap<>();
+            Map<String, String> instanceNames = new HashMap<>();
+            for (AlertRule rule : rules) {
+                for (AlertCondition condition : rule.getConditions()) {
+                    GcpVmMetric metric = GcpVmMetric.fromKey(condition.getMetric()).orElse(null);
+                    if (metric == null) {
+                        continue;
+                    }
+                    MetricWindow window = new MetricWindow(metric, condition.getPeriodInDays());
+                    if (!values.containsKey(window)) {
+                        values.put(window, fetch(client, projectId, window, instanceNames));
+                        calls++;
+                    }
+                }
+            }
+
+            for (Map.Entry<String, String> instance : instanceNames.entrySet()) {
+                if (running != null && !running.contains(instance.getValue())) {
+                    continue;
+                }
+                for (AlertRule rule : rules) {
+                    GcpVmAlert alert = checkRule(account, projectId, instance.getKey(), instance.getValue(), rule, values);
+                    if (alert != null) {
+                        alerts.add(alert);
+                    }
+                }
+            }
+        }
+
+        sendAlerts(alerts);
+        log.info("Generated {} GCP VM alerts for account {} with {} ListTimeSeries call(s)", alerts.size(), accountId, calls);
+        return alerts;
+    }
+
+    /**
+     * 프로젝트의 모든 VM에 대해 기간 평균을 한 번에 조회한다 (instanceId → 값).
+     */
+    private Map<String, Double> fetch(MetricServiceClient client, String projectId, MetricWindow window,
+                                      Map<String, String> instanceNames) {
+        Instant endTime = Instant.now();
+        Instant startTime = endTime.minus(window.periodDays(), ChronoUnit.DAYS);
+        GcpVmMetric metric = window.metric();
+
+        ListTimeSeriesRequest request = ListTimeSeriesRequest.newBuilder()
+                .setName(ProjectName.of(projectId).toString())
+                .setFilter(metric.filter())
+                .setInterval(TimeInterval.newBuilder()
+                        .setStartTime(Timestamps.fromMillis(startTime.toEpochMilli()))
+                        .setEndTime(Timestamps.fromMillis(endTime.toEpochMilli())))
+                // 정렬 구간을 기간 전체로 잡아 시계열마다 한 점(기간 평균)만 받는다
+                .setAggregation(Aggregation.newBuilder()
+                        .setAlignmentPeriod(Durations.fromSeconds(ChronoUnit.DAYS.getDuration().getSeconds() * window.periodDays()))
+                        .setPerSeriesAligner(metric.getAligner())
+                        .setCrossSeriesReducer(metric.getReducer())
+                        .addAllGroupByFields(metric.groupByFields()))
+                .setView(ListTimeSeriesRequest.TimeSeriesView.FULL)
+                .setPageSize(1000)
+                .build();
+
+        Map<String, Double> values = new HashMap<>();
+        try {
+            for (TimeSeries series : client.listTimeSeries(request).iterateAll()) {
+                String instanceId = series.getResource().getLabelsMap().get("instance_id");
+                if (instanceId == null || series.getPointsCount() == 0) {
+                    continue;
+                }
+                String name = series.getMetric().getLabelsMap().get("instance_name");
+                if (name != null) {
+                    instanceNames.put(instanceId, name);
+                } else {
+                    // Ops Agent 메트릭은 이름 라벨이 없어, compute 메트릭에서 이름을 못 얻으면 ID로 표시한다
+                    instanceNames.putIfAbsent(instanceId, instanceId);
+                }
+                double sum = 0;
+                for (Point point : series.getPointsList()) {
+                    sum += point.getValue().getDoubleValue();
+                }
+                values.put(instanceId, sum / series.getPointsCount() * metric.getScale());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to list {} for project {}: {}", metric.getKey(), projectId, e.getMessage());
+        }
+        return values;
+    }
+
+    /**
+     * 규칙의 모든 조건이 위반되면 알림 생성 (AWS와 같이 현재값 < 임계값이면 위반)
+     */
+    private GcpVmAlert checkRule(GcpAccount account, String projectId, String instanceId, String instanceName,
+                                 AlertRule rule, Map<MetricWindow, Map<String, Double>> values) {
+        String violatedMetric = null;
+        Double currentValue = null;
+        Double threshold = null;
+
+        for (AlertCondition condition : rule.getConditions()) {
+            GcpVmMetric metric = GcpVmMetric.fromKey(condition.getMetric()).orElse(null);
+            Double conditionThreshold = condition.getThresholdAsDouble();
+            if (metric == null || conditionThreshold == null) {
+                return null;
+            }
+            Double value = values.getOrDefault(new MetricWindow(metric, condition.getPeriodInDays()), Map.of()).get(instanceId);
+            if (value == null || value >= conditionThreshold) {
+                return null;
+            }
+            if (violatedMetric == null) {
+                violatedMetric = condition.getMetric();
+                currentValue = value;
+                threshold = conditionThreshold;
+            }
+        }
+        if (violatedMetric == null) {
+            return null;
+        }
+
+        String message = String.format(
+                "[%s] VM %s(%s)에서 규칙 '%s' 위반 감지.\n" +
+                "메트릭: %s, 현재값: %.2f, 임계값: %.2f\n" +
+                "%s",
+                projectId, instanceName, instanceId, rule.getTitle(),
+                violatedMetric, currentValue, threshold, rule.getRecommendation());
+
+        return GcpVmAlert.builder()
+                .accountId(account.getId())
+                .projectId(projectId)
+                .instanceId(instanceId)
+                .instanceName(instanceName)
+                .ruleId(rule.getId())
+                .ruleTitle(rule.getTitle())
+                .violatedMetric(violatedMetric)
+                .currentValue(currentValue)
+                .threshold(threshold)
+                .message(message)
+                .severity(determineSeverity(currentValue, threshold))
+                .status(GcpVmAlert.AlertStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private GcpVmAlert.AlertSeverity determineSeverity(double currentValue, double threshold) {
+        // AWS EC2 알림과 같은 기준: 임계값 대비 50% 미만이면 CRITICAL, 70% 미만이면 WARNING
+        double ratio = threshold > 0 ? (currentValue / threshold) * 100 : 0;
+        if (ratio < 50) {
+            return GcpVmAlert.AlertSeverity.CRITICAL;
+        } else if (ratio < 70) {
+            return GcpVmAlert.AlertSeverity.WARNING;
+        }
+        return GcpVmAlert.AlertSeverity.INFO;
+    }
+
+    private void sendAlerts(List<GcpVmAlert> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        List<Member> subscribers = memberRepository.findBySlackNotificationsEnabledTrueAndSlackWebhookUrlIsNotNull();
+        for (GcpVmAlert alert : alerts) {
+            log.warn("GCP VM Alert: {}", alert.getMessage());
+            alert.setStatus(GcpVmAlert.AlertStatus.SENT);
+            alert.setSentAt(LocalDateTime.now());
+            for (Member member : subscribers) {
+                if (StringUtils.hasText(member.getSlackWebhookUrl())) {
+                    slackNotificationService.sendGcpVmAlert(member.getSlackWebhookUrl(), alert);
+                }
+            }
+        }
+    }
+
+    private record MetricWindow(GcpVmMetric metric, int periodDays) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.budgetops.backend.gcp.support;
+
+import com.budgetops.backend.gcp.entity.GcpAccount;
+import com.budgetops.backend.gcp.service.GcpCredentialParser;
+import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.core.FixedExecutorProvider;
+import com.google.api.gax.grpc.ChannelPoolSettings;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.api.gax.rpc.TransportChannel;
+import com.google.api.gax.rpc.TransportChannelProvider;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.asset.v1.AssetServiceClient;
+import com.google.cloud.asset.v1.AssetServiceSettings;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryOptions;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadSettings;
+import com.google.cloud.monitoring.v3.MetricServiceClient;
+import com.google.cloud.monitoring.v3.MetricServiceSettings;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계정별 GCP 자격증명·클라이언트 캐시
+ * 서비스 계정 JSON은 계정당 한 번만 파싱하고, 같은 자격증명 객체를 재사용해 액세스 토큰이 만료 전에 미리 갱신되게 한다.
+ * gRPC 클라이언트는 API별 공유 채널 풀과 공유 백그라운드 실행기를 쓰므로 계정이 늘어도 채널·스레드 수는 고정이다.
+ * 키가 바뀌면(지문 불일치) 새로 만들고, 계정이 삭제되면 evict로 닫는다.
+ */
+@Slf4j
+@Component
+public class GcpClientCache {
+
+    private static final List<String> SCOPES = List.of("https://www.googleapis.com/auth/cloud-platform");
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, TransportChannel> channels = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService backgroundExecutor;
+    private final int maxChannelsPerApi;
+
+    public GcpClientCache(@Value("${app.gcp.client.background-threads:4}") int backgroundThreads,
+                          @Value("${app.gcp.client.max-channels-per-api:4}") int maxChannelsPerApi) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.backgroundExecutor = Executors.newScheduledThreadPool(Math.max(1, backgroundThreads), runnable -> {
+            Thread thread = new Thread(runnable, "gcp-client-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxChannelsPerApi = Math.max(1, maxChannelsPerApi);
+    }
+
+    public GoogleCredentials credentials(GcpAccount account) {
+        return entry(account).credentials;
+    }
+
+    public AssetServiceClient assetClient(GcpAccount account) {
+        Entry entry = entry(account);
+        return entry.client("asset", () -> AssetServiceClient.create(AssetServiceSettings.newBuilder()
+                .setCredentialsProvider(FixedCredentialsProvider.create(entry.credentials))
+                .setTransportChannelProvider(channel(AssetServiceSettings.getDefaultEndpoint()))
+                .setBackgroundExecutorProvider(FixedExecutorProvider.create(backgroundExecutor))
+                .build()));
+    }
+
+    public MetricServiceClient metricClient(GcpAccount account) {
+        Entry entry = entry(account);
+        return entry.client("monitoring", () -> MetricServiceClient.create(MetricServiceSettings.newBuilder()
+                .setCredentialsProvider(FixedCredentialsProvider.create(entry.credentials))
+                .setTransportChannelProvider(channel(MetricServiceSettings.getDefaultEndpoint()))
+                .setBackgroundExecutorProvider(FixedExecutorProvider.create(backgroundExecutor))
+                .build()));
+    }
+
+    public BigQueryReadClient bigQueryReadClient(GcpAccount account) {
+        Entry entry = entry(account);
+        return entry.client("bigquerystorage", () -> BigQueryReadClient.create(BigQueryReadSettings.newBuilder()
+                .setCredentialsProvider(FixedCredentialsProvider.create(entry.credentials))
+                .setTransportChannelProvider(channel(BigQueryReadSettings.getDefaultEndpoint()))
+                .setBackgroundExecutorProvider(FixedExecutorProvider.create(backgroundExecutor))
+                .build()));
+    }
+
+    /**
+     * BigQuery(HTTP) 클라이언트. 과금 프로젝트별로 하나씩 둔다.
+     */
+    public BigQuery bigQuery(GcpAccount account, String projectId) {
+        Entry entry = entry(account);
+        return entry.client("bigquery:" + projectId, () -> BigQueryOptions.newBuilder()
+                .setCredentials(entry.credentials)
+                .setProjectId(projectId)
+                .build()
+                .getService());
+    }
+
+    /**
+     * 계정 삭제·키 변경 시 캐시된 자격증명과 클라이언트를 버린다.
+     */
+    public void evict(Long accountId) {
+        Entry removed = entries.remove(accountId);
+        if (removed != null) {
+            removed.close();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        entries.values().forEach(Entry::close);
+        entries.clear();
+        channels.values().forEach(TransportChannel::shutdown);
+        backgroundExecutor.shutdownNow();
+    }
+
+    private Entry entry(GcpAccount account) {
+        String keyJson = account.getEncryptedServiceAccountKey();
+        if (keyJson == null || keyJson.isBlank()) {
+            throw new IllegalStateException("서비스 계정 키가 설정되지 않았습니다.");
+        }
+        String fingerprint = fingerprint(keyJson);
+        Entry current = entries.get(account.getId());
+        if (current != null && current.fingerprint.equals(fingerprint)) {
+            return current;
+        }
+        // 동시에 들어온 호출이 서로의 새 항목을 닫지 않도록 교체는 compute 안에서 한 번만 한다
+        Entry[] replaced = new Entry[1];
+        Entry entry = entries.compute(account.getId(), (id, existing) -> {
+            if (existing != null && existing.fingerprint.equals(fingerprint)) {
+                return existing;
+            }
+            replaced[0] = existing;
+            return new Entry(fingerprint, GcpCredentialParser.parse(keyJson).createScoped(SCOPES));
+        });
+        if (replaced[0] != null) {
+            log.info("Service account key changed for GCP account {}, rebuilding clients", account.getId());
+            replaced[0].close();
+        }
+        return entry;
+    }
+
+    /**
+     * API 엔드포인트별 공유 gRPC 채널 풀. 자격증명은 호출 단위로 붙으므로 계정 간에 공유해도 된다.
+     */
+    private TransportChannelProvider channel(String endpoint) {
+        TransportChannel channel = channels.computeIfAbsent(endpoint, key -> {
+            try {
+                return InstantiatingGrpcChannelProvider.newBuilder()
+                        .setEndpoint(key)
+                        .setMaxInboundMessageSize(Integer.MAX_VALUE)
+                        .setChannelPoolSettings(ChannelPoolSettings.builder()
+                                .setInitialChannelCount(1)
+                                .setMinChannelCount(1)
+                                .setMaxChannelCount(maxChannelsPerApi)
+                                .build())
+                        .build()
+                        .withHeaders(Map.of())
+                        .getTransportChannel();
+            } catch (IOException e) {
+                throw new UncheckedIOException("gRPC 채널 생성 실패: " + key, e);
+            }
+        });
+        // 고정 채널은 클라이언트를 닫아도 함께 닫히지 않는다
+        return FixedTransportChannelProvider.create(channel);
+    }
+
+    private static String fingerprint(String keyJson) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(keyJson.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final GoogleCredentials credentials;
+        private final Map<String, Object> clients = new ConcurrentHashMap<>();
+
+        private Entry(String fingerprint, GoogleCredentials credentials) {
+            this.fingerprint = fingerprint;
+            this.credentials = credentials;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T client(String key, ClientFactory<T> factory) {
+            return (T) clients.computeIfAbsent(key, k -> {
+                try {
+                    return factory.create();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("GCP 클라이언트 생성 실패: " + k, e);
+                }
+            });
+        }
+
+        private void close() {
+            for (Object client : clients.values()) {
+                if (client instanceof BackgroundResource resource) {
+                    resource.shutdown();
+                }
+            }
+            clients.clear();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ClientFactory<T> {
+        T create() throws IOException;
+    }
+}
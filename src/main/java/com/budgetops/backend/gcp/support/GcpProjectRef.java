@@ -0,0 +1,53 @@
+package com.budgetops.backend.gcp.support;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 리소스가 속한 프로젝트 (ID와 번호를 따로 보관)
+ * Cloud Asset 이름의 projects/ 세그먼트는 유형에 따라 프로젝트 ID(my-project)이기도 하고 번호(123456789)이기도 하다.
+ * 프로젝트 ID는 숫자로만 이루어질 수 없으므로 숫자 세그먼트는 번호로 분류해 ID 컬럼에 섞이지 않게 한다.
+ */
+public record GcpProjectRef(String projectId, String projectNumber) {
+
+    private static final Pattern PROJECT_SEGMENT = Pattern.compile("(?:^|/)projects/([^/]+)");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final String PROJECT_SCOPE_PREFIX = "projects/";
+
+    /**
+     * 우선순위 순으로 넘긴 이름들(리소스 이름, 상위 리소스 이름, projects/{number} 필드)에서 ID와 번호를 찾는다.
+     * 이름에 ID가 없고 프로젝트 범위로 검색했다면 범위 프로젝트가 곧 리소스의 프로젝트다.
+     *
+     * @param scope searchAllResources 범위 (예: projects/my-project, organizations/123)
+     */
+    public static GcpProjectRef of(String scope, String... names) {
+        String projectId = null;
+        String projectNumber = null;
+        for (String name : names) {
+            if (name == null) {
+                continue;
+            }
+            Matcher matcher = PROJECT_SEGMENT.matcher(name);
+            if (!matcher.find()) {
+                continue;
+            }
+            String segment = matcher.group(1);
+            if (isNumber(segment)) {
+                projectNumber = projectNumber == null ? segment : projectNumber;
+            } else {
+                projectId = projectId == null ? segment : projectId;
+            }
+        }
+        if (projectId == null && scope != null && scope.startsWith(PROJECT_SCOPE_PREFIX)) {
+            String scopeProject = scope.substring(PROJECT_SCOPE_PREFIX.length());
+            if (!isNumber(scopeProject)) {
+                projectId = scopeProject;
+            }
+        }
+        return new GcpProjectRef(projectId, projectNumber);
+    }
+
+    private static boolean isNumber(String value) {
+        return NUMBER.matcher(value).matches();
+    }
+}
@@ -0,0 +1,31 @@
+package com.budgetops.backend.inventory.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class InventorySyncConfig {
+
+    /**
+     * 동기화 작업 실행 스레드 풀. 대기열이 가득 차면 제출 시 거절된다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService inventorySyncExecutor(InventorySyncProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "inventory-sync-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        int threads = Math.max(1, properties.getMaxConcurrentJobs());
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())), threadFactory);
+    }
+}
@@ -0,0 +1,64 @@
+package com.budgetops.backend.inventory.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * inventory_sync_jobs 활성 작업 부분 unique 인덱스 마이그레이션 (PostgreSQL)
+ * 계정당 대기·진행 중 작업을 하나로 제한해, 여러 인스턴스가 동시에 등록해도 작업이 겹치지 않게 한다.
+ * ddl-auto는 부분 인덱스를 만들지 못하므로 스키마 갱신 뒤 직접 만든다. 이미 겹친 활성 작업은 최신 것만 남기고 실패 처리한다.
+ * H2(로컬)는 부분 인덱스가 없어 건너뛴다 (단일 인스턴스에서는 submit 동기화로 충분하다).
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class InventorySyncJobSchemaMigration implements InitializingBean {
+
+    private static final String INDEX = "uk_inventory_sync_jobs_active";
+
+    private static final String FAIL_DUPLICATES = """
+            UPDATE inventory_sync_jobs
+               SET status = 'FAILED', error_message = '같은 계정의 다른 작업과 겹쳐 중단되었습니다.', finished_at = NOW()
+             WHERE status IN ('QUEUED', 'RUNNING')
+               AND id NOT IN (SELECT MAX(id) FROM inventory_sync_jobs
+                              WHERE status IN ('QUEUED', 'RUNNING')
+                              GROUP BY provider, account_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        boolean postgres = "PostgreSQL".equalsIgnoreCase(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        if (!postgres || hasIndex()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // 정리와 인덱스 생성 사이에 다른 인스턴스가 작업을 등록하지 않도록 잠근다 (조회는 허용)
+            jdbcTemplate.execute("LOCK TABLE inventory_sync_jobs IN SHARE ROW EXCLUSIVE MODE");
+            if (hasIndex()) {
+                return;
+            }
+            int failed = jdbcTemplate.update(FAIL_DUPLICATES);
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + INDEX + " ON inventory_sync_jobs (provider, account_id) "
+                    + "WHERE status IN ('QUEUED', 'RUNNING')");
+            log.info("Added {} to inventory_sync_jobs ({} overlapping job(s) failed)", INDEX, failed);
+        });
+    }
+
+    private boolean hasIndex() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_indexes WHERE tablename = 'inventory_sync_jobs' AND indexname = ?",
+                Integer.class, INDEX);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.budgetops.backend.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인벤토리 동기화 작업 설정 (app.inventory.sync)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.inventory.sync")
+public class InventorySyncProperties {
+
+    /** 동시에 실행하는 동기화 작업 수 */
+    private int maxConcurrentJobs = 4;
+
+    /** 실행 대기 작업 수 상한 (넘으면 요청을 거절한다) */
+    private int queueCapacity = 64;
+
+    /** 진행 상황을 DB에 기록하는 최소 간격 */
+    private Duration progressInterval = Duration.ofSeconds(2);
+
+    /** heartbeat가 이 시간 넘게 멈춘 작업은 중단된 것으로 보고 새 작업을 허용한다 */
+    private Duration staleAfter = Duration.ofMinutes(10);
+
+    /** 스캔 체크포인트 보존 시간. 지나면 페이지 토큰이 만료됐다고 보고 처음부터 다시 스캔한다 */
+    private Duration checkpointTtl = Duration.ofHours(12);
+
+    /** 중단된 동기화 작업을 주기적으로 찾아 체크포인트부터 다시 실행할지 여부 */
+    private boolean resumeInterrupted = true;
+}
@@ -0,0 +1,24 @@
+package com.budgetops.backend.inventory.controller;
+
+import com.budgetops.backend.inventory.dto.InventorySyncJobResponse;
+import com.budgetops.backend.inventory.service.InventorySyncJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/inventory")
+@RequiredArgsConstructor
+public class InventorySyncJobController {
+
+    private final InventorySyncJobService jobService;
+
+    // 동기화 작업 진행 상황 (처리한 페이지·리소스 수)
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<InventorySyncJobResponse> job(@PathVariable Long jobId) {
+        return ResponseEntity.of(jobService.find(jobId));
+    }
+}
@@ -0,0 +1,54 @@
+package com.budgetops.backend.inventory.controller;
+
+import com.budgetops.backend.inventory.dto.ResourceFacetSearchResponse;
+import com.budgetops.backend.inventory.facet.FacetQuery;
+import com.budgetops.backend.inventory.service.ResourceFacetIndexService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventory")
+@RequiredArgsConstructor
+public class ResourceFacetController {
+
+    private final ResourceFacetIndexService facetService;
+
+    /**
+     * 태그/라벨로 AWS·GCP 리소스 검색
+     * 예) ?include=env=prod&include=team=payments|team=search&exclude=tier=dev&facets=team,@region
+     * include/exclude는 조건 그룹마다 파라미터를 반복한다. 태그 값에 쉼표가 들어갈 수 있어 쉼표로 나누지 않도록
+     * 변환기를 거치지 않고 요청의 원래 값 목록을 그대로 읽는다.
+     */
+    @GetMapping("/resources/search")
+    public ResponseEntity<ResourceFacetSearchResponse> search(HttpServletRequest request,
+                                                              @RequestParam(required = false) List<String> facets,
+                                                              @RequestParam(defaultValue = "0") int offset,
+                                                              @RequestParam(defaultValue = "100") int limit) {
+        try {
+            FacetQuery query = FacetQuery.parse(parameterValues(request, "include"), parameterValues(request, "exclude"));
+            return ResponseEntity.ok(facetService.search(query, facets, Math.max(0, offset), Math.max(1, Math.min(limit, 1000))));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // 색인된 태그/라벨 키 목록
+    @GetMapping("/resources/facets")
+    public ResponseEntity<List<String>> facetKeys() {
+        return ResponseEntity.ok(facetService.facetKeys());
+    }
+
+    private static List<String> parameterValues(HttpServletRequest request, String name) {
+        String[] values = request.getParameterValues(name);
+        return values == null ? null : List.of(values);
+    }
+}
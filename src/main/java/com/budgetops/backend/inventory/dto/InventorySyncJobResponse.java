@@ -0,0 +1,41 @@
+package com.budgetops.backend.inventory.dto;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.inventory.entity.InventorySyncJob;
+import com.budgetops.backend.inventory.enums.InventorySyncStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class InventorySyncJobResponse {
+    private Long jobId;
+    private CloudProvider provider;
+    private Long accountId;
+    private InventorySyncStatus status;
+    private boolean fullSync;
+    private long pagesProcessed;
+    private long resourcesProcessed;
+    private String errorMessage;
+    private Instant requestedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public static InventorySyncJobResponse from(InventorySyncJob job) {
+        InventorySyncJobResponse response = new InventorySyncJobResponse();
+        response.setJobId(job.getId());
+        response.setProvider(job.getProvider());
+        response.setAccountId(job.getAccountId());
+        response.setStatus(job.getStatus());
+        response.setFullSync(job.isFullSync());
+        response.setPagesProcessed(job.getPagesProcessed());
+        response.setResourcesProcessed(job.getResourcesProcessed());
+        response.setErrorMessage(job.getErrorMessage());
+        response.setRequestedAt(job.getRequestedAt());
+        response.setStartedAt(job.getStartedAt());
+        response.setFinishedAt(job.getFinishedAt());
+        return response;
+    }
+}
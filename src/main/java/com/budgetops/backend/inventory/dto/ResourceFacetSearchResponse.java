@@ -0,0 +1,22 @@
+package com.budgetops.backend.inventory.dto;
+
+import com.budgetops.backend.inventory.facet.ResourceFacetIndex;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+public class ResourceFacetSearchResponse {
+    private int total;
+    private int offset;
+    private List<ResourceFacetIndex.ResourceRef> resources;
+    // 결과 안에서 키별 값 개수
+    private Map<String, Map<String, Integer>> facets;
+    private int indexedResources;
+    private Instant indexBuiltAt;
+    private long tookMicros;
+}
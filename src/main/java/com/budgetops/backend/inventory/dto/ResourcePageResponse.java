@@ -0,0 +1,24 @@
+package com.budgetops.backend.inventory.dto;
+
+import com.budgetops.backend.inventory.paging.ResourcePage;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ResourcePageResponse<T> {
+    private List<T> items;
+    // 다음 페이지 요청 시 cursor로 그대로 넘긴다 (null이면 마지막 페이지)
+    private String nextCursor;
+    private boolean hasMore;
+
+    public static <T> ResourcePageResponse<T> from(ResourcePage<T> page) {
+        ResourcePageResponse<T> response = new ResourcePageResponse<>();
+        response.setItems(page.items());
+        response.setNextCursor(page.nextCursor());
+        response.setHasMore(page.hasMore());
+        return response;
+    }
+}
@@ -0,0 +1,81 @@
+package com.budgetops.backend.inventory.entity;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 인벤토리 스캔 체크포인트 (계정·스트림별)
+ * 페이지 반영과 같은 트랜잭션에서 다음 페이지 토큰을 기록하므로,
+ * 중단된 스캔은 마지막으로 커밋된 페이지 다음부터 이어서 조회한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "inventory_scan_checkpoints",
+        uniqueConstraints = @UniqueConstraint(name = "uk_inventory_scan_checkpoints_stream",
+                columnNames = {"provider", "accountId", "stream"}))
+public class InventoryScanCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CloudProvider provider;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    // 독립적으로 페이지를 넘기는 조회 단위 (예: 자산 유형, 서비스:리전)
+    @Column(nullable = false)
+    private String stream;
+
+    // 이번 스캔이 기록하는 세대 (이어서 조회해도 같은 세대로 기록해야 sweep 기준이 맞는다)
+    @Column(nullable = false)
+    private long generation;
+
+    // 스캔 조건(범위·쿼리·필드 마스크 등)의 지문. 조건이 바뀌면 이전 페이지 토큰으로 이어서 조회하지 않는다 (없으면 이어서 하지 않음)
+    @Column(length = 64)
+    private String scanFingerprint;
+
+    // 증분 스캔의 기준 시각 (null이면 전체 스캔)
+    private Instant changedSince;
+
+    // 다음에 요청할 페이지 토큰 (null이면 처음부터)
+    @Column(columnDefinition = "TEXT")
+    private String pageToken;
+
+    @Column(nullable = false)
+    private long pagesProcessed;
+
+    @Column(nullable = false)
+    private long resourcesProcessed;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(nullable = false)
+    private Instant startedAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public boolean isFullScan() {
+        return changedSince == null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.budgetops.backend.inventory.entity;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.inventory.enums.InventorySyncStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 리소스 인벤토리 동기화 작업 (계정 단위, 요청 스레드와 분리해 실행)
+ * 진행 중에는 처리한 페이지·리소스 수와 heartbeat를 주기적으로 기록한다.
+ * 계정당 대기·진행 중 작업은 하나뿐이다 (PostgreSQL에서는 부분 unique 인덱스로 보장, InventorySyncJobSchemaMigration).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "inventory_sync_jobs",
+        indexes = @Index(name = "idx_inventory_sync_jobs_account", columnList = "provider, accountId, status"))
+public class InventorySyncJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CloudProvider provider;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private InventorySyncStatus status;
+
+    // true면 증분 조건과 관계없이 전체 동기화
+    @Column(nullable = false)
+    private boolean fullSync;
+
+    @Column(nullable = false)
+    private long pagesProcessed;
+
+    @Column(nullable = false)
+    private long resourcesProcessed;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private Instant requestedAt;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    // 마지막 생존 기록 시각 (등록 시 기록하고, 소유 인스턴스가 대기·실행 중 주기적으로 갱신한다. 오래 갱신되지 않은 작업은 중단된 것으로 본다)
+    private Instant heartbeatAt;
+}
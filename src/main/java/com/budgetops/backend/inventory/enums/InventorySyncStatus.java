@@ -0,0 +1,15 @@
+package com.budgetops.backend.inventory.enums;
+
+/**
+ * 인벤토리 동기화 작업 상태
+ */
+public enum InventorySyncStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
@@ -0,0 +1,9 @@
+package com.budgetops.backend.inventory.event;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+
+/**
+ * 인벤토리 동기화 작업이 성공적으로 끝났을 때 발행된다 (작업 스레드에서 동기 전달).
+ */
+public record InventorySyncCompletedEvent(Long jobId, CloudProvider provider, Long accountId) {
+}
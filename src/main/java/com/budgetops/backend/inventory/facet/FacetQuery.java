@@ -0,0 +1,71 @@
+package com.budgetops.backend.inventory.facet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * facet 필터: 모든 include 그룹을 만족하고(AND) 어떤 exclude 항목에도 해당하지 않는(NOT) 리소스.
+ * 한 그룹 안의 항목은 OR로 묶는다.
+ *
+ * <pre>
+ * include = ["env=prod", "team=payments|team=search", "owner"]   // owner 키가 있으면 값은 무관
+ * exclude = ["tier=dev"]
+ * </pre>
+ */
+public record FacetQuery(List<List<Term>> include, List<Term> exclude) {
+
+    public static final FacetQuery ALL = new FacetQuery(List.of(), List.of());
+
+    /**
+     * @param value null이면 키만 있으면 일치
+     */
+    public record Term(String key, String value) {
+
+        static Term parse(String text) {
+            String trimmed = text.trim();
+            int eq = trimmed.indexOf('=');
+            if (eq < 0) {
+                return new Term(requireKey(trimmed, text), null);
+            }
+            String key = requireKey(trimmed.substring(0, eq).trim(), text);
+            String value = trimmed.substring(eq + 1).trim();
+            return new Term(key, "*".equals(value) ? null : value);
+        }
+
+        private static String requireKey(String key, String text) {
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("잘못된 facet 조건입니다: " + text);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * "key=value", "key=a|key=b", "key"(="key=*") 형식의 문자열 조건을 읽는다.
+     */
+    public static FacetQuery parse(List<String> include, List<String> exclude) {
+        List<List<Term>> groups = new ArrayList<>();
+        if (include != null) {
+            for (String group : include) {
+                List<Term> terms = new ArrayList<>();
+                for (String term : group.split("\\|")) {
+                    if (!term.isBlank()) {
+                        terms.add(Term.parse(term));
+                    }
+                }
+                if (!terms.isEmpty()) {
+                    groups.add(List.copyOf(terms));
+                }
+            }
+        }
+        List<Term> excluded = new ArrayList<>();
+        if (exclude != null) {
+            for (String term : exclude) {
+                if (!term.isBlank()) {
+                    excluded.add(Term.parse(term));
+                }
+            }
+        }
+        return new FacetQuery(List.copyOf(groups), List.copyOf(excluded));
+    }
+}
@@ -0,0 +1,256 @@
+package com.budgetops.backend.inventory.facet;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클라우드 공통 리소스 태그/라벨 facet 인덱스
+ * 리소스마다 0부터 연속된 ordinal을 주고, key=value마다 ordinal 집합을 압축 비트맵(Roaring)으로 가진다.
+ * 필터는 비트맵 OR/AND/ANDNOT 몇 번으로, facet 개수는 결과 비트맵과의 교집합 크기로 계산한다.
+ * 제공자·계정·유형·리전은 예약 키(@provider, @account, @type, @region)로 같은 방식으로 색인한다.
+ * 불변 객체이므로 여러 스레드에서 공유해도 된다. 갱신은 새로 만들어 교체한다.
+ */
+public final class ResourceFacetIndex {
+
+    public static final String PROVIDER_KEY = "@provider";
+    public static final String ACCOUNT_KEY = "@account";
+    public static final String TYPE_KEY = "@type";
+    public static final String REGION_KEY = "@region";
+
+    public static final ResourceFacetIndex EMPTY = builder().build();
+
+    private final CloudProvider[] providers;
+    private final long[] accountIds;
+    private final long[] ids;
+    private final String[] resourceIds;
+    private final String[] names;
+    private final String[] types;
+    /** key → value → ordinal 비트맵 */
+    private final Map<String, Map<String, RoaringBitmap>> facets;
+    /** key → 해당 키가 있는 ordinal 비트맵 (값 무관) */
+    private final Map<String, RoaringBitmap> keys;
+    private final RoaringBitmap all;
+    private final Instant builtAt;
+
+    private ResourceFacetIndex(Builder builder) {
+        int size = builder.size;
+        this.providers = Arrays.copyOf(builder.providers, size);
+        this.accountIds = Arrays.copyOf(builder.accountIds, size);
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.resourceIds = Arrays.copyOf(builder.resourceIds, size);
+        this.names = Arrays.copyOf(builder.names, size);
+        this.types = Arrays.copyOf(builder.types, size);
+        this.facets = builder.facets;
+        this.keys = new HashMap<>(facets.size() * 2);
+        for (Map.Entry<String, Map<String, RoaringBitmap>> facet : facets.entrySet()) {
+            for (RoaringBitmap bitmap : facet.getValue().values()) {
+                bitmap.runOptimize();
+            }
+            RoaringBitmap union = FastAggregation.or(facet.getValue().values().iterator());
+            union.runOptimize();
+            keys.put(facet.getKey(), union);
+        }
+        this.all = RoaringBitmap.bitmapOfRange(0, size);
+        this.builtAt = Instant.now();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    /**
+     * 조건에 맞는 리소스 ordinal 집합. 반환된 비트맵은 호출자 소유다.
+     */
+    public RoaringBitmap filter(FacetQuery query) {
+        List<RoaringBitmap> groups = new ArrayList<>(query.include().size());
+        for (List<FacetQuery.Term> group : query.include()) {
+            List<RoaringBitmap> terms = new ArrayList<>(group.size());
+            for (FacetQuery.Term term : group) {
+                RoaringBitmap bitmap = lookup(term);
+                if (bitmap != null) {
+                    terms.add(bitmap);
+                }
+            }
+            if (terms.isEmpty()) {
+                return new RoaringBitmap();
+            }
+            groups.add(terms.size() == 1 ? terms.get(0) : FastAggregation.or(terms.iterator()));
+        }
+
+        RoaringBitmap result;
+        if (groups.isEmpty()) {
+            result = all.clone();
+        } else {
+            // 작은 집합부터 교집합을 만들면 중간 결과가 빨리 줄어든다
+            groups.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+            result = groups.get(0).clone();
+            for (int i = 1; i < groups.size() && !result.isEmpty(); i++) {
+                result.and(groups.get(i));
+            }
+        }
+        for (FacetQuery.Term term : query.exclude()) {
+            RoaringBitmap bitmap = lookup(term);
+            if (bitmap != null) {
+                result.andNot(bitmap);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 결과 집합 안에서 키별 값 개수 (값마다 교집합 크기만 계산하고 비트맵은 만들지 않는다).
+     * 개수 내림차순으로 키당 최대 limit개.
+     */
+    public Map<String, Map<String, Integer>> counts(RoaringBitmap result, List<String> facetKeys, int limit) {
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        for (String key : facetKeys) {
+            Map<String, RoaringBitmap> values = facets.getOrDefault(key, Map.of());
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>(values.size());
+            for (Map.Entry<String, RoaringBitmap> value : values.entrySet()) {
+                int count = RoaringBitmap.andCardinality(result, value.getValue());
+                if (count > 0) {
+                    entries.add(Map.entry(value.getKey(), count));
+                }
+            }
+            entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            Map<String, Integer> top = new LinkedHashMap<>();
+            for (int i = 0; i < entries.size() && i < limit; i++) {
+                top.put(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+            counts.put(key, top);
+        }
+        return counts;
+    }
+
+    /**
+     * 결과 집합의 offset번째부터 limit개 리소스 (ordinal 순)
+     */
+    public List<ResourceRef> page(RoaringBitmap result, int offset, int limit) {
+        int cardinality = result.getCardinality();
+        if (offset >= cardinality || limit <= 0) {
+            return List.of();
+        }
+        List<ResourceRef> refs = new ArrayList<>(Math.min(limit, cardinality - offset));
+        PeekableIntIterator iterator = result.getIntIterator();
+        if (offset > 0) {
+            // select(offset)로 시작 ordinal을 바로 찾아 건너뛴다
+            iterator.advanceIfNeeded(result.select(offset));
+        }
+        while (iterator.hasNext() && refs.size() < limit) {
+            int ordinal = iterator.next();
+            refs.add(new ResourceRef(providers[ordinal], accountIds[ordinal], ids[ordinal],
+                    resourceIds[ordinal], names[ordinal], types[ordinal]));
+        }
+        return refs;
+    }
+
+    /**
+     * 색인된 키 목록 (예약 키 포함)
+     */
+    public List<String> facetKeys() {
+        return List.copyOf(facets.keySet());
+    }
+
+    private RoaringBitmap lookup(FacetQuery.Term term) {
+        if (term.value() == null) {
+            return keys.get(term.key());
+        }
+        Map<String, RoaringBitmap> values = facets.get(term.key());
+        return values == null ? null : values.get(term.value());
+    }
+
+    public record ResourceRef(CloudProvider provider, long accountId, long id, String resourceId,
+                              String resourceName, String resourceType) {
+    }
+
+    /**
+     * ordinal 순으로 리소스를 추가해 인덱스를 만든다 (단일 스레드용).
+     */
+    public static final class Builder {
+
+        private CloudProvider[] providers = new CloudProvider[1024];
+        private long[] accountIds = new long[1024];
+        private long[] ids = new long[1024];
+        private String[] resourceIds = new String[1024];
+        private String[] names = new String[1024];
+        private String[] types = new String[1024];
+        private final Map<String, Map<String, RoaringBitmap>> facets = new HashMap<>();
+        /** 유형·리전 등 반복되는 문자열은 한 인스턴스만 보관 */
+        private final Map<String, String> strings = new HashMap<>();
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(CloudProvider provider, long accountId, long id, String resourceId, String resourceName,
+                           String resourceType, String region, Map<String, String> tags) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                providers = Arrays.copyOf(providers, capacity);
+                accountIds = Arrays.copyOf(accountIds, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+                resourceIds = Arrays.copyOf(resourceIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                types = Arrays.copyOf(types, capacity);
+            }
+            int ordinal = size++;
+            providers[ordinal] = provider;
+            accountIds[ordinal] = accountId;
+            ids[ordinal] = id;
+            resourceIds[ordinal] = resourceId;
+            names[ordinal] = resourceName;
+            types[ordinal] = intern(resourceType);
+
+            mark(PROVIDER_KEY, provider.name().toLowerCase(), ordinal);
+            mark(ACCOUNT_KEY, provider.name().toLowerCase() + ":" + accountId, ordinal);
+            if (resourceType != null) {
+                mark(TYPE_KEY, resourceType, ordinal);
+            }
+            if (region != null) {
+                mark(REGION_KEY, region, ordinal);
+            }
+            if (tags != null) {
+                for (Map.Entry<String, String> tag : tags.entrySet()) {
+                    if (tag.getKey() != null) {
+                        mark(tag.getKey(), tag.getValue() == null ? "" : tag.getValue(), ordinal);
+                    }
+                }
+            }
+            return this;
+        }
+
+        public ResourceFacetIndex build() {
+            return new ResourceFacetIndex(this);
+        }
+
+        private void mark(String key, String value, int ordinal) {
+            // ordinal이 증가하는 순서로만 추가되므로 비트맵 끝에 붙는 빠른 경로를 탄다
+            facets.computeIfAbsent(intern(key), k -> new HashMap<>())
+                    .computeIfAbsent(intern(value), v -> new RoaringBitmap())
+                    .add(ordinal);
+        }
+
+        private String intern(String value) {
+            return value == null ? null : strings.computeIfAbsent(value, v -> v);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.budgetops.backend.inventory.paging;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 한 장. nextCursor가 null이면 마지막 페이지다.
+ */
+public record ResourcePage<T>(List<T> items, String nextCursor) {
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,118 @@
+package com.budgetops.backend.inventory.paging;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 리소스 목록 키셋(커서) 페이지 요청
+ * OFFSET 대신 마지막으로 본 (정렬 값, id) 다음부터 읽는다. (필터 컬럼, 정렬 컬럼, id) 인덱스를 타면
+ * 몇 번째 페이지든 limit + 1행만 읽으므로 테이블이 커져도 페이지 지연이 일정하다.
+ * 커서는 정렬 기준·방향과 마지막 행의 (id, 정렬 값)을 base64url로 묶은 문자열이다.
+ */
+public record ResourcePageRequest(ResourceSort sort, boolean descending, Long afterId, String afterValue, int limit) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public static ResourcePageRequest of(String sort, String direction, String cursor, Integer limit) {
+        ResourceSort resourceSort = ResourceSort.from(sort);
+        boolean descending = descending(direction);
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (cursor == null || cursor.isBlank()) {
+            return new ResourcePageRequest(resourceSort, descending, null, null, size);
+        }
+
+        String[] parts = decode(cursor);
+        if (!resourceSort.name().equals(parts[0]) || descending != "desc".equals(parts[1])) {
+            throw new IllegalArgumentException("커서의 정렬 조건이 요청과 다릅니다.");
+        }
+        try {
+            return new ResourcePageRequest(resourceSort, descending, Long.parseLong(parts[2]), parts[3], size);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * select 뒤에 필터·커서 조건, 정렬, LIMIT을 붙여 한 페이지를 읽는다.
+     * select 결과에는 id와 정렬 컬럼이 포함되어야 한다.
+     */
+    public <T> ResourcePage<T> fetch(NamedParameterJdbcTemplate jdbcTemplate, String select, List<String> conditions,
+                                     MapSqlParameterSource params, RowMapper<T> rowMapper) {
+        List<String> where = new ArrayList<>(conditions);
+        String operator = descending ? "<" : ">";
+        if (afterId != null) {
+            if (sort == ResourceSort.ID) {
+                where.add("id " + operator + " :afterId");
+            } else {
+                where.add("(" + sort.column() + ", id) " + operator + " (:afterValue, :afterId)");
+                params.addValue("afterValue", afterValue);
+            }
+            params.addValue("afterId", afterId);
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        StringBuilder sql = new StringBuilder(select);
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", where));
+        }
+        sql.append(" ORDER BY ");
+        if (sort != ResourceSort.ID) {
+            sql.append(sort.column()).append(direction).append(", ");
+        }
+        sql.append("id").append(direction).append(" LIMIT :limit");
+        // 한 행 더 읽어 다음 페이지 존재 여부를 판단한다
+        params.addValue("limit", limit + 1);
+
+        List<T> items = new ArrayList<>(limit);
+        long[] lastId = new long[1];
+        String[] lastValue = new String[1];
+        boolean[] more = new boolean[1];
+        jdbcTemplate.query(sql.toString(), params, rs -> {
+            if (items.size() == limit) {
+                more[0] = true;
+                return;
+            }
+            items.add(rowMapper.mapRow(rs, items.size()));
+            lastId[0] = rs.getLong("id");
+            lastValue[0] = sort == ResourceSort.ID ? "" : rs.getString(sort.column());
+        });
+        return new ResourcePage<>(items, more[0] ? encode(lastId[0], lastValue[0]) : null);
+    }
+
+    private String encode(long id, String value) {
+        String raw = sort.name() + ":" + (descending ? "desc" : "asc") + ":" + id + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        // 정렬 값에는 ':'가 들어갈 수 있으므로 앞의 세 필드만 나눈다
+        String[] parts = raw.split(":", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return parts;
+    }
+
+    private static boolean descending(String direction) {
+        if (direction == null || direction.isBlank() || "asc".equalsIgnoreCase(direction.trim())) {
+            return false;
+        }
+        if ("desc".equalsIgnoreCase(direction.trim())) {
+            return true;
+        }
+        throw new IllegalArgumentException("정렬 방향은 asc 또는 desc입니다: " + direction);
+    }
+}
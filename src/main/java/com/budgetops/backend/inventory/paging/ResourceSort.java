@@ -0,0 +1,32 @@
+package com.budgetops.backend.inventory.paging;
+
+import java.util.Locale;
+
+/**
+ * 리소스 목록 정렬 키. 같은 값끼리는 id로 순서를 고정해 (정렬 컬럼, id) 키셋으로 넘긴다.
+ */
+public enum ResourceSort {
+    ID("id"),
+    NAME("resource_name");
+
+    private final String column;
+
+    ResourceSort(String column) {
+        this.column = column;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public static ResourceSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return ID;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value + " (id, name)");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.budgetops.backend.inventory.repository;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.common.support.TagMapConverter;
+import com.budgetops.backend.inventory.facet.ResourceFacetIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+
+/**
+ * facet 인덱스 원본 읽기 (JDBC 스트리밍)
+ * 엔티티를 만들지 않고 색인에 필요한 컬럼만 fetchSize 단위로 읽어 바로 빌더에 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryFacetSourceRepository {
+
+    private static final int FETCH_SIZE = 5000;
+    private static final String GCP_SQL =
+            "SELECT id, gcp_account_id, resource_id, resource_name, resource_type, region, labels FROM gcp_resources";
+    private static final String AWS_SQL =
+            "SELECT id, aws_account_id, resource_id, resource_name, resource_type, region, tags FROM aws_resources";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // PostgreSQL 드라이버는 트랜잭션 안(autocommit off)에서만 fetchSize로 나눠 읽는다
+    @Transactional(readOnly = true)
+    public void load(ResourceFacetIndex.Builder builder) {
+        load(GCP_SQL, CloudProvider.GCP, builder);
+        load(AWS_SQL, CloudProvider.AWS, builder);
+    }
+
+    private void load(String sql, CloudProvider provider, ResourceFacetIndex.Builder builder) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            builder.add(provider, rs.getLong(2), rs.getLong(1), rs.getString(3), rs.getString(4),
+                    rs.getString(5), rs.getString(6), TagMapConverter.fromJson(rs.getString(7)));
+        });
+    }
+}
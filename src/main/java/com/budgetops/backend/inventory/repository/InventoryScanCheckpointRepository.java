@@ -0,0 +1,34 @@
+package com.budgetops.backend.inventory.repository;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.inventory.entity.InventoryScanCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface InventoryScanCheckpointRepository extends JpaRepository<InventoryScanCheckpoint, Long> {
+
+    List<InventoryScanCheckpoint> findByProviderAndAccountId(CloudProvider provider, Long accountId);
+
+    @Query("select max(c.generation) from InventoryScanCheckpoint c where c.provider = :provider and c.accountId = :accountId")
+    Long findMaxGeneration(@Param("provider") CloudProvider provider, @Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("delete from InventoryScanCheckpoint c where c.provider = :provider and c.accountId = :accountId")
+    int deleteByProviderAndAccountId(@Param("provider") CloudProvider provider, @Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("update InventoryScanCheckpoint c set c.pageToken = :pageToken, c.completed = :completed, " +
+            "c.pagesProcessed = c.pagesProcessed + 1, c.resourcesProcessed = c.resourcesProcessed + :resources, " +
+            "c.updatedAt = :now where c.id = :id")
+    int advance(@Param("id") Long id, @Param("pageToken") String pageToken, @Param("completed") boolean completed,
+                @Param("resources") long resources, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update InventoryScanCheckpoint c set c.pageToken = null, c.updatedAt = :now where c.id = :id")
+    int rewind(@Param("id") Long id, @Param("now") Instant now);
+}
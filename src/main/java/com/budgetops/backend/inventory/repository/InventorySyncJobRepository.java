@@ -0,0 +1,61 @@
+package com.budgetops.backend.inventory.repository;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.inventory.entity.InventorySyncJob;
+import com.budgetops.backend.inventory.enums.InventorySyncStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface InventorySyncJobRepository extends JpaRepository<InventorySyncJob, Long> {
+
+    Optional<InventorySyncJob> findFirstByProviderAndAccountIdAndStatusInOrderByIdDesc(
+            CloudProvider provider, Long accountId, Collection<InventorySyncStatus> statuses);
+
+    Optional<InventorySyncJob> findFirstByProviderAndAccountIdOrderByIdDesc(CloudProvider provider, Long accountId);
+
+    // heartbeat가 기준 시각보다 오래된 대기·진행 중 작업 (대기 중에도 소유 인스턴스가 heartbeat를 갱신한다)
+    @Query("select j from InventorySyncJob j where j.status in :statuses and j.heartbeatAt < :staleBefore")
+    List<InventorySyncJob> findStale(@Param("statuses") Collection<InventorySyncStatus> statuses,
+                                     @Param("staleBefore") Instant staleBefore);
+
+    // 대기 중인 작업만 시작 처리한다 (그사이 중단 처리된 작업은 실행하지 않는다)
+    @Modifying
+    @Query("update InventorySyncJob j set j.status = :running, j.startedAt = :now, j.heartbeatAt = :now " +
+            "where j.id = :id and j.status = :queued")
+    int markStarted(@Param("id") Long id, @Param("queued") InventorySyncStatus queued,
+                    @Param("running") InventorySyncStatus running, @Param("now") Instant now);
+
+    // 여러 인스턴스 중 한 곳만 성공하도록 조건부로 중단 처리한다
+    @Modifying
+    @Query("update InventorySyncJob j set j.status = :failed, j.errorMessage = :error, j.finishedAt = :now " +
+            "where j.id = :id and j.status in :statuses and j.heartbeatAt < :staleBefore")
+    int markAbandoned(@Param("id") Long id, @Param("statuses") Collection<InventorySyncStatus> statuses,
+                      @Param("staleBefore") Instant staleBefore, @Param("failed") InventorySyncStatus failed,
+                      @Param("error") String error, @Param("now") Instant now);
+
+    // 이 인스턴스가 가진 대기·진행 중 작업이 살아 있음을 기록한다
+    @Modifying
+    @Query("update InventorySyncJob j set j.heartbeatAt = :now where j.id in :ids and j.status in :statuses")
+    int touchHeartbeat(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<InventorySyncStatus> statuses,
+                       @Param("now") Instant now);
+
+    @Modifying
+    @Query("update InventorySyncJob j set j.pagesProcessed = :pages, j.resourcesProcessed = :resources, j.heartbeatAt = :now where j.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("pages") long pages, @Param("resources") long resources,
+                       @Param("now") Instant now);
+
+    // 기대한 상태일 때만 종료 처리한다 (그사이 중단 처리된 작업의 결과를 덮어쓰지 않는다)
+    @Modifying
+    @Query("update InventorySyncJob j set j.status = :status, j.pagesProcessed = :pages, j.resourcesProcessed = :resources, " +
+            "j.errorMessage = :error, j.finishedAt = :now, j.heartbeatAt = :now where j.id = :id and j.status = :expected")
+    int markFinished(@Param("id") Long id, @Param("expected") InventorySyncStatus expected,
+                     @Param("status") InventorySyncStatus status, @Param("pages") long pages,
+                     @Param("resources") long resources, @Param("error") String error, @Param("now") Instant now);
+}
@@ -0,0 +1,132 @@
+package com.budgetops.backend.inventory.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.inventory.config.InventorySyncProperties;
+import com.budgetops.backend.inventory.entity.InventoryScanCheckpoint;
+import com.budgetops.backend.inventory.repository.InventoryScanCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 인벤토리 스캔 체크포인트 관리
+ * 수집기는 스캔 시작 시 이어서 할 체크포인트가 있는지 확인하고, 페이지마다 반영과 같은 트랜잭션에서 advance를 호출한다.
+ * 모든 스트림이 끝나면 clear로 지운다. 페이지 토큰은 오래되면 만료되므로 checkpointTtl이 지난 체크포인트는 버린다.
+ * 스캔 조건이 바뀐 뒤에는 이전 토큰이 다른 결과 집합을 가리키므로, 조건 지문이 다른 체크포인트도 버린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryScanCheckpoints {
+
+    private final InventoryScanCheckpointRepository repository;
+    private final InventorySyncProperties properties;
+
+    /**
+     * 스캔 조건을 이루는 값들의 지문 (SHA-256, null은 빈 값으로 본다)
+     */
+    public static String fingerprint(String... parts) {
+        StringBuilder joined = new StringBuilder();
+        for (String part : parts) {
+            joined.append(part == null ? "" : part).append('\n');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 이어서 진행할 수 있는 스캔의 체크포인트 (스트림 구성과 조건 지문이 같고 만료되지 않은 경우만)
+     */
+    @Transactional
+    public Optional<List<InventoryScanCheckpoint>> resumable(CloudProvider provider, Long accountId, List<String> streams,
+                                                             String fingerprint) {
+        List<InventoryScanCheckpoint> checkpoints = repository.findByProviderAndAccountId(provider, accountId);
+        if (checkpoints.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant expiredBefore = Instant.now().minus(properties.getCheckpointTtl());
+        boolean expired = checkpoints.stream().anyMatch(c -> c.getUpdatedAt().isBefore(expiredBefore));
+        boolean sameStreams = checkpoints.size() == streams.size()
+                && checkpoints.stream().allMatch(c -> streams.contains(c.getStream()));
+        boolean sameScan = checkpoints.stream().allMatch(c -> fingerprint.equals(c.getScanFingerprint()));
+        if (expired || !sameStreams || !sameScan) {
+            repository.deleteByProviderAndAccountId(provider, accountId);
+            return Optional.empty();
+        }
+        return Optional.of(checkpoints);
+    }
+
+    /**
+     * 진행 중인 스캔의 세대 (없으면 empty). 스캔 밖에서 리소스를 쓰는 쪽(asset feed 등)은
+     * 이 세대 이상으로 기록해야 스캔이 끝날 때 sweep에 지워지지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> activeGeneration(CloudProvider provider, Long accountId) {
+        return Optional.ofNullable(repository.findMaxGeneration(provider, accountId));
+    }
+
+    /**
+     * 새 스캔을 시작한다 (기존 체크포인트는 버린다)
+     */
+    @Transactional
+    public List<InventoryScanCheckpoint> start(CloudProvider provider, Long accountId, List<String> streams,
+                                               String fingerprint, long generation, Instant changedSince) {
+        repository.deleteByProviderAndAccountId(provider, accountId);
+        repository.flush();
+        Instant now = Instant.now();
+        List<InventoryScanCheckpoint> checkpoints = new ArrayList<>(streams.size());
+        for (String stream : streams) {
+            InventoryScanCheckpoint checkpoint = new InventoryScanCheckpoint();
+            checkpoint.setProvider(provider);
+            checkpoint.setAccountId(accountId);
+            checkpoint.setStream(stream);
+            checkpoint.setScanFingerprint(fingerprint);
+            checkpoint.setGeneration(generation);
+            checkpoint.setChangedSince(changedSince);
+            checkpoint.setStartedAt(now);
+            checkpoint.setUpdatedAt(now);
+            checkpoints.add(checkpoint);
+        }
+        return repository.saveAll(checkpoints);
+    }
+
+    /**
+     * 한 페이지 반영 완료. 반드시 페이지를 쓴 트랜잭션 안에서 호출한다 (반영과 토큰 기록이 함께 커밋).
+     * 다음 페이지 토큰이 비어 있으면 스트림이 끝난 것으로 기록한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void advance(Long checkpointId, String nextPageToken, int resources) {
+        boolean completed = !StringUtils.hasText(nextPageToken);
+        repository.advance(checkpointId, completed ? null : nextPageToken, completed, resources, Instant.now());
+    }
+
+    /**
+     * 저장된 토큰이 만료되어 거절된 스트림을 처음부터 다시 조회하도록 되돌린다 (페이지 반영은 멱등)
+     */
+    @Transactional
+    public void rewind(Long checkpointId) {
+        repository.rewind(checkpointId, Instant.now());
+    }
+
+    /**
+     * 스캔 완료. 마무리(sweep 등)와 같은 트랜잭션에서 호출한다.
+     */
+    @Transactional
+    public void clear(CloudProvider provider, Long accountId) {
+        repository.deleteByProviderAndAccountId(provider, accountId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.budgetops.backend.inventory.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+
+/**
+ * 제공자별 동기화 본문 등록. 중단된 작업을 다시 실행할 때 같은 본문을 만들기 위해 쓴다.
+ */
+public interface InventorySyncHandler {
+
+    CloudProvider provider();
+
+    InventorySyncTask task(Long accountId, boolean fullSync);
+}
@@ -0,0 +1,235 @@
+package com.budgetops.backend.inventory.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.inventory.config.InventorySyncProperties;
+import com.budgetops.backend.inventory.dto.InventorySyncJobResponse;
+import com.budgetops.backend.inventory.entity.InventorySyncJob;
+import com.budgetops.backend.inventory.event.InventorySyncCompletedEvent;
+import com.budgetops.backend.inventory.enums.InventorySyncStatus;
+import com.budgetops.backend.inventory.repository.InventorySyncJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 리소스 인벤토리 동기화 작업 실행기 (제공자 공통)
+ * 요청은 작업 행만 만들고 바로 반환하며, 본문은 전용 스레드 풀에서 실행된다.
+ * 같은 계정에 진행 중인 작업이 있으면 새로 만들지 않고 그 작업을 돌려준다.
+ * 상태·진행 기록은 본문 트랜잭션과 분리된 짧은 트랜잭션으로 커밋해 폴링에서 바로 보이게 한다.
+ * 이 인스턴스가 가진 대기·실행 중 작업은 주기적으로 heartbeat를 남기고,
+ * heartbeat가 멈춘 작업은 중단된 것으로 보고 제공자 핸들러로 다시 실행한다 (수집기는 체크포인트부터 이어서 조회).
+ */
+@Slf4j
+@Service
+public class InventorySyncJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final EnumSet<InventorySyncStatus> ACTIVE = EnumSet.of(InventorySyncStatus.QUEUED, InventorySyncStatus.RUNNING);
+
+    private final InventorySyncJobRepository jobRepository;
+    private final InventorySyncProperties properties;
+    private final ExecutorService executor;
+    private final TransactionTemplate statusTransaction;
+    // 핸들러는 이 서비스를 주입받으므로 지연 조회한다
+    private final ObjectProvider<InventorySyncHandler> handlers;
+    private final ApplicationEventPublisher eventPublisher;
+    // 이 인스턴스의 실행 대기열·스레드에 있는 작업 (heartbeat 대상)
+    private final Set<Long> localJobs = ConcurrentHashMap.newKeySet();
+
+    public InventorySyncJobService(InventorySyncJobRepository jobRepository,
+                                   InventorySyncProperties properties,
+                                   @Qualifier("inventorySyncExecutor") ExecutorService executor,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectProvider<InventorySyncHandler> handlers,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.jobRepository = jobRepository;
+        this.properties = properties;
+        this.executor = executor;
+        this.handlers = handlers;
+        this.eventPublisher = eventPublisher;
+        this.statusTransaction = new TransactionTemplate(transactionManager);
+        this.statusTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 동기화 작업을 등록하고 실행 대기열에 넣는다.
+     * 대기열이 가득 차면 503으로 거절한다.
+     */
+    public synchronized InventorySyncJobResponse submit(CloudProvider provider, Long accountId, boolean fullSync,
+                                                        InventorySyncTask task) {
+        Optional<InventorySyncJob> active = findActive(provider, accountId);
+        if (active.isPresent()) {
+            return InventorySyncJobResponse.from(active.get());
+        }
+
+        InventorySyncJob job = new InventorySyncJob();
+        job.setProvider(provider);
+        job.setAccountId(accountId);
+        job.setStatus(InventorySyncStatus.QUEUED);
+        job.setFullSync(fullSync);
+        Instant now = Instant.now();
+        job.setRequestedAt(now);
+        job.setHeartbeatAt(now);
+        InventorySyncJob saved;
+        try {
+            saved = statusTransaction.execute(status -> jobRepository.save(job));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 계정의 작업을 먼저 등록했다 (활성 작업 unique 인덱스)
+            return findActive(provider, accountId)
+                    .map(InventorySyncJobResponse::from)
+                    .orElseThrow(() -> e);
+        }
+
+        localJobs.add(saved.getId());
+        try {
+            executor.execute(() -> run(saved.getId(), task));
+        } catch (RejectedExecutionException e) {
+            localJobs.remove(saved.getId());
+            finish(saved.getId(), InventorySyncStatus.QUEUED, InventorySyncStatus.FAILED, 0, 0, "동기화 대기열이 가득 찼습니다.");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "동기화 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return InventorySyncJobResponse.from(saved);
+    }
+
+    public Optional<InventorySyncJobResponse> find(Long jobId) {
+        return jobRepository.findById(jobId).map(InventorySyncJobResponse::from);
+    }
+
+    public Optional<InventorySyncJobResponse> latest(CloudProvider provider, Long accountId) {
+        return jobRepository.findFirstByProviderAndAccountIdOrderByIdDesc(provider, accountId)
+                .map(InventorySyncJobResponse::from);
+    }
+
+    /**
+     * 이 인스턴스가 가진 작업의 heartbeat를 갱신한다.
+     * 진행 기록이 뜸한 긴 페이지나 대기열에서 기다리는 작업도 중단된 것으로 오인되지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.sync.heartbeat-interval:30000}")
+    public void heartbeat() {
+        if (localJobs.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(localJobs);
+        statusTransaction.executeWithoutResult(status -> jobRepository.touchHeartbeat(ids, ACTIVE, Instant.now()));
+    }
+
+    /**
+     * 인스턴스 재시작·배포로 끝나지 못한 작업을 찾아 다시 실행한다.
+     * 수집기가 체크포인트부터 이어서 조회하므로 이미 반영한 페이지는 다시 받지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.sync.resume-check-interval:60000}",
+            initialDelayString = "${app.inventory.sync.resume-check-interval:60000}")
+    public void resumeInterrupted() {
+        if (!properties.isResumeInterrupted()) {
+            return;
+        }
+        Instant staleBefore = Instant.now().minus(properties.getStaleAfter());
+        for (InventorySyncJob job : jobRepository.findStale(ACTIVE, staleBefore)) {
+            if (!abandon(job, staleBefore)) {
+                continue;
+            }
+            handlers.orderedStream()
+                    .filter(handler -> handler.provider() == job.getProvider())
+                    .findFirst()
+                    .ifPresent(handler -> {
+                        try {
+                            InventorySyncJobResponse resumed = submit(job.getProvider(), job.getAccountId(),
+                                    job.isFullSync(), handler.task(job.getAccountId(), job.isFullSync()));
+                            log.info("Resumed interrupted inventory sync job {} as job {}", job.getId(), resumed.getJobId());
+                        } catch (RuntimeException e) {
+                            log.warn("Failed to resume inventory sync job {}: {}", job.getId(), e.getMessage());
+                        }
+                    });
+        }
+    }
+
+    private Optional<InventorySyncJob> findActive(CloudProvider provider, Long accountId) {
+        Instant staleBefore = Instant.now().minus(properties.getStaleAfter());
+        Optional<InventorySyncJob> active = jobRepository.findFirstByProviderAndAccountIdAndStatusInOrderByIdDesc(
+                provider, accountId, ACTIVE);
+        if (active.isPresent() && abandon(active.get(), staleBefore)) {
+            return Optional.empty();
+        }
+        return active;
+    }
+
+    /**
+     * heartbeat가 멈춘 작업을 중단 처리한다. 다른 인스턴스가 먼저 처리했거나 아직 살아 있으면 false.
+     */
+    private boolean abandon(InventorySyncJob job, Instant staleBefore) {
+        if (job.getHeartbeatAt() == null || !job.getHeartbeatAt().isBefore(staleBefore)) {
+            return false;
+        }
+        Integer updated = statusTransaction.execute(status -> jobRepository.markAbandoned(job.getId(), ACTIVE, staleBefore,
+                InventorySyncStatus.FAILED, "작업이 응답 없이 중단되었습니다.", Instant.now()));
+        return updated != null && updated > 0;
+    }
+
+    private void run(Long jobId, InventorySyncTask task) {
+        try {
+            execute(jobId, task);
+        } finally {
+            localJobs.remove(jobId);
+        }
+    }
+
+    private void execute(Long jobId, InventorySyncTask task) {
+        Integer started = statusTransaction.execute(status -> jobRepository.markStarted(jobId,
+                InventorySyncStatus.QUEUED, InventorySyncStatus.RUNNING, Instant.now()));
+        if (started == null || started == 0) {
+            // 대기 중에 중단 처리되어 다른 작업으로 다시 실행된 경우
+            return;
+        }
+        InventorySyncProgress progress = new InventorySyncProgress(properties.getProgressInterval().toNanos(),
+                p -> statusTransaction.executeWithoutResult(status ->
+                        jobRepository.updateProgress(jobId, p.pages(), p.resources(), Instant.now())));
+        try {
+            task.run(progress);
+        } catch (RuntimeException e) {
+            log.warn("Inventory sync job {} failed: {}", jobId, e.getMessage());
+            finish(jobId, InventorySyncStatus.RUNNING, InventorySyncStatus.FAILED, progress.pages(), progress.resources(),
+                    truncate(e.getMessage()));
+            return;
+        }
+        if (!finish(jobId, InventorySyncStatus.RUNNING, InventorySyncStatus.SUCCEEDED, progress.pages(),
+                progress.resources(), null)) {
+            // 실행 중 중단 처리되어 다른 작업으로 다시 실행된 경우, 완료 알림은 그 작업이 보낸다
+            log.warn("Inventory sync job {} finished after it was marked abandoned", jobId);
+            return;
+        }
+        jobRepository.findById(jobId).ifPresent(job ->
+                eventPublisher.publishEvent(new InventorySyncCompletedEvent(jobId, job.getProvider(), job.getAccountId())));
+    }
+
+    private boolean finish(Long jobId, InventorySyncStatus expected, InventorySyncStatus result,
+                           long pages, long resources, String error) {
+        Integer updated = statusTransaction.execute(status ->
+                jobRepository.markFinished(jobId, expected, result, pages, resources, error, Instant.now()));
+        return updated != null && updated > 0;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return "알 수 없는 오류";
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,54 @@
+package com.budgetops.backend.inventory.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 실행 중인 작업의 진행 카운터
+ * 카운트는 페이지마다 올리되, DB 기록은 최소 간격마다 한 번만 한다 (동기화 본문과 별도 트랜잭션).
+ */
+public class InventorySyncProgress {
+
+    /** 진행 기록이 필요 없는 호출(직접 실행, 테스트)용 */
+    public static final InventorySyncProgress NONE = new InventorySyncProgress(0L, p -> { });
+
+    private final AtomicLong pages = new AtomicLong();
+    private final AtomicLong resources = new AtomicLong();
+    private final long intervalNanos;
+    private final Consumer<InventorySyncProgress> flusher;
+    private volatile long lastFlush = System.nanoTime();
+
+    InventorySyncProgress(long intervalNanos, Consumer<InventorySyncProgress> flusher) {
+        this.intervalNanos = intervalNanos;
+        this.flusher = flusher;
+    }
+
+    /**
+     * 한 페이지 처리 완료
+     */
+    public void page(int resourceCount) {
+        pages.incrementAndGet();
+        resources.addAndGet(resourceCount);
+        long now = System.nanoTime();
+        if (now - lastFlush >= intervalNanos) {
+            lastFlush = now;
+            flusher.accept(this);
+        }
+    }
+
+    /**
+     * 체크포인트에서 이어서 실행할 때 이미 반영된 양을 더한다
+     */
+    public void resumed(long resumedPages, long resumedResources) {
+        pages.addAndGet(resumedPages);
+        resources.addAndGet(resumedResources);
+    }
+
+    public long pages() {
+        return pages.get();
+    }
+
+    public long resources() {
+        return resources.get();
+    }
+}
@@ -0,0 +1,11 @@
+package com.budgetops.backend.inventory.service;
+
+/**
+ * 동기화 작업 본문. 페이지를 처리할 때마다 progress에 알린다.
+ * 예외를 던지면 작업은 FAILED로 끝난다.
+ */
+@FunctionalInterface
+public interface InventorySyncTask {
+
+    void run(InventorySyncProgress progress);
+}
@@ -0,0 +1,90 @@
+package com.budgetops.backend.inventory.service;
+
+import com.budgetops.backend.inventory.dto.ResourceFacetSearchResponse;
+import com.budgetops.backend.inventory.event.InventorySyncCompletedEvent;
+import com.budgetops.backend.inventory.facet.FacetQuery;
+import com.budgetops.backend.inventory.facet.ResourceFacetIndex;
+import com.budgetops.backend.inventory.repository.InventoryFacetSourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 리소스 태그/라벨 facet 인덱스 보관·검색
+ * 인덱스는 DB에서 통째로 다시 만들어 교체한다 (주기적으로, 그리고 인벤토리 동기화가 끝날 때).
+ * 검색은 현재 인덱스 스냅샷만 읽으므로 재구성 중에도 막히지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceFacetIndexService {
+
+    private static final List<String> DEFAULT_FACETS = List.of(ResourceFacetIndex.PROVIDER_KEY, ResourceFacetIndex.TYPE_KEY);
+    private static final int MAX_FACET_VALUES = 50;
+
+    private final InventoryFacetSourceRepository sourceRepository;
+
+    private volatile ResourceFacetIndex index = ResourceFacetIndex.EMPTY;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${app.inventory.facets.refresh-interval:300000}",
+            initialDelayString = "${app.inventory.facets.initial-delay:10000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onInventorySynced(InventorySyncCompletedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 인덱스를 다시 만든다. 이미 재구성 중이면 끝난 뒤 한 번 더 만들도록 표시만 한다.
+     */
+    public void rebuild() {
+        pending.set(true);
+        while (pending.get() && rebuilding.compareAndSet(false, true)) {
+            try {
+                pending.set(false);
+                long startedAt = System.currentTimeMillis();
+                ResourceFacetIndex.Builder builder = ResourceFacetIndex.builder();
+                sourceRepository.load(builder);
+                index = builder.build();
+                log.info("Rebuilt resource facet index: {} resource(s), {} key(s) in {} ms",
+                        index.size(), index.facetKeys().size(), System.currentTimeMillis() - startedAt);
+            } catch (RuntimeException e) {
+                log.warn("Resource facet index rebuild failed: {}", e.getMessage());
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+    }
+
+    public ResourceFacetSearchResponse search(FacetQuery query, List<String> facetKeys, int offset, int limit) {
+        long startedAt = System.nanoTime();
+        ResourceFacetIndex snapshot = index;
+        RoaringBitmap result = snapshot.filter(query);
+
+        ResourceFacetSearchResponse response = new ResourceFacetSearchResponse();
+        response.setTotal(result.getCardinality());
+        response.setOffset(offset);
+        response.setResources(snapshot.page(result, offset, limit));
+        response.setFacets(snapshot.counts(result, facetKeys == null || facetKeys.isEmpty() ? DEFAULT_FACETS : facetKeys,
+                MAX_FACET_VALUES));
+        response.setIndexedResources(snapshot.size());
+        response.setIndexBuiltAt(snapshot.builtAt());
+        response.setTookMicros((System.nanoTime() - startedAt) / 1000);
+        return response;
+    }
+
+    public List<String> facetKeys() {
+        return index.facetKeys();
+    }
+}
@@ -1,6 +1,8 @@
 package com.budgetops.backend.notification.service;
 
 import com.budgetops.backend.aws.dto.AwsEc2Alert;
+import com.budgetops.backend.cost.anomaly.CostAnomaly;
+import com.budgetops.backend.gcp.dto.GcpVmAlert;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Service;
@@ -41,6 +43,57 @@ public class SlackNotificationService {
         }
     }
 
+    public void sendCostAnomaly(String webhookUrl, CostAnomaly anomaly) {
+        if (!StringUtils.hasText(webhookUrl) || anomaly == null) {
+            return;
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("text", buildCostAnomalyMessage(anomaly));
+
+        try {
+            restTemplate.postForEntity(webhookUrl, payload, String.class);
+            log.debug("Sent Slack cost anomaly for account {} {}", anomaly.accountId(), anomaly.service());
+        } catch (Exception ex) {
+            log.warn("Failed to send Slack alert: {}", ex.getMessage());
+        }
+    }
+
+    public void sendGcpVmAlert(String webhookUrl, GcpVmAlert alert) {
+        if (!StringUtils.hasText(webhookUrl) || alert == null) {
+            return;
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("text", buildGcpVmAlertMessage(alert));
+
+        try {
+            restTemplate.postForEntity(webhookUrl, payload, String.class);
+            log.debug("Sent Slack GCP VM alert for instance {}", alert.getInstanceId());
+        } catch (Exception ex) {
+            log.warn("Failed to send Slack alert: {}", ex.getMessage());
+        }
+    }
+
+    private String buildCostAnomalyMessage(CostAnomaly anomaly) {
+        return """
+                :chart_with_upwards_trend: *비용 이상 감지*
+                • 계정: %s #%d
+                • 서비스: %s (%s)
+                • 일자: %s
+                • 비용: %.2f (평소 %.2f, 점수 %.1f)
+                """.formatted(
+                anomaly.provider(),
+                anomaly.accountId(),
+                anomaly.service(),
+                StringUtils.hasText(anomaly.region()) ? anomaly.region() : "global",
+                anomaly.usageDate(),
+                anomaly.cost(),
+                anomaly.expected(),
+                anomaly.score()
+        );
+    }
+
     private String buildEc2AlertMessage(AwsEc2Alert alert) {
         String severityEmoji = switch (Optional.ofNullable(alert.getSeverity()).orElse(AwsEc2Alert.AlertSeverity.INFO)) {
             case CRITICAL -> ":rotating_light:";
@@ -66,5 +119,30 @@ public class SlackNotificationService {
                 Optional.ofNullable(alert.getThreshold()).orElse(0.0)
         );
     }
-}
 
+    private String buildGcpVmAlertMessage(GcpVmAlert alert) {
+        String severityEmoji = switch (Optional.ofNullable(alert.getSeverity()).orElse(GcpVmAlert.AlertSeverity.INFO)) {
+            case CRITICAL -> ":rotating_light:";
+            case WARNING -> ":warning:";
+            default -> ":information_source:";
+        };
+
+        return """
+                %s *GCP VM 알림*
+                • 프로젝트: %s
+                • 인스턴스: %s (%s)
+                • 규칙: %s
+                • 메트릭: %s
+                • 현재값: %.2f (임계값 %.2f)
+                """.formatted(
+                severityEmoji,
+                Optional.ofNullable(alert.getProjectId()).orElse("미지정"),
+                Optional.ofNullable(alert.getInstanceName()).orElse(alert.getInstanceId()),
+                alert.getInstanceId(),
+                Optional.ofNullable(alert.getRuleTitle()).orElse("알 수 없음"),
+                Optional.ofNullable(alert.getViolatedMetric()).orElse("알 수 없음"),
+                Optional.ofNullable(alert.getCurrentValue()).orElse(0.0),
+                Optional.ofNullable(alert.getThreshold()).orElse(0.0)
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package com.budgetops.backend.budget.support;
+
+import com.budgetops.backend.budget.entity.BudgetForecast;
+import com.budgetops.backend.budget.enums.BudgetStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HoltForecasterTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2025, 3, 1);
+
+    private final HoltForecaster forecaster = new HoltForecaster(0.5, 0.5);
+
+    /** 3/1 12, 3/2 20, 3/3 30 (3/3은 아직 진행 중) */
+    private BudgetForecast threeDays() {
+        BudgetForecast state = new BudgetForecast();
+        forecaster.observe(state, MARCH_1, 10);
+        forecaster.observe(state, MARCH_1, 2);
+        forecaster.observe(state, MARCH_1.plusDays(1), 20);
+        forecaster.observe(state, MARCH_1.plusDays(2), 30);
+        return state;
+    }
+
+    @Test
+    @DisplayName("하루가 끝날 때마다 level/trend를 평활하고, 진행 중인 날은 합계만 쌓는다")
+    void smoothsClosedDays() {
+        BudgetForecast state = threeDays();
+
+        // 3/1(12)로 level 초기화, 3/2(20): level = 0.5*20 + 0.5*(12+0) = 16, trend = 0.5*(16-12) = 2
+        assertThat(state.getLevel()).isCloseTo(16.0, within(1e-9));
+        assertThat(state.getTrend()).isCloseTo(2.0, within(1e-9));
+        assertThat(state.getCurrentDate()).isEqualTo(MARCH_1.plusDays(2));
+        assertThat(state.getCurrentCost()).isCloseTo(30.0, within(1e-9));
+        assertThat(state.getMonth()).isEqualTo(MARCH_1);
+        assertThat(state.getMonthToDate()).isEqualByComparingTo("62");
+    }
+
+    @Test
+    @DisplayName("월말 예상치는 누계 + 남은 날의 level + trend*h 합이고, 한도 대비 상태를 정한다")
+    void projectsMonthEnd() {
+        BudgetForecast state = threeDays();
+
+        // 남은 28일: sum(16 + 2h, h=1..28) = 448 + 812 = 1260
+        forecaster.project(state, new BigDecimal("1000"), 80);
+        assertThat(state.getProjectedMonthEnd()).isEqualByComparingTo("1322");
+        assertThat(state.getStatus()).isEqualTo(BudgetStatus.FORECAST_OVER);
+
+        forecaster.project(state, new BigDecimal("1500"), 80);
+        assertThat(state.getStatus()).isEqualTo(BudgetStatus.AT_RISK);
+
+        forecaster.project(state, new BigDecimal("2000"), 80);
+        assertThat(state.getStatus()).isEqualTo(BudgetStatus.ON_TRACK);
+
+        forecaster.project(state, new BigDecimal("50"), 80);
+        assertThat(state.getStatus()).isEqualTo(BudgetStatus.EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("하락 추세는 음수 일 비용으로 예상치를 깎지 않는다")
+    void negativeTrend_isClampedAtZero() {
+        BudgetForecast state = new BudgetForecast();
+        forecaster.observe(state, MARCH_1, 100);
+        forecaster.observe(state, MARCH_1.plusDays(1), 10);
+        forecaster.observe(state, MARCH_1.plusDays(2), 0);
+        forecaster.observe(state, MARCH_1.plusDays(3), 0);
+        assertThat(state.getTrend()).isNegative();
+
+        forecaster.project(state, new BigDecimal("1000"), 80);
+        assertThat(state.getProjectedMonthEnd()).isGreaterThanOrEqualTo(state.getMonthToDate());
+    }
+
+    @Test
+    @DisplayName("새 달 비용이 들어오면 누계를 새로 시작하고, 지난달 재산정은 누계에 섞지 않는다")
+    void newMonth_resetsMonthToDate() {
+        BudgetForecast state = threeDays();
+        LocalDate april1 = LocalDate.of(2025, 4, 1);
+
+        forecaster.observe(state, april1, 5);
+        assertThat(state.getMonth()).isEqualTo(april1);
+        assertThat(state.getMonthToDate()).isEqualByComparingTo("5");
+        assertThat(state.getCurrentDate()).isEqualTo(april1);
+        // 3/3(30) 이후 빈 날들은 0으로 평활되어 level이 내려간다
+        assertThat(state.getLevel()).isLessThan(16.0);
+
+        forecaster.observe(state, MARCH_1.plusDays(19), 7);
+        assertThat(state.getMonth()).isEqualTo(april1);
+        assertThat(state.getMonthToDate()).isEqualByComparingTo("5");
+    }
+
+    @Test
+    @DisplayName("새 달 비용이 아직 없어도 월 전환 시 누계를 0으로 넘기고 한 달 전체를 예측한다")
+    void rollOver_resetsWithoutNewCost() {
+        BudgetForecast state = threeDays();
+        LocalDate april2 = LocalDate.of(2025, 4, 2);
+
+        assertThat(forecaster.rollOver(state, april2)).isTrue();
+        assertThat(state.getMonth()).isEqualTo(LocalDate.of(2025, 4, 1));
+        assertThat(state.getMonthToDate()).isEqualByComparingTo("0");
+        assertThat(forecaster.rollOver(state, april2)).isFalse();
+
+        // 기준일이 지난달이면 4월 30일 전체: sum(16 + 2h, h=1..30) = 480 + 930 = 1410
+        forecaster.project(state, new BigDecimal("2000"), 80);
+        assertThat(state.getProjectedMonthEnd()).isEqualByComparingTo("1410");
+        assertThat(state.getLevel()).isCloseTo(16.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("월 중간에 초기화하면 지난 날은 누계로만 세고 남은 날만 예측한다")
+    void seed_midMonth_projectsOnlyRemainingDays() {
+        BudgetForecast state = new BudgetForecast();
+        LocalDate march20 = LocalDate.of(2025, 3, 20);
+
+        // 3/1~3/19 누계 190 → 일 평균 10, 기준일 3/19
+        forecaster.seed(state, march20, new BigDecimal("190"));
+        assertThat(state.getCurrentDate()).isEqualTo(LocalDate.of(2025, 3, 19));
+        assertThat(state.getLevel()).isCloseTo(10.0, within(1e-9));
+
+        // 남은 12일(3/20~3/31) × 10 = 120
+        forecaster.project(state, new BigDecimal("400"), 80);
+        assertThat(state.getProjectedMonthEnd()).isEqualByComparingTo("310");
+        assertThat(state.getStatus()).isEqualTo(BudgetStatus.ON_TRACK);
+
+        // 다음 날 비용이 들어와 기준일을 마감해도 level은 평균 그대로다
+        forecaster.observe(state, march20, 10);
+        assertThat(state.getLevel()).isCloseTo(10.0, within(1e-9));
+        assertThat(state.getMonthToDate()).isEqualByComparingTo("200");
+    }
+
+    @Test
+    @DisplayName("1일에 초기화하면 기준일 없이 한 달 전체를 예측한다")
+    void seed_firstDay_projectsWholeMonth() {
+        BudgetForecast state = new BudgetForecast();
+
+        forecaster.seed(state, MARCH_1, BigDecimal.ZERO);
+
+        assertThat(state.getCurrentDate()).isNull();
+        forecaster.project(state, new BigDecimal("100"), 80);
+        assertThat(state.getProjectedMonthEnd()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("이력이 없으면 NO_DATA, 잘못된 계수는 거절한다")
+    void noDataAndInvalidCoefficients() {
+        BudgetForecast state = new BudgetForecast();
+        forecaster.project(state, new BigDecimal("100"), 80);
+        assertThat(state.getStatus()).isEqualTo(BudgetStatus.NO_DATA);
+        assertThat(forecaster.rollOver(state, MARCH_1)).isFalse();
+
+        assertThatThrownBy(() -> new HoltForecaster(0, 0.1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HoltForecaster(0.3, 1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.budgetops.backend.cost.anomaly;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CostAnomalyDetectorTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("평소보다 크게 튄 날은 다음 날 데이터가 들어올 때 이상치로 보고된다")
+    void spike_isReportedWhenDayCloses() {
+        CostAnomalyDetector detector = new CostAnomalyDetector(7, 0.2, 4.0, 14, 10);
+        List<CostAnomaly> anomalies = new ArrayList<>();
+
+        for (int day = 0; day < 35; day++) {
+            double cost = day % 7 >= 5 ? 50 : 100;   // 주말은 절반
+            detector.observe(CloudProvider.GCP, 1L, "Compute Engine", "asia-northeast3",
+                    START.plusDays(day), cost, anomalies::add);
+        }
+        assertThat(anomalies).isEmpty();
+
+        detector.observe(CloudProvider.GCP, 1L, "Compute Engine", "asia-northeast3", START.plusDays(35), 400, anomalies::add);
+        assertThat(anomalies).isEmpty();
+        detector.observe(CloudProvider.GCP, 1L, "Compute Engine", "asia-northeast3", START.plusDays(36), 100, anomalies::add);
+
+        assertThat(anomalies).hasSize(1);
+        CostAnomaly anomaly = anomalies.get(0);
+        assertThat(anomaly.usageDate()).isEqualTo(START.plusDays(35));
+        assertThat(anomaly.service()).isEqualTo("Compute Engine");
+        assertThat(anomaly.accountId()).isEqualTo(1L);
+        assertThat(anomaly.provider()).isEqualTo(CloudProvider.GCP);
+        assertThat(anomaly.expected()).isCloseTo(100, within(1.0));
+    }
+
+    @Test
+    @DisplayName("요일 패턴(주말 하락)과 학습 기간 중 변동은 이상치로 보지 않는다")
+    void seasonalPatternAndWarmup_areNotReported() {
+        CostAnomalyDetector detector = new CostAnomalyDetector(7, 0.2, 4.0, 14, 10);
+        List<CostAnomaly> anomalies = new ArrayList<>();
+
+        detector.observe(CloudProvider.AWS, 2L, "EC2", "us-east-1", START, 10, anomalies::add);
+        detector.observe(CloudProvider.AWS, 2L, "EC2", "us-east-1", START.plusDays(1), 1_000, anomalies::add);
+        for (int day = 2; day < 60; day++) {
+            double cost = day % 7 >= 5 ? 20 : 300;
+            detector.observe(CloudProvider.AWS, 2L, "EC2", "us-east-1", START.plusDays(day), cost, anomalies::add);
+        }
+
+        assertThat(anomalies).isEmpty();
+        assertThat(detector.seriesCount()).isEqualTo(1);
+    }
+}
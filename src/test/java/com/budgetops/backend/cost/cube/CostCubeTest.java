@@ -0,0 +1,129 @@
+package com.budgetops.backend.cost.cube;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CostCubeTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("group-by와 월 버킷 합계가 원본 행 합계와 일치한다")
+    void groupByMonth_sumsMatch() {
+        CostCube cube = new CostCube(1_000, pool);
+        for (int day = 0; day < 90; day++) {
+            for (int account = 0; account < 10; account++) {
+                cube.append(START.plusDays(day),
+                        new String[]{String.valueOf(account), account % 2 == 0 ? "AWS" : "GCP", "Compute", "us-east1", ""},
+                        1.0);
+            }
+        }
+
+        CubeResult result = cube.query(CubeQuery.builder()
+                .from(START)
+                .to(START.plusDays(89))
+                .groupBy(List.of(CubeDimension.PROVIDER))
+                .bucket(TimeBucket.MONTH)
+                .build());
+
+        assertThat(result.rows()).hasSize(6);
+        CubeRow first = result.rows().get(0);
+        assertThat(first.bucketStart()).isEqualTo(START);
+        assertThat(first.cost()).isCloseTo(31 * 5.0, within(1e-9));
+        assertThat(result.rows().stream().mapToDouble(CubeRow::cost).sum()).isCloseTo(900.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("재산정 차액 행을 더하면 최신 금액으로 집계된다")
+    void restatementDelta_isApplied() {
+        CostCube cube = new CostCube(16, pool);
+        String[] key = {"1", "GCP", "BigQuery", "US", "team=data"};
+        cube.append(START, key, 10.0);
+        cube.append(START, key, -4.0);
+
+        CubeResult result = cube.query(CubeQuery.builder()
+                .from(START)
+                .to(START)
+                .filters(Map.of(CubeDimension.TAG, Set.of("team=data")))
+                .build());
+
+        assertThat(result.rows()).singleElement()
+                .satisfies(row -> assertThat(row.cost()).isCloseTo(6.0, within(1e-9)));
+    }
+
+    @Test
+    @DisplayName("존 맵으로 기간 밖 세그먼트와 없는 필터 값은 스캔하지 않는다")
+    void zoneMaps_pruneSegments() {
+        CostCube cube = new CostCube(10, pool);
+        for (int day = 0; day < 100; day++) {
+            cube.append(START.plusDays(day), new String[]{"1", "AWS", "EC2", "ap-northeast-2", ""}, 1.0);
+        }
+
+        CubeResult lastWeek = cube.query(CubeQuery.builder()
+                .from(START.plusDays(93))
+                .to(START.plusDays(99))
+                .build());
+        assertThat(lastWeek.scannedSegments()).isEqualTo(1);
+        assertThat(lastWeek.rows()).singleElement()
+                .satisfies(row -> assertThat(row.cost()).isCloseTo(7.0, within(1e-9)));
+
+        CubeResult unknownService = cube.query(CubeQuery.builder()
+                .from(START)
+                .to(START.plusDays(99))
+                .filters(Map.of(CubeDimension.SERVICE, Set.of("RDS")))
+                .build());
+        assertThat(unknownService.rows()).isEmpty();
+        assertThat(unknownService.scannedSegments()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 세그먼트를 병렬로 스캔해 병합한 결과가 순차 합계와 같다")
+    void parallelSegmentScan_mergesPartials() {
+        CostCube cube = new CostCube(64, pool);
+        double[] expectedByAccount = new double[2];
+        for (int day = 0; day < 60; day++) {
+            for (int row = 0; row < 50; row++) {
+                int account = row % 2;
+                double cost = (day + 1) * 0.01 + row;
+                expectedByAccount[account] += cost;
+                cube.append(START.plusDays(day),
+                        new String[]{(account == 0 ? "AWS:" : "GCP:") + "1", account == 0 ? "AWS" : "GCP",
+                                "Service-" + (row % 5), "region-" + (row % 3), ""},
+                        cost);
+            }
+        }
+
+        CubeResult result = cube.query(CubeQuery.builder()
+                .from(START)
+                .to(START.plusDays(59))
+                .groupBy(List.of(CubeDimension.ACCOUNT))
+                .build());
+
+        // 3000행 / 세그먼트 64행 → 47개 세그먼트를 모두 스캔 (병렬 경로)
+        assertThat(result.scannedSegments()).isGreaterThan(1);
+        assertThat(result.rows()).hasSize(2);
+        Map<String, Double> byAccount = new HashMap<>();
+        result.rows().forEach(row -> byAccount.put(row.dimensions().get(CubeDimension.ACCOUNT), row.cost()));
+        // 같은 id라도 provider가 다른 계정은 별도 그룹이다
+        assertThat(byAccount.get("AWS:1")).isCloseTo(expectedByAccount[0], within(1e-6));
+        assertThat(byAccount.get("GCP:1")).isCloseTo(expectedByAccount[1], within(1e-6));
+    }
+}
@@ -0,0 +1,133 @@
+package com.budgetops.backend.cost.service;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import com.budgetops.backend.cost.entity.CostRollup;
+import com.budgetops.backend.cost.enums.RollupGranularity;
+import com.budgetops.backend.cost.event.CostFactChange;
+import com.budgetops.backend.cost.event.CostIngestedEvent;
+import com.budgetops.backend.cost.repository.CostRollupBulkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CostRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 5);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private CostRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE cost_rollups (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    granularity VARCHAR(8) NOT NULL,
+                    period_start DATE NOT NULL,
+                    provider VARCHAR(16) NOT NULL,
+                    account_id BIGINT NOT NULL,
+                    service VARCHAR(255) NOT NULL,
+                    region VARCHAR(64) NOT NULL,
+                    cost NUMERIC(19, 6) NOT NULL,
+                    updated_at TIMESTAMP,
+                    CONSTRAINT uk_cost_rollups_key UNIQUE (granularity, period_start, provider, account_id, service, region)
+                )
+                """);
+        service = new CostRollupService(null, null, new CostRollupBulkRepository(jdbcTemplate));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private static CostFactChange change(LocalDate date, String service, String previous, String current) {
+        return new CostFactChange(date, CloudProvider.AWS, 1L, service, "us-east-1", "",
+                new BigDecimal(previous), new BigDecimal(current));
+    }
+
+    private BigDecimal cost(RollupGranularity granularity, LocalDate date, String service, String region) {
+        List<BigDecimal> rows = jdbcTemplate.queryForList(
+                "SELECT cost FROM cost_rollups WHERE granularity = ? AND period_start = ? AND service = ? AND region = ?",
+                BigDecimal.class, granularity.name(), granularity.periodStart(date), service, region);
+        assertThat(rows).hasSizeLessThanOrEqualTo(1);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Test
+    @DisplayName("차액을 일/주/월 버킷과 계정 합계 행에 금액 그대로 더한다")
+    void appliesDeltasToAllBuckets() {
+        service.onCostIngested(new CostIngestedEvent(List.of(
+                change(DAY, "EC2", "0", "10.100001"),
+                change(DAY.plusDays(1), "S3", "0", "0.333333"))));
+        // 재산정: EC2 10.100001 → 7.000002
+        service.onCostIngested(new CostIngestedEvent(List.of(
+                change(DAY, "EC2", "10.100001", "7.000002"))));
+
+        assertThat(cost(RollupGranularity.DAY, DAY, "EC2", "us-east-1")).isEqualByComparingTo("7.000002");
+        assertThat(cost(RollupGranularity.DAY, DAY.plusDays(1), "S3", "us-east-1")).isEqualByComparingTo("0.333333");
+        assertThat(cost(RollupGranularity.WEEK, DAY, CostRollup.ALL, CostRollup.ALL)).isEqualByComparingTo("7.333335");
+        assertThat(cost(RollupGranularity.MONTH, DAY, CostRollup.ALL, CostRollup.ALL)).isEqualByComparingTo("7.333335");
+        assertThat(cost(RollupGranularity.MONTH, DAY, "EC2", "us-east-1")).isEqualByComparingTo("7.000002");
+    }
+
+    @Test
+    @DisplayName("바뀌지 않은 팩트는 롤업 행을 만들지 않는다")
+    void skipsZeroDeltas() {
+        service.onCostIngested(new CostIngestedEvent(List.of(change(DAY, "EC2", "5.000000", "5"))));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cost_rollups", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키의 첫 insert가 동시에 들어와도 차액을 잃지 않는다")
+    void concurrentFirstInsert() throws Exception {
+        int threads = 8;
+        int rounds = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < rounds; i++) {
+                        service.onCostIngested(new CostIngestedEvent(List.of(change(DAY, "EC2", "1", "1.010001"))));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BigDecimal expected = new BigDecimal("0.010001").multiply(BigDecimal.valueOf((long) threads * rounds));
+        assertThat(cost(RollupGranularity.DAY, DAY, "EC2", "us-east-1")).isEqualByComparingTo(expected);
+        assertThat(cost(RollupGranularity.MONTH, DAY, CostRollup.ALL, CostRollup.ALL)).isEqualByComparingTo(expected);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cost_rollups", Long.class)).isEqualTo(6L);
+    }
+}
@@ -0,0 +1,63 @@
+package com.budgetops.backend.gcp.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GcpResourceSchemaMigrationTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private GcpResourceSchemaMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute(
+                "CREATE TABLE gcp_resources (id BIGINT PRIMARY KEY, gcp_account_id BIGINT, resource_id VARCHAR(255))");
+        migration = new GcpResourceSchemaMigration(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(database)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("중복 행은 가장 최근 행만 남기고 unique 제약을 추가한다")
+    void dedupesAndAddsConstraint() {
+        jdbcTemplate.update("INSERT INTO gcp_resources VALUES (1, 1, 'vm-a'), (2, 1, 'vm-a'), (3, 1, 'vm-b'), " +
+                "(4, 2, 'vm-a'), (5, 1, 'vm-a')");
+
+        migration.afterPropertiesSet();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM gcp_resources ORDER BY id", Long.class))
+                .containsExactly(3L, 4L, 5L);
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO gcp_resources VALUES (6, 1, 'vm-b')"))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("제약이 이미 있으면 다시 실행해도 아무것도 바꾸지 않는다")
+    void isIdempotent() {
+        jdbcTemplate.update("INSERT INTO gcp_resources VALUES (1, 1, 'vm-a')");
+
+        migration.afterPropertiesSet();
+        migration.afterPropertiesSet();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM gcp_resources", Long.class)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,34 @@
+package com.budgetops.backend.gcp.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcpProjectRefTest {
+
+    @Test
+    @DisplayName("이름의 프로젝트 ID와 project 필드의 번호를 따로 담는다")
+    void splitsIdAndNumber() {
+        GcpProjectRef ref = GcpProjectRef.of("organizations/42",
+                "//compute.googleapis.com/projects/my-project/zones/us-central1-a/instances/vm-1",
+                "//cloudresourcemanager.googleapis.com/projects/123456789",
+                "projects/123456789");
+
+        assertThat(ref).isEqualTo(new GcpProjectRef("my-project", "123456789"));
+    }
+
+    @Test
+    @DisplayName("번호만 있는 버킷은 ID를 비워 두고, 프로젝트 범위면 범위 프로젝트를 ID로 쓴다")
+    void numberOnlyResource() {
+        String bucket = "//storage.googleapis.com/my-bucket";
+        String parent = "//cloudresourcemanager.googleapis.com/projects/123456789";
+
+        assertThat(GcpProjectRef.of("folders/7", bucket, parent))
+                .isEqualTo(new GcpProjectRef(null, "123456789"));
+        assertThat(GcpProjectRef.of("projects/my-project", bucket, parent))
+                .isEqualTo(new GcpProjectRef("my-project", "123456789"));
+        assertThat(GcpProjectRef.of("projects/987", bucket, null))
+                .isEqualTo(new GcpProjectRef(null, null));
+    }
+}
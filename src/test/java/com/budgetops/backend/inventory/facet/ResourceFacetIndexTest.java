@@ -0,0 +1,85 @@
+package com.budgetops.backend.inventory.facet;
+
+import com.budgetops.backend.common.enums.CloudProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceFacetIndexTest {
+
+    private final ResourceFacetIndex index = ResourceFacetIndex.builder()
+            .add(CloudProvider.AWS, 1, 10, "i-1", "api-1", "ec2", "ap-northeast-2a", Map.of("env", "prod", "team", "payments"))
+            .add(CloudProvider.AWS, 1, 11, "i-2", "api-2", "ec2", "ap-northeast-2c", Map.of("env", "dev", "team", "payments"))
+            .add(CloudProvider.GCP, 7, 20, "//compute/vm-1", "vm-1", "compute.googleapis.com/Instance", "asia-northeast3",
+                    Map.of("env", "prod", "team", "search", "owner", "kim"))
+            .add(CloudProvider.GCP, 7, 21, "//storage/logs", "logs", "storage.googleapis.com/Bucket", null,
+                    Map.of("env", "prod"))
+            .add(CloudProvider.GCP, 7, 22, "//compute/vm-2", "vm-2", "compute.googleapis.com/Instance", "asia-northeast3", null)
+            .build();
+
+    private List<String> names(FacetQuery query) {
+        return index.page(index.filter(query), 0, 100).stream().map(ResourceFacetIndex.ResourceRef::resourceName).toList();
+    }
+
+    @Test
+    @DisplayName("그룹 사이는 AND, 그룹 안은 OR, exclude는 NOT으로 계산된다")
+    void andOrNot() {
+        assertThat(names(FacetQuery.parse(List.of("env=prod"), null))).containsExactly("api-1", "vm-1", "logs");
+        assertThat(names(FacetQuery.parse(List.of("env=prod", "team=payments|team=search"), null)))
+                .containsExactly("api-1", "vm-1");
+        assertThat(names(FacetQuery.parse(List.of("team=payments"), List.of("env=dev")))).containsExactly("api-1");
+        assertThat(names(FacetQuery.parse(null, List.of("env")))).containsExactly("vm-2");
+    }
+
+    @Test
+    @DisplayName("키만 지정하면 값과 관계없이 일치하고, 없는 키·값은 빈 결과가 된다")
+    void keyOnlyAndUnknownTerms() {
+        assertThat(names(FacetQuery.parse(List.of("owner"), null))).containsExactly("vm-1");
+        assertThat(names(FacetQuery.parse(List.of("team=*"), null))).containsExactly("api-1", "api-2", "vm-1");
+        assertThat(names(FacetQuery.parse(List.of("env=staging"), null))).isEmpty();
+        assertThat(names(FacetQuery.parse(List.of("missing=x|env=dev"), null))).containsExactly("api-2");
+        assertThat(names(FacetQuery.ALL)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("예약 키로 제공자·계정·유형·리전을 같은 방식으로 거른다")
+    void reservedKeys() {
+        assertThat(names(FacetQuery.parse(List.of("@provider=gcp", "@type=compute.googleapis.com/Instance"), null)))
+                .containsExactly("vm-1", "vm-2");
+        assertThat(names(FacetQuery.parse(List.of("@account=aws:1"), List.of("@region=ap-northeast-2c"))))
+                .containsExactly("api-1");
+    }
+
+    @Test
+    @DisplayName("facet 개수는 결과 안에서 값별로 세고 많은 순으로 정렬한다")
+    void facetCounts() {
+        RoaringBitmap prod = index.filter(FacetQuery.parse(List.of("env=prod"), null));
+        Map<String, Map<String, Integer>> counts = index.counts(prod, List.of("team", "@provider", "unknown"), 10);
+
+        assertThat(counts.get("team")).containsExactly(Map.entry("payments", 1), Map.entry("search", 1));
+        assertThat(counts.get("@provider")).containsExactly(Map.entry("gcp", 2), Map.entry("aws", 1));
+        assertThat(counts.get("unknown")).isEmpty();
+        assertThat(index.counts(prod, List.of("@provider"), 1).get("@provider")).containsOnlyKeys("gcp");
+    }
+
+    @Test
+    @DisplayName("페이지는 ordinal 순으로 offset부터 limit개를 돌려준다")
+    void paging() {
+        RoaringBitmap all = index.filter(FacetQuery.ALL);
+        assertThat(index.page(all, 2, 2)).extracting(ResourceFacetIndex.ResourceRef::id).containsExactly(20L, 21L);
+        assertThat(index.page(all, 4, 10)).extracting(ResourceFacetIndex.ResourceRef::id).containsExactly(22L);
+        assertThat(index.page(all, 5, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 키 조건은 거부한다")
+    void rejectsBlankKey() {
+        assertThatThrownBy(() -> FacetQuery.parse(List.of("=prod"), null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.budgetops.backend.inventory.paging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourcePageRequestTest {
+
+    private static final String SELECT = "SELECT id, resource_name FROM resources";
+
+    private EmbeddedDatabase database;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        jdbcTemplate.getJdbcTemplate().execute(
+                "CREATE TABLE resources (id BIGINT PRIMARY KEY, account_id BIGINT, resource_name VARCHAR(255))");
+        String[] names = {"web", "api", "db", "api", "cache", "web:2", "batch"};
+        for (int i = 0; i < names.length; i++) {
+            jdbcTemplate.getJdbcTemplate().update("INSERT INTO resources VALUES (?, ?, ?)", i + 1, i % 2 == 0 ? 1 : 2, names[i]);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private List<String> readAll(String sort, String direction, int limit, List<String> conditions) {
+        List<String> rows = new ArrayList<>();
+        String cursor = null;
+        do {
+            ResourcePageRequest request = ResourcePageRequest.of(sort, direction, cursor, limit);
+            ResourcePage<String> page = request.fetch(jdbcTemplate, SELECT, conditions,
+                    new MapSqlParameterSource("accountId", 1),
+                    (rs, rowNum) -> rs.getLong("id") + ":" + rs.getString("resource_name"));
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(limit);
+            rows.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("id 순 커서로 모든 행을 한 번씩 읽는다")
+    void pagesById() {
+        assertThat(readAll(null, null, 3, List.of()))
+                .containsExactly("1:web", "2:api", "3:db", "4:api", "5:cache", "6:web:2", "7:batch");
+        assertThat(readAll("id", "desc", 2, List.of("account_id = :accountId")))
+                .containsExactly("7:batch", "5:cache", "3:db", "1:web");
+    }
+
+    @Test
+    @DisplayName("이름 순 커서는 같은 이름을 id로 이어서 읽는다")
+    void pagesByName() {
+        assertThat(readAll("name", "asc", 1, List.of()))
+                .containsExactly("2:api", "4:api", "7:batch", "5:cache", "3:db", "1:web", "6:web:2");
+        assertThat(readAll("name", "desc", 1, List.of()))
+                .containsExactly("6:web:2", "1:web", "3:db", "5:cache", "7:batch", "4:api", "2:api");
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 nextCursor가 없다")
+    void lastPage() {
+        ResourcePage<Long> page = ResourcePageRequest.of(null, null, null, 7)
+                .fetch(jdbcTemplate, SELECT, List.of(), new MapSqlParameterSource(), (rs, rowNum) -> rs.getLong("id"));
+        assertThat(page.items()).hasSize(7);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 다른 커서와 잘못된 값은 거절한다")
+    void rejectsInvalidInput() {
+        String cursor = ResourcePageRequest.of("name", null, null, 1)
+                .fetch(jdbcTemplate, SELECT, List.of(), new MapSqlParameterSource(), (rs, rowNum) -> rs.getLong("id"))
+                .nextCursor();
+
+        assertThatThrownBy(() -> ResourcePageRequest.of("id", null, cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResourcePageRequest.of("name", "desc", cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResourcePageRequest.of(null, null, "not-a-cursor!", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResourcePageRequest.of("cost", null, null, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResourcePageRequest.of(null, "up", null, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ResourcePageRequest.of(null, null, null, 100_000).limit()).isEqualTo(ResourcePageRequest.MAX_LIMIT);
+    }
+}